@@ -0,0 +1,85 @@
+package com.healthcare.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Opt-in virtual-thread mode, threads.virtual.enabled=true on JDK 21 or later.
+ *
+ * Tomcat requests and the application task executor behind @Async each get a virtual thread,
+ * database access queues in ConnectionLimiter for one of the pool's connections, and pinned
+ * virtual threads are reported. On an older runtime the setting is logged and ignored.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("threads.virtual.enabled is set but Java {} has no virtual threads; keeping platform threads",
+                Runtime.version().feature());
+        }
+    }
+
+    @Configuration
+    @Conditional(OnVirtualThreads.class)
+    static class Enabled {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadRequestExecutor() {
+            return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor("http", 200));
+        }
+
+        @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+        public AsyncTaskExecutor applicationTaskExecutor() {
+            return new TaskExecutorAdapter(VirtualThreads.newPerTaskExecutor("task", 8));
+        }
+
+        @Bean(destroyMethod = "close")
+        public PinnedThreadMonitor pinnedThreadMonitor(MeterRegistry meterRegistry, Environment environment) {
+            return new PinnedThreadMonitor(meterRegistry,
+                Duration.ofMillis(environment.getProperty("threads.virtual.pinned-threshold-ms", Long.class, 20L)));
+        }
+
+        @Bean
+        public static BeanPostProcessor connectionLimiterPostProcessor(Environment environment) {
+            int fallbackMaxConnections = environment.getProperty("threads.virtual.max-connections", Integer.class, 10);
+            long waitMillis = environment.getProperty("threads.virtual.connection-wait-ms", Long.class, 30_000L);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimiter)) {
+                        ConnectionLimiter limiter = ConnectionLimiter.wrap(dataSource, fallbackMaxConnections, waitMillis);
+                        log.info("Data source {} limited to {} concurrent connections", beanName,
+                            limiter.getMaxConnections());
+                        return limiter;
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class OnVirtualThreads implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return VirtualThreads.isSupported();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.healthcare.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Smile, Jackson's binary JSON, for callers that ask for it with Accept: application/x-jackson-smile,
+ * as the other services' Feign clients do. It replaces the converter Spring MVC registers when Smile
+ * is on the class path, keeping its place after JSON so other callers still get JSON, but with the
+ * application's Jackson settings. Repeated property names and short strings are written once per
+ * message and referenced after that, which is most of a list response.
+ */
+@Configuration
+public class SmileConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+}
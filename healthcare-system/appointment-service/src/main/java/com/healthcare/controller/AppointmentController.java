@@ -1,14 +1,21 @@
 package com.healthcare.controller;
 
+import com.healthcare.metrics.QueryBudget;
 import com.healthcare.model.Appointment;
 import com.healthcare.service.AppointmentService;
+import com.healthcare.stream.SlotEventBroker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/appointments")
@@ -17,6 +24,9 @@ public class AppointmentController {
     @Autowired
     private AppointmentService appointmentService;
 
+    @Autowired
+    private SlotEventBroker slotEventBroker;
+
     @PostMapping
     public ResponseEntity<Appointment> createAppointment(@RequestBody Appointment appointment) {
         try {
@@ -40,6 +50,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/doctor/{doctorId}")
+    @QueryBudget(1)
     public ResponseEntity<List<Appointment>> getDoctorAppointments(
             @PathVariable Long doctorId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
@@ -51,18 +62,42 @@ public class AppointmentController {
     }
 
     @GetMapping("/patient/{patientId}")
+    @QueryBudget(1)
     public ResponseEntity<List<Appointment>> getPatientAppointments(@PathVariable Long patientId) {
         return ResponseEntity.ok(appointmentService.getPatientAppointments(patientId));
     }
 
     @GetMapping("/availability/check")
+    @QueryBudget(1)
     public ResponseEntity<Boolean> checkAvailability(
             @RequestParam Long doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTime) {
         return ResponseEntity.ok(appointmentService.isTimeSlotAvailable(doctorId, dateTime));
     }
 
+    /**
+     * Stream slot-taken and slot-freed events for a doctor, replacing polling of the slot endpoints.
+     * Answers 503 when the stream limits are reached; clients then fall back to polling.
+     */
+    @GetMapping(path = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(@RequestParam Long doctorId) {
+        SseEmitter emitter = slotEventBroker.subscribe(doctorId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build();
+        }
+        // Keeps nginx from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+    @GetMapping("/availability/stream/stats")
+    public ResponseEntity<Map<String, Long>> getStreamStats() {
+        return ResponseEntity.ok(slotEventBroker.stats());
+    }
+
     @GetMapping("/availability/slots")
+    @QueryBudget(1)
     public ResponseEntity<List<LocalDateTime>> getAvailableTimeSlots(
             @RequestParam Long doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
@@ -0,0 +1,33 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to a doctor's bookable slots, pushed to availability streams
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotEvent {
+
+    public enum Type {
+        SLOT_TAKEN,
+        SLOT_FREED
+    }
+
+    private Type type;
+    private Long doctorId;
+    private LocalDateTime slot;
+
+    public static SlotEvent taken(Long doctorId, LocalDateTime slot) {
+        return new SlotEvent(Type.SLOT_TAKEN, doctorId, slot);
+    }
+
+    public static SlotEvent freed(Long doctorId, LocalDateTime slot) {
+        return new SlotEvent(Type.SLOT_FREED, doctorId, slot);
+    }
+}
@@ -0,0 +1,79 @@
+package com.healthcare.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers around controller and service methods.
+ *
+ * healthcare.method{layer, class, method, exception} covers every @RestController and @Service
+ * method. Turned off with metrics.method-timers.enabled=false. Percentile histograms
+ * (metrics.histograms.enabled) are off by default since they multiply the number of series.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "metrics.method-timers.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsAspect {
+
+    private static final String NONE = "none";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.histograms.enabled:false}")
+    private boolean histograms;
+
+    // Timers of calls that returned normally, the common case, so they skip the registry lookup
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            Timer timer = exception.equals(NONE)
+                ? timers.computeIfAbsent(method, key -> timer(layer, joinPoint, NONE))
+                : timer(layer, joinPoint, exception);
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String layer, ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder("healthcare.method")
+            .tag("layer", layer)
+            .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+            .tag("method", joinPoint.getSignature().getName())
+            .tag("exception", exception)
+            .publishPercentileHistogram(histograms)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.healthcare.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Applies @QueryBudget to the statement count of the current request.
+ * In enforce mode, used by integration tests, the first statement over budget fails the request.
+ * In sample mode a fraction of requests is checked and QueryCountFilter logs any breach with its call site.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "metrics.query-counts.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetAspect {
+
+    private static final String ENFORCE = "enforce";
+    private static final String SAMPLE = "sample";
+
+    @Value("${metrics.query-budget.mode:sample}")
+    private String mode;
+
+    @Value("${metrics.query-budget.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Around("@annotation(budget)")
+    public Object apply(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+        if (ENFORCE.equalsIgnoreCase(mode)) {
+            QueryCounter.budget(budget.value(), true);
+        } else if (SAMPLE.equalsIgnoreCase(mode) && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            QueryCounter.budget(budget.value(), false);
+        }
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,46 @@
+package com.healthcare.metrics;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Raised at the first statement over a handler's query budget. Its stack trace is the call site
+ * that issued the statement, which is usually a lazy collection or association being walked.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int CALL_SITE_FRAMES = 3;
+
+    private final int budget;
+    private final String sql;
+
+    public QueryBudgetExceededException(int budget, String sql) {
+        super("Statement " + (budget + 1) + " exceeds query budget of " + budget + ": " + sql);
+        this.budget = budget;
+        this.sql = sql;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return Innermost application frames that led to the statement, outside this package
+     */
+    public String getCallSite() {
+        String callSite = Arrays.stream(getStackTrace())
+            .filter(frame -> frame.getClassName().startsWith("com.healthcare.")
+                && !frame.getClassName().startsWith(QueryBudgetExceededException.class.getPackageName())
+                && !frame.getClassName().contains("$$"))
+            .limit(CALL_SITE_FRAMES)
+            .map(StackTraceElement::toString)
+            .collect(Collectors.joining(" <- "));
+        return callSite.isEmpty() ? "unknown" : callSite;
+    }
+}
@@ -0,0 +1,105 @@
+package com.healthcare.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Installed as Hibernate's statement inspector; QueryCountFilter reads the count per request
+ * and QueryBudgetAspect applies a handler's budget to it.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<Tally> TALLY = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Tally tally = TALLY.get();
+        if (tally != null) {
+            tally.statement(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread; statements outside start/stop are not counted
+     */
+    public static void start() {
+        TALLY.set(new Tally());
+    }
+
+    /**
+     * @return Statements since start, or 0 if counting was not started
+     */
+    public static int current() {
+        Tally tally = TALLY.get();
+        return tally == null ? 0 : tally.count;
+    }
+
+    public static int stop() {
+        int count = current();
+        TALLY.remove();
+        return count;
+    }
+
+    /**
+     * Allow at most budget further statements on this thread until stop. Repeated statements are
+     * tracked from here on so a breach can name the likely N+1.
+     * @param budget Statements allowed
+     * @param enforce Throw at the first statement over budget instead of only recording it
+     */
+    public static void budget(int budget, boolean enforce) {
+        Tally tally = TALLY.get();
+        if (tally != null && tally.budget < 0) {
+            tally.budget = budget;
+            tally.limit = tally.count + budget;
+            tally.enforce = enforce;
+            tally.repeats = new HashMap<>();
+        }
+    }
+
+    /**
+     * @return First breach of the budget on this thread, or null
+     */
+    public static QueryBudgetExceededException breach() {
+        Tally tally = TALLY.get();
+        return tally == null ? null : tally.breach;
+    }
+
+    /**
+     * @return Statement run most often since the budget was applied, with its count, or null
+     */
+    public static Map.Entry<String, Integer> mostRepeated() {
+        Tally tally = TALLY.get();
+        if (tally == null || tally.repeats == null) {
+            return null;
+        }
+        return tally.repeats.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    private static final class Tally {
+        private int count;
+        private int budget = -1;
+        private int limit = Integer.MAX_VALUE;
+        private boolean enforce;
+        private Map<String, Integer> repeats;
+        private QueryBudgetExceededException breach;
+
+        private void statement(String sql) {
+            count++;
+            if (repeats != null) {
+                repeats.merge(sql, 1, Integer::sum);
+            }
+            if (count > limit && breach == null) {
+                breach = new QueryBudgetExceededException(budget, sql);
+                if (enforce) {
+                    throw breach;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.healthcare.metrics;
+
+import com.healthcare.stream.SlotEventBroker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the slot event stream: open connections, doctors watched, events published and
+ * streams closed because their queue overflowed
+ */
+@Component
+public class StreamMetrics implements MeterBinder {
+
+    @Autowired
+    private SlotEventBroker slotEventBroker;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("availability.stream.connections", slotEventBroker, SlotEventBroker::getConnectionCount)
+            .register(registry);
+        Gauge.builder("availability.stream.doctors", slotEventBroker, broker -> broker.stats().get("doctorsWatched"))
+            .register(registry);
+        FunctionCounter.builder("availability.stream.published", slotEventBroker,
+                broker -> broker.stats().get("published"))
+            .register(registry);
+        FunctionCounter.builder("availability.stream.overflowed", slotEventBroker,
+                broker -> broker.stats().get("overflowed"))
+            .register(registry);
+    }
+}
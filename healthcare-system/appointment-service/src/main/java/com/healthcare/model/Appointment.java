@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Appointment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointments_seq")
+    @SequenceGenerator(name = "appointments_seq", sequenceName = "appointments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "doctor_id", nullable = false)
@@ -24,6 +25,10 @@ public class Appointment {
     @Column(name = "patient_id", nullable = false)
     private Long patientId;
 
+    // Shard key; appointments without a hospital live on the default shard
+    @Column(name = "hospital_id")
+    private Long hospitalId;
+
     @Column(name = "appointment_date", nullable = false)
     private LocalDateTime appointmentDate;
 
@@ -0,0 +1,41 @@
+package com.healthcare.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Per-doctor booking locks, one row per doctor in doctor_booking_locks.
+ * Locking a doctor inside a transaction holds the row until commit, so bookings for that doctor
+ * on the same database take turns between checking the slot and inserting the appointment.
+ * Plain JDBC on the transaction's connection: a failed insert must not poison the JPA session.
+ */
+@Repository
+public class BookingLockRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lock the doctor's row until the current transaction ends, creating it on first use
+     * @param doctorId Doctor ID
+     */
+    public void lockDoctor(Long doctorId) {
+        if (touch(doctorId) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO doctor_booking_locks (doctor_id, locked_at) VALUES (?, CURRENT_TIMESTAMP)",
+                doctorId);
+        } catch (DuplicateKeyException e) {
+            // A concurrent booking created the row first; wait for its lock instead
+            touch(doctorId);
+        }
+    }
+
+    private int touch(Long doctorId) {
+        return jdbcTemplate.update("UPDATE doctor_booking_locks SET locked_at = CURRENT_TIMESTAMP WHERE doctor_id = ?",
+            doctorId);
+    }
+}
@@ -1,67 +1,124 @@
 package com.healthcare.service;
 
+import com.healthcare.dto.SlotEvent;
 import com.healthcare.model.Appointment;
 import com.healthcare.repository.AppointmentRepository;
+import com.healthcare.repository.BookingLockRepository;
+import com.healthcare.shard.ShardTemplate;
+import com.healthcare.stream.SlotEventBroker;
+import com.healthcare.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Appointments are stored on the shard of their hospital, those without one on the default
+ * shard. Lookups by doctor or patient ask every shard at once (ShardTemplate).
+ *
+ * A booking checks the slot on every shard, then checks it again on its own shard under the
+ * doctor's booking lock, in the transaction that inserts it. Concurrent bookings for a doctor
+ * on the same shard cannot both take a slot; two landing on different shards at the same
+ * moment (the doctor booked through two hospitals on different shards) are not serialized.
+ */
 @Service
 public class AppointmentService {
 
     @Autowired
     private AppointmentRepository appointmentRepository;
 
-    @Transactional
+    @Autowired
+    private SlotEventBroker slotEventBroker;
+
+    @Autowired
+    private BookingLockRepository bookingLockRepository;
+
+    @Autowired
+    private ShardTemplate shards;
+
     public Appointment createAppointment(Appointment appointment) {
-        // Validate time slot availability
+        // Validate time slot availability on every shard; repeated below under the lock for this shard
         if (!isTimeSlotAvailable(appointment.getDoctorId(), appointment.getAppointmentDate())) {
             throw new RuntimeException("Selected time slot is not available");
         }
         
         appointment.setStatus(Appointment.AppointmentStatus.PENDING);
-        return appointmentRepository.save(appointment);
+        return shards.onHospital(appointment.getHospitalId(), () -> {
+            bookingLockRepository.lockDoctor(appointment.getDoctorId());
+            LocalDateTime proposedTime = appointment.getAppointmentDate();
+            if (!isTimeSlotAvailable(appointmentRepository.findByDoctorIdAndAppointmentDateBetween(
+                    appointment.getDoctorId(), proposedTime.minusMinutes(30), proposedTime.plusMinutes(30)), proposedTime)) {
+                throw new RuntimeException("Selected time slot is not available");
+            }
+            Appointment saved = appointmentRepository.save(appointment);
+            SlotEvent taken = SlotEvent.taken(saved.getDoctorId(), saved.getAppointmentDate());
+            AfterCommit.run(() -> slotEventBroker.publish(taken));
+            return saved;
+        });
     }
 
-    @Transactional
     public Appointment updateAppointmentStatus(Long appointmentId, Appointment.AppointmentStatus status) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        String shard = shards.locate(() -> appointmentRepository.existsById(appointmentId))
             .orElseThrow(() -> new RuntimeException("Appointment not found"));
-            
-        // Validate status transition
-        if (appointment.getStatus() == Appointment.AppointmentStatus.CANCELLED) {
-            throw new RuntimeException("Cannot update cancelled appointment");
-        }
-        
-        appointment.setStatus(status);
-        return appointmentRepository.save(appointment);
+        return shards.onShard(shard, () -> {
+            Appointment appointment = appointmentRepository.findById(appointmentId)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+
+            // Validate status transition
+            if (appointment.getStatus() == Appointment.AppointmentStatus.CANCELLED) {
+                throw new RuntimeException("Cannot update cancelled appointment");
+            }
+
+            boolean wasBlocking = blocksSlot(appointment.getStatus());
+            appointment.setStatus(status);
+            Appointment saved = appointmentRepository.save(appointment);
+            if (wasBlocking != blocksSlot(status)) {
+                SlotEvent event = wasBlocking
+                    ? SlotEvent.freed(saved.getDoctorId(), saved.getAppointmentDate())
+                    : SlotEvent.taken(saved.getDoctorId(), saved.getAppointmentDate());
+                AfterCommit.run(() -> slotEventBroker.publish(event));
+            }
+            return saved;
+        });
     }
 
     public List<Appointment> getDoctorAppointments(Long doctorId) {
-        return appointmentRepository.findByDoctorId(doctorId);
+        return shards.gather(() -> appointmentRepository.findByDoctorId(doctorId));
     }
 
     public List<Appointment> getPatientAppointments(Long patientId) {
-        return appointmentRepository.findByPatientId(patientId);
+        return shards.gather(() -> appointmentRepository.findByPatientId(patientId));
     }
 
     public List<Appointment> getDoctorAppointmentsForDateRange(Long doctorId, LocalDateTime start, LocalDateTime end) {
-        return appointmentRepository.findByDoctorIdAndAppointmentDateBetween(doctorId, start, end);
+        return shards.gather(() -> appointmentRepository.findByDoctorIdAndAppointmentDateBetween(doctorId, start, end));
     }
 
     public boolean isTimeSlotAvailable(Long doctorId, LocalDateTime proposedTime) {
+        return isTimeSlotAvailable(getDoctorAppointmentsForDateRange(
+            doctorId, proposedTime.minusMinutes(30), proposedTime.plusMinutes(30)), proposedTime);
+    }
+
+    /**
+     * Whether an appointment in this status keeps its time slot from being booked again
+     */
+    private static boolean blocksSlot(Appointment.AppointmentStatus status) {
+        return status != Appointment.AppointmentStatus.CANCELLED;
+    }
+
+    /**
+     * @param appointments The doctor's appointments, covering at least the half hours around the proposed time
+     */
+    private static boolean isTimeSlotAvailable(List<Appointment> appointments, LocalDateTime proposedTime) {
         // Check 30 minutes before and after the proposed time
         LocalDateTime rangeStart = proposedTime.minusMinutes(30);
         LocalDateTime rangeEnd = proposedTime.plusMinutes(30);
-        
-        List<Appointment> existingAppointments = getDoctorAppointmentsForDateRange(doctorId, rangeStart, rangeEnd);
-        
+
         // Filter out cancelled appointments
-        return existingAppointments.stream()
-            .noneMatch(apt -> apt.getStatus() != Appointment.AppointmentStatus.CANCELLED);
+        return appointments.stream()
+            .filter(apt -> !apt.getAppointmentDate().isBefore(rangeStart) && !apt.getAppointmentDate().isAfter(rangeEnd))
+            .noneMatch(apt -> blocksSlot(apt.getStatus()));
     }
 
     public List<LocalDateTime> getAvailableTimeSlots(Long doctorId, LocalDateTime date) {
@@ -76,7 +133,8 @@ public class AppointmentService {
         LocalDateTime timeSlot = startOfDay.plusHours(9); // Start at 9 AM
         
         while (timeSlot.isBefore(startOfDay.plusHours(17))) { // Until 5 PM
-            if (isTimeSlotAvailable(doctorId, timeSlot)) {
+            // Checked against the day's appointments instead of a query, and a scatter-gather, per slot
+            if (isTimeSlotAvailable(dayAppointments, timeSlot)) {
                 availableSlots.add(timeSlot);
             }
             timeSlot = timeSlot.plusMinutes(30);
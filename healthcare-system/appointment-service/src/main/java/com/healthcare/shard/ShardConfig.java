@@ -0,0 +1,164 @@
+package com.healthcare.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opt-in sharding by hospital, sharding.enabled=true.
+ *
+ * spring.datasource is the primary database: shard "primary", ID block 0, and home of the
+ * shard directory. Further shards are sharding.shards.&lt;name&gt;.url/username/password with an
+ * id-block of their own; each gets a pool with the spring.datasource.hikari settings. Flyway
+ * migrates every shard, after which each shard's sequences are moved into its ID block. Like
+ * the other conditions, this one is fixed when the AOT artifacts are generated.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardConfig {
+
+    // Pooled sequences of the entities (V3 migration) and their allocationSize
+    private static final List<String> SEQUENCES = List.of("appointments_seq");
+    private static final int ID_ALLOCATION = 50;
+
+    @Data
+    static class ShardProperties {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private Long idBlock;
+    }
+
+    public ShardConfig(Environment environment) {
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("sharding.enabled=true needs spring.jpa.open-in-view=false: "
+                + "a persistence context spanning the request would mix entities of different shards");
+        }
+    }
+
+    @Bean(destroyMethod = "close")
+    public Shards shards(DataSourceProperties primary, Environment environment,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        List<Shards.Shard> shards = new ArrayList<>();
+        HikariDataSource primaryPool = primary.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        shards.add(new Shards.Shard(Shards.PRIMARY, configure(primaryPool, Shards.PRIMARY, binder, meterRegistry), 0));
+
+        Map<String, ShardProperties> configured = binder.bind("sharding.shards",
+            Bindable.mapOf(String.class, ShardProperties.class)).orElse(Map.of());
+        configured.forEach((name, properties) -> {
+            if (properties.getUrl() == null || properties.getIdBlock() == null || properties.getIdBlock() < 1) {
+                throw new IllegalStateException("sharding.shards." + name + " needs a url and an id-block of 1 or more");
+            }
+            HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+            shards.add(new Shards.Shard(name, configure(pool, name, binder, meterRegistry), properties.getIdBlock()));
+        });
+        return new Shards(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(Shards shards) {
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(Shards shards, Environment environment) {
+        return new ShardDirectory(shards,
+            environment.getProperty("sharding.default-shard", Shards.PRIMARY),
+            environment.getProperty("sharding.directory.refresh-ms", Long.class, 5_000L));
+    }
+
+    @Bean
+    public ShardMover shardMover(Shards shards, ShardDirectory shardDirectory) {
+        return new ShardMover(shards, shardDirectory);
+    }
+
+    @Bean
+    public ShardEndpoint shardEndpoint(Shards shards, ShardDirectory shardDirectory, ShardMover shardMover) {
+        return new ShardEndpoint(shards, shardDirectory, shardMover);
+    }
+
+    /**
+     * Migrate the primary database as configured, then every other shard with the same settings
+     */
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(Shards shards) {
+        return flyway -> {
+            flyway.migrate();
+            for (Shards.Shard shard : shards.all()) {
+                if (shard.name().equals(Shards.PRIMARY)) {
+                    continue;
+                }
+                Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(shard.dataSource())
+                    .load()
+                    .migrate();
+                reserveIdBlock(shard);
+            }
+        };
+    }
+
+    private static HikariDataSource configure(HikariDataSource pool, String name, Binder binder,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("shard-" + name);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return pool;
+    }
+
+    /**
+     * Move the shard's sequences up to its ID block. Sequences are only ever moved forward,
+     * since a running instance may hold a block of them in memory.
+     */
+    private static void reserveIdBlock(Shards.Shard shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shard.dataSource());
+        long first = shard.idBlock() * Shards.ID_BLOCK_SIZE + ID_ALLOCATION;
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        for (String sequence : SEQUENCES) {
+            if ("MySQL".equals(product)) {
+                // Hibernate's table for the sequence; see V3__pooled_id_sequences
+                jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", first, first);
+            } else {
+                Long next = jdbcTemplate.queryForObject(
+                    "SELECT base_value FROM information_schema.sequences WHERE sequence_name = ?",
+                    Long.class, sequence.toUpperCase());
+                if (next != null && next < first) {
+                    jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + first);
+                }
+            }
+        }
+        log.info("Shard {} hands out IDs from {}", shard.name(), first - ID_ALLOCATION + 1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.healthcare.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves a hospital's appointments to another shard.
+ *
+ * Rows are copied with their IDs in chunks, each chunk in one transaction on the target; then
+ * the directory is switched and the rows are deleted from where they came from. Appointments the
+ * target already holds are not copied again, so a move that stopped halfway is finished by
+ * running it again. Bookings and status changes for the hospital made while the move runs, and
+ * until other instances have reloaded the directory (sharding.directory.refresh-ms), can be
+ * lost: stop writes for the hospital first.
+ */
+@Slf4j
+public class ShardMover {
+
+    public record ShardMove(Long hospitalId, String target, Map<String, Integer> appointmentsMoved, int rowsCopied,
+                            long durationMillis) {
+    }
+
+    private static final String TABLE = "appointments";
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final Shards shards;
+    private final ShardDirectory directory;
+
+    public ShardMover(Shards shards, ShardDirectory directory) {
+        this.shards = shards;
+        this.directory = directory;
+    }
+
+    /**
+     * @param hospitalId Hospital to move; one without appointments is only assigned
+     * @param target Shard to move it to
+     */
+    public synchronized ShardMove move(Long hospitalId, String target) {
+        long start = System.currentTimeMillis();
+        JdbcTemplate to = new JdbcTemplate(shards.dataSource(target));
+        TransactionTemplate toTransaction = transaction(target);
+        Set<Long> present = new HashSet<>(to.queryForList(
+            "SELECT id FROM " + TABLE + " WHERE hospital_id = ?", Long.class, hospitalId));
+
+        Map<String, List<Long>> moved = new LinkedHashMap<>();
+        int rowsCopied = 0;
+        for (String source : shards.names()) {
+            if (source.equals(target)) {
+                continue;
+            }
+            JdbcTemplate from = new JdbcTemplate(shards.dataSource(source));
+            List<Long> ids = from.queryForList(
+                "SELECT id FROM " + TABLE + " WHERE hospital_id = ?", Long.class, hospitalId);
+            if (ids.isEmpty()) {
+                continue;
+            }
+            List<Long> missing = ids.stream().filter(id -> !present.contains(id)).collect(Collectors.toList());
+            for (List<Long> chunk : chunks(missing)) {
+                rowsCopied += toTransaction.execute(status -> copy(from, to, TABLE, "id", chunk));
+            }
+            moved.put(source, ids);
+            log.info("Hospital {}: {} appointments copied from shard {} to {}", hospitalId, missing.size(), source,
+                target);
+        }
+
+        directory.assign(hospitalId, target);
+
+        for (Map.Entry<String, List<Long>> entry : moved.entrySet()) {
+            JdbcTemplate from = new JdbcTemplate(shards.dataSource(entry.getKey()));
+            for (List<Long> chunk : chunks(entry.getValue())) {
+                from.update("DELETE FROM " + TABLE + " WHERE id IN (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+            }
+        }
+
+        Map<String, Integer> appointmentsMoved = new LinkedHashMap<>();
+        moved.forEach((source, ids) -> appointmentsMoved.put(source, ids.size()));
+        ShardMove result = new ShardMove(hospitalId, target, appointmentsMoved, rowsCopied,
+            System.currentTimeMillis() - start);
+        log.info("Hospital {} moved to shard {}: {}", hospitalId, target, result);
+        return result;
+    }
+
+    /**
+     * Copy the rows whose key column is one of the IDs, column for column
+     * @return Rows copied
+     */
+    private static int copy(JdbcTemplate from, JdbcTemplate to, String table, String keyColumn, List<Long> ids) {
+        List<String> columns = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        from.query("SELECT * FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders(ids.size()) + ")",
+            resultSet -> {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                if (columns.isEmpty()) {
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        columns.add(metaData.getColumnLabel(i));
+                    }
+                }
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                rows.add(row);
+            },
+            ids.toArray());
+        if (!rows.isEmpty()) {
+            to.batchUpdate("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders(columns.size()) + ")", rows);
+        }
+        return rows.size();
+    }
+
+    private TransactionTemplate transaction(String shard) {
+        return new TransactionTemplate(new DataSourceTransactionManager(shards.dataSource(shard)));
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
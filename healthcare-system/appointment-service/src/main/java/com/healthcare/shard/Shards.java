@@ -0,0 +1,76 @@
+package com.healthcare.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The configured shards, the primary database first, each with its own connection pool.
+ *
+ * Every shard hands out IDs from its own block: the sequences of shard block b start at
+ * b * ID_BLOCK_SIZE, so rows stay unique across shards and can be moved with their IDs.
+ * Hibernate keeps one pooled block per sequence in memory whichever shard it came from, so an
+ * ID's block says where it was drawn, not which shard holds the row.
+ */
+public class Shards implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    public static final long ID_BLOCK_SIZE = 1_000_000_000_000L;
+
+    public record Shard(String name, DataSource dataSource, long idBlock) {
+    }
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+
+    /**
+     * @param shards Shards in the order scatter-gather results are merged, the primary first
+     */
+    public Shards(List<Shard> shards) {
+        for (Shard shard : shards) {
+            if (this.shards.values().stream().anyMatch(other -> other.idBlock() == shard.idBlock())) {
+                throw new IllegalStateException("Shard " + shard.name() + " reuses ID block " + shard.idBlock());
+            }
+            if (this.shards.putIfAbsent(shard.name(), shard) != null) {
+                throw new IllegalStateException("Shard " + shard.name() + " is configured twice");
+            }
+        }
+        if (!this.shards.containsKey(PRIMARY)) {
+            throw new IllegalStateException("No " + PRIMARY + " shard");
+        }
+    }
+
+    public List<String> names() {
+        return List.copyOf(shards.keySet());
+    }
+
+    public Collection<Shard> all() {
+        return Collections.unmodifiableCollection(shards.values());
+    }
+
+    public Shard get(String name) {
+        Shard shard = shards.get(name);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unknown shard " + name + "; configured: " + shards.keySet());
+        }
+        return shard;
+    }
+
+    public DataSource dataSource(String name) {
+        return get(name).dataSource();
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards.values()) {
+            if (shard.dataSource() instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+}
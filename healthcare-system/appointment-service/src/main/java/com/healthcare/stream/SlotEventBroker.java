@@ -0,0 +1,241 @@
+package com.healthcare.stream;
+
+import com.healthcare.dto.SlotEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes slot-taken and slot-freed events over SSE to clients watching a doctor's schedule.
+ *
+ * Subscribers are registered per doctor, so a booking only touches the streams of that doctor.
+ * Publishing never writes to a socket: events are queued per subscriber and written by a small
+ * dispatch pool, one drain at a time per subscriber so events stay in order. A subscriber that
+ * falls a full queue behind is closed; its client reconnects and refetches the slots.
+ */
+@Slf4j
+@Component
+public class SlotEventBroker {
+
+    @Value("${availability.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${availability.stream.max-per-doctor:1000}")
+    private int maxPerDoctor;
+
+    @Value("${availability.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${availability.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${availability.stream.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    @Value("${availability.stream.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${availability.stream.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    private ExecutorService dispatcher;
+    private ScheduledExecutorService heartbeats;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger threads = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "slot-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Open a stream of slot events for one doctor
+     * @param doctorId Doctor whose schedule is watched
+     * @return Emitter to return from the controller, or null when a connection limit is reached
+     */
+    public SseEmitter subscribe(Long doctorId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(doctorId, new SseEmitter(timeoutMs));
+        AtomicBoolean admitted = new AtomicBoolean();
+        subscribers.compute(doctorId, (id, watching) -> {
+            Set<Subscriber> set = watching != null ? watching : ConcurrentHashMap.newKeySet();
+            if (set.size() < maxPerDoctor) {
+                set.add(subscriber);
+                admitted.set(true);
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!admitted.get()) {
+            connections.decrementAndGet();
+            return null;
+        }
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        // Sent straight away so proxies see the response start and the client learns the retry delay
+        subscriber.offer(new Outgoing(null, null, "connected"));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Queue an event for every stream watching the doctor; returns without waiting on any client
+     */
+    public void publish(SlotEvent event) {
+        Set<Subscriber> watching = subscribers.get(event.getDoctorId());
+        published.increment();
+        if (watching == null) {
+            return;
+        }
+        Outgoing outgoing = new Outgoing(sequence.incrementAndGet(), event.getType().name(), event);
+        watching.forEach(subscriber -> subscriber.offer(outgoing));
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * @return Events published and streams closed for falling behind, since startup
+     */
+    public Map<String, Long> stats() {
+        return Map.of(
+            "connections", (long) connections.get(),
+            "doctorsWatched", (long) subscribers.size(),
+            "published", published.sum(),
+            "overflowed", overflowed.sum());
+    }
+
+    private void heartbeat() {
+        Outgoing ping = new Outgoing(null, null, "ping");
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.doctorId, (id, watching) -> {
+            watching.remove(subscriber);
+            return watching.isEmpty() ? null : watching;
+        });
+    }
+
+    /**
+     * An event or, without a name, an SSE comment used for the greeting and heartbeats
+     */
+    private record Outgoing(Long id, String name, Object data) {
+    }
+
+    private final class Subscriber {
+
+        private final Long doctorId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long doctorId, SseEmitter emitter) {
+            this.doctorId = doctorId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Outgoing outgoing) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(outgoing)) {
+                overflowed.increment();
+                log.debug("Closing slot stream for doctor {}: client is {} events behind", doctorId, queueCapacity);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while (!closed.get() && (outgoing = queue.poll()) != null) {
+                    emitter.send(toEvent(outgoing));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container reports it through onError as well
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have seen the flag still set just before it was cleared
+            if (!closed.get() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(Outgoing outgoing) {
+            if (outgoing.name() == null) {
+                return SseEmitter.event().comment((String) outgoing.data()).reconnectTime(reconnectMs);
+            }
+            return SseEmitter.event()
+                .id(String.valueOf(outgoing.id()))
+                .name(outgoing.name())
+                .data(outgoing.data(), MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Schema as ddl-auto=update created it before migrations, in H2 syntax for tests and the load-test harness
+
+create table appointments (
+    id bigint generated by default as identity,
+    doctor_id bigint not null,
+    patient_id bigint not null,
+    appointment_date timestamp(6) not null,
+    status varchar(255) not null check (status in ('PENDING','CONFIRMED','CANCELLED','COMPLETED')),
+    notes varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
@@ -0,0 +1,7 @@
+-- Composite indexes for the booking and listing queries; see the query-plans module
+
+-- findByDoctorIdAndAppointmentDateBetween (slot checks and calendars), findByDoctorId
+create index idx_appointments_doctor_date on appointments (doctor_id, appointment_date);
+
+-- findByPatientIdAndStatus, findByPatientId
+create index idx_appointments_patient_status on appointments (patient_id, status);
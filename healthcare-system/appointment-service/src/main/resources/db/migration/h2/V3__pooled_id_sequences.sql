@@ -0,0 +1,6 @@
+-- IDs come from pooled sequences instead of the identity columns, so Hibernate can batch inserts.
+-- The increment matches allocationSize on the entities: each value fetched covers the 50 IDs
+-- up to and including it, so every sequence restarts one block past the rows already there.
+
+create sequence appointments_seq start with 50 increment by 50;
+alter sequence appointments_seq restart with (select coalesce(max(id), 0) + 50 from appointments);
@@ -0,0 +1,14 @@
+-- Hospital shard key and the shard directory; see com.healthcare.shard. Every shard runs every
+-- migration, but only the primary database's hospital_shards is read. Appointments without a
+-- hospital, and hospitals missing from the directory, stay on the default shard.
+
+alter table appointments add column hospital_id bigint;
+
+-- Shard moves select a hospital's appointments
+create index idx_appointments_hospital on appointments (hospital_id);
+
+create table hospital_shards (
+    hospital_id bigint not null,
+    shard varchar(64) not null,
+    primary key (hospital_id)
+);
@@ -0,0 +1,8 @@
+-- One row per doctor, locked by each booking between its slot check and its insert so two
+-- bookings for the same doctor cannot both pass the check; see BookingLockRepository
+
+create table doctor_booking_locks (
+    doctor_id bigint not null,
+    locked_at timestamp(6),
+    primary key (doctor_id)
+);
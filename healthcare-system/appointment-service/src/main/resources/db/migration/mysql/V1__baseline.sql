@@ -0,0 +1,13 @@
+-- Schema as ddl-auto=update created it before migrations; existing databases are baselined at V1
+
+create table appointments (
+    id bigint not null auto_increment,
+    doctor_id bigint not null,
+    patient_id bigint not null,
+    appointment_date datetime(6) not null,
+    status enum ('CANCELLED','COMPLETED','CONFIRMED','PENDING') not null,
+    notes varchar(255),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
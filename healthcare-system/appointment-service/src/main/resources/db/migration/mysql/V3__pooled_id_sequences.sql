@@ -0,0 +1,7 @@
+-- IDs come from pooled sequences instead of auto_increment, so Hibernate can batch inserts.
+-- MySQL has no sequences; Hibernate keeps each one as a single-row table and reads and advances
+-- next_val on a connection of its own. Each value fetched covers the 50 IDs up to and including
+-- it (allocationSize on the entities), so every table starts one block past the rows already there.
+
+create table appointments_seq (next_val bigint) engine=InnoDB;
+insert into appointments_seq select coalesce(max(id), 0) + 50 from appointments;
@@ -0,0 +1,73 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.model.Appointment;
+import com.healthcare.repository.AppointmentRepository;
+import com.healthcare.service.AppointmentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppointmentService slot checks against a doctor's booked appointments.
+ * The repository is an in-memory range index, so the numbers reflect the service's own
+ * work and query count rather than database latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentBenchmark {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+    private static final int DAYS = 60;
+
+    @Param({"0", "8", "16"})
+    private int appointmentsPerDay;
+
+    private AppointmentService appointmentService;
+    private LocalDateTime probe;
+
+    @Setup
+    public void setUp() {
+        NavigableMap<LocalDateTime, Appointment> booked = new TreeMap<>();
+        long id = 0;
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < appointmentsPerDay; i++) {
+                Appointment appointment = new Appointment();
+                appointment.setId(++id);
+                appointment.setDoctorId(1L);
+                appointment.setPatientId(id);
+                appointment.setAppointmentDate(DAY.plusDays(day).plusHours(9).plusMinutes(30L * i));
+                appointment.setStatus(i % 4 == 3
+                    ? Appointment.AppointmentStatus.CANCELLED
+                    : Appointment.AppointmentStatus.CONFIRMED);
+                booked.put(appointment.getAppointmentDate(), appointment);
+            }
+        }
+
+        appointmentService = new AppointmentService();
+        Fields.set(appointmentService, "shards", SingleShard.template());
+        Fields.set(appointmentService, "appointmentRepository", Repositories.stub(AppointmentRepository.class,
+            Map.of("findByDoctorIdAndAppointmentDateBetween", args ->
+                new ArrayList<>(booked.subMap((LocalDateTime) args[1], true, (LocalDateTime) args[2], true).values()))));
+        probe = DAY.plusDays(DAYS / 2).plusHours(13);
+    }
+
+    @Benchmark
+    public boolean isTimeSlotAvailable() {
+        return appointmentService.isTimeSlotAvailable(1L, probe);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> getAvailableTimeSlots() {
+        return appointmentService.getAvailableTimeSlots(1L, probe);
+    }
+}
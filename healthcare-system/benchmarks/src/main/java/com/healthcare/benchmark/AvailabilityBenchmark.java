@@ -0,0 +1,81 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.dto.AvailabilityDTO;
+import com.healthcare.model.Availability;
+import com.healthcare.model.Doctor;
+import com.healthcare.repository.AvailabilityRepository;
+import com.healthcare.service.AvailabilityService;
+import com.healthcare.shard.DoctorShards;
+import com.healthcare.shard.ShardTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AvailabilityService.getAvailableTimeSlots: slot generation from a doctor's weekly schedule.
+ * The working day (06:00-22:00) is split into entriesPerDay schedule entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Param({"1", "4", "16"})
+    private int entriesPerDay;
+
+    @Param({"10", "30"})
+    private int slotMinutes;
+
+    private AvailabilityService availabilityService;
+
+    @Setup
+    public void setUp() {
+        Doctor doctor = new Doctor();
+        doctor.setId(1L);
+        List<Availability> entries = new ArrayList<>();
+        int minutesPerEntry = 16 * 60 / entriesPerDay;
+        for (int i = 0; i < entriesPerDay; i++) {
+            LocalTime start = LocalTime.of(6, 0).plusMinutes((long) i * minutesPerEntry);
+            LocalTime end = start.plusMinutes(minutesPerEntry);
+            Availability availability = new Availability();
+            availability.setId((long) i);
+            availability.setDoctor(doctor);
+            availability.setDayOfWeek(DayOfWeek.MONDAY);
+            availability.setStartTime(start);
+            availability.setEndTime(end);
+            availability.setSlotDurationMinutes(slotMinutes);
+            availability.setIsActive(true);
+            LocalTime lunch = LocalTime.NOON;
+            if (!lunch.isBefore(start) && !lunch.plusMinutes(30).isAfter(end)) {
+                availability.setBreakStartTime(lunch);
+                availability.setBreakEndTime(lunch.plusMinutes(30));
+            }
+            entries.add(availability);
+        }
+
+        availabilityService = new AvailabilityService();
+        ShardTemplate shards = SingleShard.template();
+        DoctorShards doctorShards = new DoctorShards();
+        Fields.set(doctorShards, "shards", shards);
+        Fields.set(availabilityService, "shards", shards);
+        Fields.set(availabilityService, "doctorShards", doctorShards);
+        Fields.set(availabilityService, "availabilityRepository", Repositories.stub(AvailabilityRepository.class,
+            Map.of("findByDoctorIdAndDayOfWeekAndIsActiveTrue", args -> entries)));
+    }
+
+    @Benchmark
+    public List<AvailabilityDTO.TimeSlotResponse> getAvailableTimeSlots() {
+        return availabilityService.getAvailableTimeSlots(1L, MONDAY);
+    }
+}
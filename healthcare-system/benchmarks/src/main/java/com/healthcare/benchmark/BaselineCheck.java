@@ -0,0 +1,108 @@
+package com.healthcare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the stored baseline and fails on regressions.
+ *
+ * Each benchmark and parameter combination is checked on its primary score and, when the
+ * GC profiler ran, on gc.alloc.rate.norm (bytes per operation). Allocation is hardware
+ * independent and gets the tighter tolerance; times are only comparable to a baseline
+ * recorded on the same kind of machine.
+ *
+ * Usage: BaselineCheck result.json baseline.json timeTolerance allocTolerance [update]
+ */
+public final class BaselineCheck {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    // Allocation differences below this many bytes per operation are noise (e.g. a boxed long)
+    private static final double ALLOC_SLACK_BYTES = 32;
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double timeTolerance = Double.parseDouble(args[2]);
+        double allocTolerance = Double.parseDouble(args[3]);
+        boolean update = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        if (update) {
+            Files.copy(resultFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated from " + resultFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            throw new IllegalStateException("No baseline at " + baselineFile + "; record one with -Dbench.update=true");
+        }
+
+        List<String> regressions = compare(read(resultFile), read(baselineFile), timeTolerance, allocTolerance);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            throw new IllegalStateException(regressions.size() + " benchmark(s) regressed against " + baselineFile);
+        }
+        System.out.println("All benchmarks within tolerance of " + baselineFile);
+    }
+
+    static List<String> compare(Map<String, JsonNode> results, Map<String, JsonNode> baseline,
+                                double timeTolerance, double allocTolerance) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, result) -> {
+            JsonNode base = baseline.get(key);
+            if (base == null) {
+                System.out.println("NEW " + key + " (not in baseline)");
+                return;
+            }
+            double score = result.path("primaryMetric").path("score").asDouble();
+            double baseScore = base.path("primaryMetric").path("score").asDouble();
+            String unit = result.path("primaryMetric").path("scoreUnit").asText();
+            // Throughput modes report operations per time, where lower is worse
+            boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+            double change = higherIsBetter ? baseScore / score - 1 : score / baseScore - 1;
+            if (change > timeTolerance) {
+                regressions.add(String.format("%s: %.3f %s vs baseline %.3f (%+.0f%%)",
+                    key, score, unit, baseScore, change * 100));
+            }
+
+            JsonNode alloc = result.path("secondaryMetrics").path(ALLOC_NORM).path("score");
+            JsonNode baseAlloc = base.path("secondaryMetrics").path(ALLOC_NORM).path("score");
+            if (alloc.isNumber() && baseAlloc.isNumber()
+                    && alloc.asDouble() > baseAlloc.asDouble() * (1 + allocTolerance) + ALLOC_SLACK_BYTES) {
+                regressions.add(String.format("%s: allocates %.0f B/op vs baseline %.0f B/op",
+                    key, alloc.asDouble(), baseAlloc.asDouble()));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * @return Results keyed by benchmark name and parameters
+     */
+    static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> byKey = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            byKey.put(key(run), run);
+        }
+        return byKey;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText()
+            .replace("com.healthcare.benchmark.", ""));
+        Map<String, String> params = new TreeMap<>();
+        run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        return key.toString();
+    }
+}
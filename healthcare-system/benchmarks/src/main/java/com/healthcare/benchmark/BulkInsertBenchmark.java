@@ -0,0 +1,226 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.model.Availability;
+import com.healthcare.model.Doctor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bulk insert throughput: schedule entries persisted through Hibernate, ROWS per transaction,
+ * into H2 laid out by doctor-service's migrations. ids=identity maps the same table with the
+ * identity column the entities used before, under which Hibernate inserts row by row whatever
+ * the batch size; ids=sequence is Availability as mapped now, with the pooled sequence.
+ *
+ * Embedded H2 answers in-process, where a batch saves next to nothing, so roundTripMicros adds
+ * that long a wait to each statement executed (a batch is one) and each commit, standing in for
+ * the network between a service and MySQL; 0 shows the Hibernate side alone. Scores are rows
+ * per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkInsertBenchmark.ROWS)
+@State(Scope.Benchmark)
+// Hibernate's insert path takes a while to compile
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    static final int ROWS = 500;
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    @Param({"identity", "sequence"})
+    private String ids;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private EntityManagerFactory entityManagerFactory;
+    private Long doctorId;
+
+    /**
+     * Availability as it was mapped with GenerationType.IDENTITY, without the doctor association
+     */
+    @Entity(name = "IdentityAvailability")
+    @Table(name = "doctor_availability")
+    public static class IdentityAvailability {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "doctor_id", nullable = false)
+        private Long doctorId;
+
+        @Enumerated(EnumType.STRING)
+        private DayOfWeek dayOfWeek;
+
+        @Column(name = "start_time")
+        private LocalTime startTime;
+
+        @Column(name = "end_time")
+        private LocalTime endTime;
+
+        @Column(name = "slot_duration_minutes")
+        private Integer slotDurationMinutes;
+
+        @Column(name = "is_active")
+        private Boolean isActive;
+    }
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bulk-insert-" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration/doctor-service")
+            .load()
+            .migrate();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        properties.put("hibernate.jdbc.batch_size", batchSize);
+        properties.put("hibernate.order_inserts", true);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(withRoundTrips(dataSource, DataSource.class));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setManagedTypes(PersistenceManagedTypes.of(List.of(Doctor.class.getName(),
+            Availability.class.getName(), IdentityAvailability.class.getName()), List.of()));
+        factory.setJpaPropertyMap(properties);
+        factory.setPersistenceUnitName("bulk-insert");
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        Doctor doctor = new Doctor();
+        doctor.setFirstName("Ada");
+        doctor.setLastName("Lovelace");
+        doctor.setEmail("ada.lovelace@hospital.example");
+        doctor.setPassword("password");
+        doctor.setSpecialization("Cardiology");
+        inTransaction(entityManager -> entityManager.persist(doctor));
+        doctorId = doctor.getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearSchedules() {
+        inTransaction(entityManager -> entityManager.createNativeQuery("DELETE FROM doctor_availability")
+            .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public void insertSchedules() {
+        inTransaction(entityManager -> {
+            if ("identity".equals(ids)) {
+                for (int i = 0; i < ROWS; i++) {
+                    IdentityAvailability entry = new IdentityAvailability();
+                    entry.doctorId = doctorId;
+                    entry.dayOfWeek = DAYS[i % DAYS.length];
+                    entry.startTime = LocalTime.of(9, 0);
+                    entry.endTime = LocalTime.of(17, 0);
+                    entry.slotDurationMinutes = 30;
+                    entry.isActive = true;
+                    entityManager.persist(entry);
+                }
+            } else {
+                Doctor doctor = entityManager.getReference(Doctor.class, doctorId);
+                for (int i = 0; i < ROWS; i++) {
+                    Availability entry = new Availability();
+                    entry.setDoctor(doctor);
+                    entry.setDayOfWeek(DAYS[i % DAYS.length]);
+                    entry.setStartTime(LocalTime.of(9, 0));
+                    entry.setEndTime(LocalTime.of(17, 0));
+                    entry.setSlotDurationMinutes(30);
+                    entry.setIsActive(true);
+                    entityManager.persist(entry);
+                }
+            }
+        });
+    }
+
+    /**
+     * Proxy that waits before every execute and commit, and wraps the connections and statements
+     * it hands out the same way
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T withRoundTrips(T target, Class<T> type) {
+        if (roundTripMicros == 0) {
+            return target;
+        }
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            if (method.getName().startsWith("execute") || method.getName().equals("commit")) {
+                long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            Class<?> returned = method.getReturnType();
+            if (result != null && (returned == Connection.class || Statement.class.isAssignableFrom(returned))) {
+                return withRoundTrips(result, (Class<Object>) returned);
+            }
+            return result;
+        });
+        return type.cast(proxy);
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.dto.DoctorDTO;
+import com.healthcare.model.Doctor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DoctorDTO.fromEntity with a growing set of published time slots
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoctorMappingBenchmark {
+
+    @Param({"0", "32", "512"})
+    private int availableSlots;
+
+    private Doctor doctor;
+
+    @Setup
+    public void setUp() {
+        doctor = new Doctor();
+        doctor.setId(1L);
+        doctor.setFirstName("Ada");
+        doctor.setLastName("Lovelace");
+        doctor.setEmail("ada@hospital.example");
+        doctor.setSpecialization("Cardiology");
+        doctor.setLicenseNumber("LIC-0001");
+        doctor.setYearsOfExperience(12);
+        doctor.setPhoneNumber("+1-555-0100");
+        doctor.setAbout("Interventional cardiologist");
+        doctor.setConsultationFee(120.0);
+        doctor.setRating(4.7);
+        doctor.setVersion(3L);
+        doctor.addQualification("MD");
+        doctor.addQualification("FACC");
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        for (int i = 0; i < availableSlots; i++) {
+            doctor.addTimeSlot(start.plusMinutes(30L * i));
+        }
+    }
+
+    @Benchmark
+    public DoctorDTO fromEntity() {
+        return DoctorDTO.fromEntity(doctor);
+    }
+}
@@ -0,0 +1,62 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.index.GeoGridIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeoGridIndex k-nearest queries over hospitals clustered around a few metro areas plus a sparse
+ * rural spread. Queries alternate between a metro area and anywhere on the map; the target for
+ * 100k points is well under a millisecond per query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoGridIndexBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"10000", "100000"})
+    private int points;
+
+    @Param({"10"})
+    private int k;
+
+    private GeoGridIndex index;
+    private double[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new GeoGridIndex(0.1);
+        Random random = new Random(42);
+        for (int id = 0; id < points; id++) {
+            if (id % 10 == 0) {
+                index.put(id, -60 + random.nextDouble() * 130, -180 + random.nextDouble() * 360);
+            } else {
+                int metro = random.nextInt(5);
+                index.put(id, 10 + metro * 10 + random.nextGaussian() * 0.5,
+                    -120 + metro * 50 + random.nextGaussian() * 0.5);
+            }
+        }
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            int metro = i % 5;
+            queries[i] = i % 2 == 0
+                ? new double[] {10 + metro * 10 + random.nextGaussian(), -120 + metro * 50 + random.nextGaussian()}
+                : new double[] {-60 + random.nextDouble() * 130, -180 + random.nextDouble() * 360};
+        }
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> nearest() {
+        double[] query = queries[next++ & (QUERIES - 1)];
+        return index.nearest(query[0], query[1], k, id -> true);
+    }
+}
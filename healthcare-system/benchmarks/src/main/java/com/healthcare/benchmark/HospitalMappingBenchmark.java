@@ -0,0 +1,114 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.dto.DepartmentDTO;
+import com.healthcare.dto.HospitalDTO;
+import com.healthcare.model.Department;
+import com.healthcare.model.Hospital;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The explicit fromEntity conversions hospital-service runs for every hospital and department it
+ * returns, against the reflective ModelMapper conversions they replaced, for a single entity and
+ * for a page of results
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HospitalMappingBenchmark {
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ModelMapper modelMapper;
+    private List<Hospital> hospitals;
+    private List<Department> departments;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        hospitals = new ArrayList<>();
+        departments = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            Hospital hospital = new Hospital();
+            hospital.setId((long) i);
+            hospital.setVersion(1L);
+            hospital.setName("General Hospital " + i);
+            hospital.setAddress(i + " Main Street");
+            hospital.setLatitude(40.0 + i * 0.01);
+            hospital.setLongitude(-74.0 - i * 0.01);
+            hospital.setContactNumber("+1-555-01" + i);
+            hospital.setEmail("info" + i + "@hospital.example");
+            hospital.setDescription("Teaching hospital with a level I trauma center");
+            hospital.setLicenseNumber("H-" + i);
+            hospital.setNumberOfDepartments(12);
+            hospital.setNumberOfDoctors(240);
+            hospital.setNumberOfStaff(1800);
+            hospital.setFacilities("ICU, MRI, Pharmacy");
+            hospital.setSpecializations("Cardiology, Oncology, Pediatrics");
+            hospital.setOperatingHours("MON-FRI 08:00-20:00");
+            hospital.syncSpecializationTags();
+            hospitals.add(hospital);
+
+            Department department = new Department();
+            department.setId((long) i);
+            department.setVersion(1L);
+            department.setName("Cardiology");
+            department.setHospital(hospital);
+            department.setDescription("Adult and pediatric cardiology");
+            department.setHeadDoctor("Dr. Lovelace");
+            department.setNumberOfDoctors(20);
+            department.setNumberOfStaff(140);
+            department.setSpecializations("Cardiology");
+            department.setLocation("Building B");
+            department.syncSpecializationTags();
+            departments.add(department);
+        }
+        // Type maps are built on first use; keep that out of the measurement
+        modelMapper.map(hospitals.get(0), HospitalDTO.class);
+        modelMapper.map(departments.get(0), DepartmentDTO.class);
+    }
+
+    @Benchmark
+    public List<HospitalDTO> mapHospitals() {
+        List<HospitalDTO> mapped = new ArrayList<>(hospitals.size());
+        for (Hospital hospital : hospitals) {
+            mapped.add(modelMapper.map(hospital, HospitalDTO.class));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<DepartmentDTO> mapDepartments() {
+        List<DepartmentDTO> mapped = new ArrayList<>(departments.size());
+        for (Department department : departments) {
+            mapped.add(modelMapper.map(department, DepartmentDTO.class));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<HospitalDTO> convertHospitals() {
+        List<HospitalDTO> mapped = new ArrayList<>(hospitals.size());
+        for (Hospital hospital : hospitals) {
+            mapped.add(HospitalDTO.fromEntity(hospital));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<DepartmentDTO> convertDepartments() {
+        List<DepartmentDTO> mapped = new ArrayList<>(departments.size());
+        for (Department department : departments) {
+            mapped.add(DepartmentDTO.fromEntity(department));
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,50 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token checks in doctor-service. The authentication filter calls validateToken
+ * and then getUsername, parsing and verifying the same token twice.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"24", "256"})
+    private int subjectLength;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(null);
+        Fields.set(jwtTokenProvider, "secretKey", "secret-key-for-doctor-service-1234567890");
+        Fields.set(jwtTokenProvider, "validityInMilliseconds", 3_600_000L);
+        Fields.invoke(jwtTokenProvider, "init");
+        String domain = "@hospital.example";
+        token = jwtTokenProvider.createToken("d".repeat(Math.max(1, subjectLength - domain.length())) + domain);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(token);
+    }
+
+    @Benchmark
+    public String validateThenGetUsername() {
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUsername(token) : null;
+    }
+}
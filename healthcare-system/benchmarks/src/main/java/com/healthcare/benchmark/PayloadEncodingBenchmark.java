@@ -0,0 +1,162 @@
+package com.healthcare.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.healthcare.dto.DoctorDTO;
+import com.healthcare.dto.DoctorSummaryDTO;
+import com.healthcare.dto.HospitalDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding one inter-service response as JSON or Smile, with and without gzip, set up
+ * as the services do (SmileConfig). Payloads: a doctor with two weeks of half-hour slots, a batch of
+ * 100 doctor summaries as patient-service resolves them, and 50 hospitals. The encoded size of
+ * each combination is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+
+    @Param({"doctor", "summaries", "hospitals"})
+    private String payload;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = "smile".equals(format)
+            ? Jackson2ObjectMapperBuilder.json()
+                .factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build())
+                .build()
+            : Jackson2ObjectMapperBuilder.json().build();
+        switch (payload) {
+            case "doctor" -> {
+                value = doctor();
+                type = mapper.constructType(DoctorDTO.class);
+            }
+            case "summaries" -> {
+                value = summaries();
+                type = mapper.getTypeFactory().constructCollectionType(List.class, DoctorSummaryDTO.class);
+            }
+            case "hospitals" -> {
+                value = hospitals();
+                type = mapper.getTypeFactory().constructCollectionType(List.class, HospitalDTO.class);
+            }
+            default -> throw new IllegalArgumentException(payload);
+        }
+        encoded = encode();
+        System.out.printf("%n%s as %s%s: %d bytes%n", payload, format, gzip ? "+gzip" : "", encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            mapper.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        try (InputStream in = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+                : new ByteArrayInputStream(encoded)) {
+            return mapper.readValue(in, type);
+        }
+    }
+
+    private static DoctorDTO doctor() {
+        Set<LocalDateTime> slots = new HashSet<>();
+        LocalDateTime day = LocalDateTime.of(2030, 1, 7, 8, 0);
+        for (int d = 0; d < 14; d++) {
+            for (int s = 0; s < 18; s++) {
+                slots.add(day.plusDays(d).plusMinutes(30L * s));
+            }
+        }
+        return DoctorDTO.builder()
+            .id(42L)
+            .firstName("Ada")
+            .lastName("Lovelace")
+            .email("ada.lovelace@hospital.example")
+            .specialization("Cardiology")
+            .licenseNumber("MD-004242")
+            .yearsOfExperience(12)
+            .phoneNumber("+1-555-0142")
+            .qualifications(Set.of("MBBS", "MD Cardiology"))
+            .availableSlots(slots)
+            .about("Interventional cardiologist")
+            .consultationFee(150.0)
+            .isAvailable(true)
+            .rating(4.8)
+            .totalPatients(1200)
+            .version(7L)
+            .build();
+    }
+
+    private static List<DoctorSummaryDTO> summaries() {
+        String[] specializations = {"Cardiology", "Dermatology", "Neurology", "Oncology", "Pediatrics"};
+        List<DoctorSummaryDTO> summaries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            summaries.add(new DoctorSummaryDTO((long) i, "First" + i, "Last" + i,
+                specializations[i % specializations.length], 3.5 + (i % 15) / 10.0, i % 3 != 0));
+        }
+        return summaries;
+    }
+
+    private static List<HospitalDTO> hospitals() {
+        List<HospitalDTO> hospitals = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            HospitalDTO hospital = new HospitalDTO();
+            hospital.setId((long) i);
+            hospital.setName("General Hospital " + i);
+            hospital.setAddress(i + " Main Street");
+            hospital.setLatitude(40.0 + i * 0.01);
+            hospital.setLongitude(-74.0 - i * 0.01);
+            hospital.setContactNumber("+1-555-01" + i);
+            hospital.setEmail("info" + i + "@hospital.example");
+            hospital.setDescription("Teaching hospital with a level I trauma center");
+            hospital.setLicenseNumber("H-" + i);
+            hospital.setNumberOfDepartments(12);
+            hospital.setNumberOfDoctors(240);
+            hospital.setNumberOfStaff(1800);
+            hospital.setFacilities("ICU, MRI, Pharmacy");
+            hospital.setSpecializations("Cardiology, Oncology, Pediatrics");
+            hospital.setOperatingHours("MON-FRI 08:00-20:00");
+            hospital.setIsActive(true);
+            hospital.setVersion(1L);
+            hospitals.add(hospital);
+        }
+        return hospitals;
+    }
+}
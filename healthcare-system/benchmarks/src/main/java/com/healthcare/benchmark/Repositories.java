@@ -0,0 +1,40 @@
+package com.healthcare.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories. Only the query methods a benchmark
+ * names are implemented, so the measured code runs without a database or JPA.
+ */
+final class Repositories {
+
+    private Repositories() {
+    }
+
+    /**
+     * @param type Repository interface
+     * @param queries Implementations by method name, given the call's arguments
+     * @return Proxy that fails on any method not listed
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> queries) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            Function<Object[], Object> query = queries.get(method.getName());
+            if (query != null) {
+                return query.apply(args);
+            }
+            switch (method.getName()) {
+                case "toString":
+                    return "InMemory" + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        });
+        return type.cast(proxy);
+    }
+}
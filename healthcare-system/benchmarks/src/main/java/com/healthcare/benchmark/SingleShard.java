@@ -0,0 +1,41 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.shard.ShardDirectory;
+import com.healthcare.shard.ShardTemplate;
+import com.healthcare.shard.Shards;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * ShardTemplate as the services run it with sharding off: one shard, work on the calling
+ * thread. Transactions are no-ops, since the repositories are in-memory stubs.
+ */
+final class SingleShard {
+
+    private SingleShard() {
+    }
+
+    static ShardTemplate template() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        ShardTemplate template = new ShardTemplate(beans.getBeanProvider(Shards.class),
+            beans.getBeanProvider(ShardDirectory.class), new PlatformTransactionManager() {
+                @Override
+                public TransactionStatus getTransaction(TransactionDefinition definition) {
+                    return new SimpleTransactionStatus();
+                }
+
+                @Override
+                public void commit(TransactionStatus status) {
+                }
+
+                @Override
+                public void rollback(TransactionStatus status) {
+                }
+            });
+        Fields.invoke(template, "init");
+        return template;
+    }
+}
@@ -0,0 +1,37 @@
+package com.healthcare.benchmark;
+
+import com.healthcare.dto.TimeSlotDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeSlotDTO.generateTimeSlots for a day, a working week and a full week of 15-minute slots
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotBenchmark {
+
+    private static final int SLOT_MINUTES = 15;
+
+    @Param({"32", "160", "672"})
+    private int slots;
+
+    private TimeSlotDTO timeSlot;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 8, 0);
+        timeSlot = new TimeSlotDTO(start, start.plusMinutes((long) slots * SLOT_MINUTES), SLOT_MINUTES);
+    }
+
+    @Benchmark
+    public LocalDateTime[] generateTimeSlots() {
+        return timeSlot.generateTimeSlots();
+    }
+}
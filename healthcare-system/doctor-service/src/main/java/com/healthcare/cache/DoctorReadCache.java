@@ -0,0 +1,70 @@
+package com.healthcare.cache;
+
+import com.healthcare.dto.DoctorDTO;
+import com.healthcare.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Coalesced micro-cache for single-doctor reads (by ID and profile).
+ * Writes invalidate after commit; the TTL bounds staleness across instances.
+ * Also keeps each doctor's hospital, which never changes, for routing to the doctor's shard.
+ */
+@Component
+public class DoctorReadCache {
+
+    @Value("${doctor.read-cache.ttl-ms:1000}")
+    private long ttlMs;
+
+    @Value("${doctor.read-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${doctor.read-cache.hospital-ttl-ms:600000}")
+    private long hospitalTtlMs;
+
+    private SingleFlightCache<Long, DoctorDTO> doctors;
+    private SingleFlightCache<Long, Long> hospitals;
+
+    @PostConstruct
+    protected void init() {
+        doctors = new SingleFlightCache<>("doctors", maxEntries, ttlMs);
+        hospitals = new SingleFlightCache<>("doctor-hospitals", maxEntries, hospitalTtlMs);
+    }
+
+    public DoctorDTO get(Long doctorId, Function<Long, DoctorDTO> loader) {
+        return doctors.get(doctorId, loader);
+    }
+
+    public DoctorDTO peek(Long doctorId) {
+        return doctors.peek(doctorId);
+    }
+
+    /**
+     * @param loader Loader returning null for a doctor that does not exist or has no hospital; not cached
+     * @return The doctor's hospital ID, or null
+     */
+    public Long hospitalOf(Long doctorId, Function<Long, Long> loader) {
+        return hospitals.get(doctorId, loader);
+    }
+
+    /**
+     * Forget a deleted doctor's hospital once the current transaction commits
+     */
+    public void evictHospital(Long doctorId) {
+        AfterCommit.run(() -> hospitals.invalidate(doctorId));
+    }
+
+    /**
+     * Invalidate once the current transaction commits
+     */
+    public void invalidate(Long doctorId) {
+        AfterCommit.run(() -> doctors.invalidate(doctorId));
+    }
+
+    public SingleFlightCache.CacheStats stats() {
+        return doctors.stats();
+    }
+}
@@ -0,0 +1,161 @@
+package com.healthcare.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through micro-cache with request coalescing (single-flight).
+ *
+ * Concurrent misses for the same key share one in-flight load and its result, so a burst of
+ * reads for a hot key costs one database round trip. Results are kept for a short TTL.
+ * Every key carries a version bumped by invalidate(); a load that started before an
+ * invalidation is handed to the callers already waiting on it but never stored, and new
+ * callers after the invalidation start a fresh load.
+ * @param <K> Key type
+ * @param <V> Value type, treated as read-only once cached
+ */
+public class SingleFlightCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Long> versions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SingleFlightCache(String name, int maxEntries, long ttlMillis) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    /**
+     * Return the cached value, join a load already in flight, or load it
+     * @param key Cache key
+     * @param loader Loader invoked by one caller per key at a time; exceptions reach every
+     *               caller sharing the load and nothing is cached
+     * @return Cached, shared or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.value;
+        }
+        Flight<V> mine = new Flight<>(versions.getOrDefault(key, 0L));
+        Flight<V> leader = flights.putIfAbsent(key, mine);
+        if (leader != null) {
+            collapsed.increment();
+            return leader.await();
+        }
+        loads.increment();
+        try {
+            V value = loader.apply(key);
+            if (value != null) {
+                store(key, value, mine.version);
+            }
+            mine.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, mine);
+        }
+    }
+
+    /**
+     * @return The cached value if present and fresh, without loading or joining a load
+     */
+    public V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * Drop the cached value and detach any load in flight, so the next read sees the latest write
+     */
+    public void invalidate(K key) {
+        versions.merge(key, 1L, Long::sum);
+        entries.remove(key);
+        flights.remove(key);
+        invalidations.increment();
+    }
+
+    public void clear() {
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, entries.size(), hits.sum(), loads.sum(), collapsed.sum(),
+            staleLoads.sum(), invalidations.sum());
+    }
+
+    private void store(K key, V value, long loadedVersion) {
+        if (versions.getOrDefault(key, 0L) != loadedVersion) {
+            staleLoads.increment();
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(cached -> cached.expiresAt - now <= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+        entries.put(key, entry);
+        // An invalidation between the check and the put must still win
+        if (versions.getOrDefault(key, 0L) != loadedVersion) {
+            entries.remove(key, entry);
+            staleLoads.increment();
+        }
+    }
+
+    /**
+     * Counters since startup
+     * @param collapsed Reads that shared another caller's load instead of querying themselves
+     * @param staleLoads Loads discarded because the key was invalidated while they ran
+     */
+    public record CacheStats(String name, int entries, long hits, long loads, long collapsed,
+                             long staleLoads, long invalidations) {
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Flight<V> {
+        private final long version;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Flight(long version) {
+            this.version = version;
+        }
+
+        private V await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.healthcare.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Training run for the class-data-sharing archive built by the aot-cds profile.
+ *
+ * With startup.training-run=true the service sends one request to each of
+ * startup.training-paths once it is ready, so the classes of the request path are loaded too,
+ * and then exits; the JVM writes the archive on exit. The switch is read at runtime rather than
+ * through a condition because conditions are fixed when the AOT artifacts are generated.
+ */
+@Slf4j
+@Component
+public class TrainingRun {
+
+    @Value("${startup.training-run:false}")
+    private boolean enabled;
+
+    @Value("${startup.training-paths:/actuator/health,/actuator/prometheus,/api/doctors}")
+    private List<String> paths;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : paths) {
+            try {
+                HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+                log.info("Training request {} answered {}", path, response.statusCode());
+            } catch (Exception e) {
+                log.warn("Training request {} failed: {}", path, e.getMessage());
+            }
+        }
+        log.info("Training run complete, exiting");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
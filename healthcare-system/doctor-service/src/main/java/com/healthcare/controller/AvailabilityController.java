@@ -1,12 +1,16 @@
 package com.healthcare.controller;
 
 import com.healthcare.dto.AvailabilityDTO;
+import com.healthcare.metrics.QueryBudget;
 import com.healthcare.service.AvailabilityService;
+import com.healthcare.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.time.DayOfWeek;
@@ -36,18 +40,26 @@ public class AvailabilityController {
     }
 
     @GetMapping("/doctor/{doctorId}/slots")
+    @QueryBudget(3)
     public ResponseEntity<List<AvailabilityDTO.TimeSlotResponse>> getAvailableTimeSlots(
             @PathVariable Long doctorId,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(availabilityService.getAvailableTimeSlots(doctorId, date));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        String etag = availabilityService.getTimeSlotsETag(doctorId, date);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(availabilityService.getAvailableTimeSlots(doctorId, date));
     }
 
     @GetMapping("/doctor/{doctorId}/days")
+    @QueryBudget(1)
     public ResponseEntity<List<DayOfWeek>> getAvailableDays(@PathVariable Long doctorId) {
         return ResponseEntity.ok(availabilityService.getAvailableDays(doctorId));
     }
 
     @GetMapping("/check")
+    @QueryBudget(2)
     public ResponseEntity<Boolean> checkAvailability(
             @RequestParam Long doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTime) {
@@ -58,8 +70,11 @@ public class AvailabilityController {
     @PreAuthorize("hasRole('DOCTOR')")
     public ResponseEntity<AvailabilityDTO> updateAvailability(
             @PathVariable Long id,
-            @Valid @RequestBody AvailabilityDTO availabilityDTO) {
-        return ResponseEntity.ok(availabilityService.updateAvailability(id, availabilityDTO));
+            @Valid @RequestBody AvailabilityDTO availabilityDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AvailabilityDTO updated = availabilityService.updateAvailability(
+            id, availabilityDTO, ETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(ETags.of(id, updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -1,8 +1,15 @@
 package com.healthcare.controller;
 
+import com.healthcare.cache.DoctorReadCache;
+import com.healthcare.cache.SingleFlightCache;
 import com.healthcare.dto.DoctorDTO;
+import com.healthcare.dto.DoctorSummaryDTO;
+import com.healthcare.dto.ImportReport;
 import com.healthcare.dto.ProfileUpdateRequest;
+import com.healthcare.metrics.QueryBudget;
+import com.healthcare.service.DoctorImportService;
 import com.healthcare.service.DoctorService;
+import com.healthcare.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,11 +19,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -29,7 +40,14 @@ public class DoctorController {
     @Autowired
     private DoctorService doctorService;
 
+    @Autowired
+    private DoctorImportService doctorImportService;
+
+    @Autowired
+    private DoctorReadCache doctorReadCache;
+
     @GetMapping
+    @QueryBudget(3)
     @Operation(
         summary = "Get all doctors",
         description = "Retrieve a list of all registered doctors",
@@ -46,6 +64,7 @@ public class DoctorController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(2)
     @Operation(
         summary = "Get doctor by ID",
         description = "Retrieve a specific doctor's information by their ID",
@@ -63,35 +82,69 @@ public class DoctorController {
     )
     public ResponseEntity<DoctorDTO> getDoctorById(
         @Parameter(description = "ID of the doctor", required = true)
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest request
+    ) {
+        if (isNotModified(id, request)) {
+            return null;
+        }
+        DoctorDTO doctor = doctorService.getDoctorById(id);
+        return ResponseEntity.ok().eTag(ETags.of(id, doctor.getVersion())).body(doctor);
+    }
+
+    @GetMapping("/batch")
+    @QueryBudget(1)
+    @Operation(
+        summary = "Get doctor summaries in bulk",
+        description = "Resolve up to 200 doctors by ID in one call; unknown IDs are omitted",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Summaries in request order",
+                content = @Content(schema = @Schema(implementation = DoctorSummaryDTO.class))
+            )
+        }
+    )
+    public ResponseEntity<List<DoctorSummaryDTO>> getDoctorSummaries(
+        @Parameter(description = "Comma-separated doctor IDs", required = true)
+        @RequestParam List<Long> ids
     ) {
-        return ResponseEntity.ok(doctorService.getDoctorById(id));
+        return ResponseEntity.ok(doctorService.getDoctorSummaries(ids));
     }
 
     @GetMapping("/{id}/profile")
+    @QueryBudget(2)
     @Operation(
         summary = "Get doctor's profile",
         description = "Retrieve detailed profile information for a specific doctor"
     )
     public ResponseEntity<DoctorDTO> getDoctorProfile(
         @Parameter(description = "ID of the doctor", required = true)
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest request
     ) {
-        return ResponseEntity.ok(doctorService.getDoctorProfile(id));
+        if (isNotModified(id, request)) {
+            return null;
+        }
+        DoctorDTO doctor = doctorService.getDoctorProfile(id);
+        return ResponseEntity.ok().eTag(ETags.of(id, doctor.getVersion())).body(doctor);
     }
 
     @PutMapping("/{id}/profile")
     @PreAuthorize("hasRole('DOCTOR') and @securityService.isCurrentUser(#id)")
     @Operation(
         summary = "Update doctor's profile",
-        description = "Update profile information for the authenticated doctor"
+        description = "Update profile information for the authenticated doctor; "
+            + "with If-Match, answers 412 if the profile changed since that ETag was read"
     )
     public ResponseEntity<DoctorDTO> updateProfile(
         @Parameter(description = "ID of the doctor", required = true)
         @PathVariable Long id,
-        @Valid @RequestBody ProfileUpdateRequest request
+        @Valid @RequestBody ProfileUpdateRequest request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(doctorService.updateProfile(id, request));
+        DoctorDTO doctor = doctorService.updateProfile(id, request, ETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(ETags.of(id, doctor.getVersion())).body(doctor);
     }
 
     @PostMapping("/{id}/profile-image")
@@ -123,6 +176,7 @@ public class DoctorController {
     }
 
     @GetMapping("/specializations")
+    @QueryBudget(1)
     @Operation(
         summary = "Get all specializations",
         description = "Retrieve a list of all available doctor specializations"
@@ -132,6 +186,7 @@ public class DoctorController {
     }
 
     @GetMapping("/search")
+    @QueryBudget(3)
     @Operation(
         summary = "Search doctors",
         description = "Search for doctors based on various criteria"
@@ -146,4 +201,37 @@ public class DoctorController {
     ) {
         return ResponseEntity.ok(doctorService.searchDoctors(specialization, name, rating));
     }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Bulk import doctors",
+        description = "Stream-import doctors from a CSV file; returns imported counts and rejected rows"
+    )
+    public ResponseEntity<ImportReport> importDoctors(
+        @Parameter(description = "CSV file with a header row", required = true)
+        @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(doctorImportService.importDoctors(input));
+        }
+    }
+
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Doctor read cache statistics",
+        description = "Hits, loads and reads collapsed into another caller's load since startup"
+    )
+    public ResponseEntity<SingleFlightCache.CacheStats> getReadCacheStats() {
+        return ResponseEntity.ok(doctorReadCache.stats());
+    }
+
+    /**
+     * Answer If-None-Match from the doctor's version alone, before the profile is loaded or serialized
+     */
+    private boolean isNotModified(Long id, WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            && request.checkNotModified(ETags.of(id, doctorService.getDoctorVersion(id)));
+    }
 }
@@ -40,6 +40,8 @@ public class AvailabilityDTO {
     @JsonFormat(pattern = "HH:mm")
     private LocalTime breakEndTime;
 
+    private Long version;
+
     // Request DTO for bulk schedule creation
     @Data
     @NoArgsConstructor
@@ -1,5 +1,8 @@
 package com.healthcare.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.healthcare.util.EpochMinuteSlots;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -45,8 +48,14 @@ public class DoctorDTO {
     
     private String phoneNumber;
     
+    // Decides the shard the doctor is stored on; fixed at registration
+    private Long hospitalId;
+    
     private Set<String> qualifications;
     
+    // Epoch-minute deltas in Smile, ISO strings in JSON
+    @JsonSerialize(using = EpochMinuteSlots.Serializer.class)
+    @JsonDeserialize(using = EpochMinuteSlots.Deserializer.class)
     private Set<LocalDateTime> availableSlots;
     
     private String about;
@@ -59,6 +68,9 @@ public class DoctorDTO {
     private Double rating;
     
     private Integer totalPatients;
+    
+    // Read-only; sent back as the ETag, never applied from requests
+    private Long version;
 
     /**
      * Convert Doctor entity to DoctorDTO
@@ -75,6 +87,7 @@ public class DoctorDTO {
                 .licenseNumber(doctor.getLicenseNumber())
                 .yearsOfExperience(doctor.getYearsOfExperience())
                 .phoneNumber(doctor.getPhoneNumber())
+                .hospitalId(doctor.getHospitalId())
                 .qualifications(doctor.getQualifications())
                 .availableSlots(doctor.getAvailableSlots())
                 .about(doctor.getAbout())
@@ -82,6 +95,7 @@ public class DoctorDTO {
                 .isAvailable(doctor.isAvailable())
                 .rating(doctor.getRating())
                 .totalPatients(doctor.getTotalPatients())
+                .version(doctor.getVersion())
                 .build();
     }
 
@@ -102,6 +116,7 @@ public class DoctorDTO {
         doctor.setLicenseNumber(this.licenseNumber);
         doctor.setYearsOfExperience(this.yearsOfExperience);
         doctor.setPhoneNumber(this.phoneNumber);
+        doctor.setHospitalId(this.hospitalId);
         doctor.setQualifications(this.qualifications);
         doctor.setAvailableSlots(this.availableSlots);
         doctor.setAbout(this.about);
@@ -0,0 +1,27 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight doctor view for other services resolving doctor names in bulk
+ * Populated directly by a JPQL constructor projection, without loading the entity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSummaryDTO {
+
+    private Long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String specialization;
+
+    private Double rating;
+
+    private boolean available;
+}
@@ -0,0 +1,40 @@
+package com.healthcare.metrics;
+
+import com.healthcare.cache.DoctorReadCache;
+import com.healthcare.cache.SingleFlightCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the doctor read cache counters, read from its stats at scrape time
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    @Autowired
+    private DoctorReadCache doctorReadCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.size", doctorReadCache, cache -> cache.stats().entries())
+            .tag("cache", "doctors")
+            .register(registry);
+        counter(registry, "cache.hits", SingleFlightCache.CacheStats::hits);
+        counter(registry, "cache.loads", SingleFlightCache.CacheStats::loads);
+        counter(registry, "cache.collapsed", SingleFlightCache.CacheStats::collapsed);
+        counter(registry, "cache.stale.loads", SingleFlightCache.CacheStats::staleLoads);
+        counter(registry, "cache.invalidations", SingleFlightCache.CacheStats::invalidations);
+    }
+
+    private void counter(MeterRegistry registry, String name, ToDoubleFunction<SingleFlightCache.CacheStats> value) {
+        FunctionCounter.builder(name, doctorReadCache, cache -> value.applyAsDouble(cache.stats()))
+            .tag("cache", "doctors")
+            .register(registry);
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -16,9 +17,16 @@ import java.time.LocalTime;
 public class Availability {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "doctor_availability_seq")
+    @SequenceGenerator(name = "doctor_availability_seq", sequenceName = "doctor_availability_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic-lock version; the ETag of a schedule entry
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "doctor_id", nullable = false)
     private Doctor doctor;
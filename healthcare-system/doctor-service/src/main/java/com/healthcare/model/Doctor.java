@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -23,9 +24,16 @@ import java.util.Set;
 public class Doctor {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "doctors_seq")
+    @SequenceGenerator(name = "doctors_seq", sequenceName = "doctors_seq", allocationSize = 50)
     private Long id;
 
+    // Also bumped when qualifications or slots change; the ETag of the doctor resources
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @NotBlank(message = "First name is required")
     @Column(name = "first_name")
     private String firstName;
@@ -54,6 +62,10 @@ public class Doctor {
     @Column(name = "phone_number")
     private String phoneNumber;
 
+    // Shard key; doctors without a hospital live on the default shard
+    @Column(name = "hospital_id")
+    private Long hospitalId;
+
     @ElementCollection
     @CollectionTable(name = "doctor_qualifications", 
                     joinColumns = @JoinColumn(name = "doctor_id"))
@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
-import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 @Repository
@@ -15,12 +15,16 @@ public interface AvailabilityRepository extends JpaRepository<Availability, Long
     List<Availability> findByDoctorIdAndIsActiveTrue(Long doctorId);
     
     List<Availability> findByDoctorIdAndDayOfWeekAndIsActiveTrue(Long doctorId, DayOfWeek dayOfWeek);
+
+    @Query("SELECT a.id, a.version FROM Availability a WHERE a.doctor.id = :doctorId " +
+           "AND a.dayOfWeek = :dayOfWeek AND a.isActive = true ORDER BY a.id")
+    List<Object[]> findActiveVersions(Long doctorId, DayOfWeek dayOfWeek);
     
     @Query("SELECT a FROM Availability a WHERE a.doctor.id = :doctorId " +
            "AND a.isActive = true " +
            "AND a.dayOfWeek = :dayOfWeek " +
            "AND :time BETWEEN a.startTime AND a.endTime")
-    List<Availability> findAvailableSlots(Long doctorId, DayOfWeek dayOfWeek, LocalDateTime time);
+    List<Availability> findAvailableSlots(Long doctorId, DayOfWeek dayOfWeek, LocalTime time);
     
     @Query("SELECT DISTINCT a.dayOfWeek FROM Availability a " +
            "WHERE a.doctor.id = :doctorId AND a.isActive = true")
@@ -1,12 +1,15 @@
 package com.healthcare.repository;
 
+import com.healthcare.dto.DoctorSummaryDTO;
 import com.healthcare.model.Doctor;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,30 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
      */
     Optional<Doctor> findByEmail(String email);
 
+    /**
+     * Find a doctor with qualifications and available slots fetched in the same query
+     * @param id Doctor ID
+     * @return Optional containing the doctor if found
+     */
+    @EntityGraph(attributePaths = {"qualifications", "availableSlots"})
+    Optional<Doctor> findWithCollectionsById(Long id);
+
+    /**
+     * Current version of a doctor without loading the row's collections
+     * @param id Doctor ID
+     * @return Optional containing the version if the doctor exists
+     */
+    @Query("SELECT d.version FROM Doctor d WHERE d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Hospital of a doctor without loading the row
+     * @param id Doctor ID
+     * @return Optional containing the hospital ID; empty if the doctor does not exist or has none
+     */
+    @Query("SELECT d.hospitalId FROM Doctor d WHERE d.id = :id")
+    Optional<Long> findHospitalIdById(@Param("id") Long id);
+
     /**
      * Check if a doctor exists with the given email
      * @param email Doctor's email
@@ -84,4 +111,21 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     @Query("SELECT d FROM Doctor d WHERE d.isAvailable = true " +
            "ORDER BY d.rating DESC, d.totalPatients DESC")
     List<Doctor> findTopRatedDoctors(@Param("limit") int limit);
+
+    /**
+     * Find which of the given emails are already registered
+     * @param emails Candidate emails
+     * @return Emails that already belong to a doctor
+     */
+    @Query("SELECT d.email FROM Doctor d WHERE d.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Summaries for a set of doctors in one query, without loading their collections
+     * @param ids Doctor IDs
+     * @return Summaries of the doctors that exist, in no particular order
+     */
+    @Query("SELECT new com.healthcare.dto.DoctorSummaryDTO(d.id, d.firstName, d.lastName, " +
+           "d.specialization, d.rating, d.isAvailable) FROM Doctor d WHERE d.id IN :ids")
+    List<DoctorSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
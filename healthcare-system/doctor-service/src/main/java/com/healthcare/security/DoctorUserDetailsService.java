@@ -2,6 +2,7 @@ package com.healthcare.security;
 
 import com.healthcare.model.Doctor;
 import com.healthcare.repository.DoctorRepository;
+import com.healthcare.shard.ShardTemplate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 public class DoctorUserDetailsService implements UserDetailsService {
 
     private final DoctorRepository doctorRepository;
+    private final ShardTemplate shards;
 
     /**
      * Load doctor by email (username)
@@ -26,7 +28,7 @@ public class DoctorUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Doctor doctor = doctorRepository.findByEmail(email)
+        Doctor doctor = shards.findAny(() -> doctorRepository.findByEmail(email))
             .orElseThrow(() -> 
                 new UsernameNotFoundException("Doctor not found with email: " + email));
 
@@ -5,9 +5,12 @@ import com.healthcare.model.Availability;
 import com.healthcare.model.Doctor;
 import com.healthcare.repository.AvailabilityRepository;
 import com.healthcare.repository.DoctorRepository;
+import com.healthcare.shard.DoctorShards;
+import com.healthcare.shard.ShardTemplate;
+import com.healthcare.shard.Shards;
+import com.healthcare.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -17,6 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Schedule entries live on the shard of their doctor; every operation first finds that shard
+ */
 @Service
 public class AvailabilityService {
 
@@ -26,49 +32,49 @@ public class AvailabilityService {
     @Autowired
     private DoctorRepository doctorRepository;
 
-    @Transactional
-    public AvailabilityDTO createAvailability(AvailabilityDTO dto) {
-        Doctor doctor = doctorRepository.findById(dto.getDoctorId())
-            .orElseThrow(() -> new RuntimeException("Doctor not found"));
+    @Autowired
+    private ShardTemplate shards;
 
-        Availability availability = new Availability();
-        availability.setDoctor(doctor);
-        availability.setDayOfWeek(dto.getDayOfWeek());
-        availability.setStartTime(dto.getStartTime());
-        availability.setEndTime(dto.getEndTime());
-        availability.setSlotDurationMinutes(dto.getSlotDurationMinutes());
-        availability.setBreakStartTime(dto.getBreakStartTime());
-        availability.setBreakEndTime(dto.getBreakEndTime());
-        availability.setIsActive(true);
+    @Autowired
+    private DoctorShards doctorShards;
 
-        availability = availabilityRepository.save(availability);
-        return convertToDTO(availability);
+    public AvailabilityDTO createAvailability(AvailabilityDTO dto) {
+        return shards.onShard(shardOfDoctor(dto.getDoctorId()), () -> {
+            Doctor doctor = doctorRepository.findById(dto.getDoctorId())
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+
+            Availability availability = availabilityRepository.save(toEntity(doctor, dto.getDayOfWeek(),
+                dto.getStartTime(), dto.getEndTime(), dto.getSlotDurationMinutes(),
+                dto.getBreakStartTime(), dto.getBreakEndTime()));
+            return convertToDTO(availability);
+        });
     }
 
-    @Transactional
+    /**
+     * One schedule entry per requested day, inserted together: IDs come from the pooled
+     * sequence, so the rows go to the database as one JDBC batch
+     */
     public List<AvailabilityDTO> createBulkSchedule(AvailabilityDTO.BulkScheduleRequest request) {
-        List<AvailabilityDTO> created = new ArrayList<>();
-        
-        for (DayOfWeek day : request.getDays()) {
-            AvailabilityDTO dto = new AvailabilityDTO();
-            dto.setDoctorId(request.getDoctorId());
-            dto.setDayOfWeek(day);
-            dto.setStartTime(request.getStartTime());
-            dto.setEndTime(request.getEndTime());
-            dto.setSlotDurationMinutes(request.getSlotDurationMinutes());
-            dto.setBreakStartTime(request.getBreakStartTime());
-            dto.setBreakEndTime(request.getBreakEndTime());
-            
-            created.add(createAvailability(dto));
-        }
-        
-        return created;
+        return shards.onShard(shardOfDoctor(request.getDoctorId()), () -> {
+            Doctor doctor = doctorRepository.findById(request.getDoctorId())
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+
+            List<Availability> entries = new ArrayList<>();
+            for (DayOfWeek day : request.getDays()) {
+                entries.add(toEntity(doctor, day, request.getStartTime(), request.getEndTime(),
+                    request.getSlotDurationMinutes(), request.getBreakStartTime(), request.getBreakEndTime()));
+            }
+
+            return availabilityRepository.saveAll(entries).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        });
     }
 
     public List<AvailabilityDTO.TimeSlotResponse> getAvailableTimeSlots(
             Long doctorId, LocalDate date) {
-        List<Availability> availabilities = availabilityRepository
-            .findByDoctorIdAndDayOfWeekAndIsActiveTrue(doctorId, date.getDayOfWeek());
+        List<Availability> availabilities = shards.readShard(shardOfDoctor(doctorId),
+            () -> availabilityRepository.findByDoctorIdAndDayOfWeekAndIsActiveTrue(doctorId, date.getDayOfWeek()));
 
         List<AvailabilityDTO.TimeSlotResponse> slots = new ArrayList<>();
         
@@ -104,44 +110,91 @@ public class AvailabilityService {
         return slots;
     }
 
-    @Transactional
-    public AvailabilityDTO updateAvailability(Long id, AvailabilityDTO dto) {
-        Availability availability = availabilityRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Availability not found"));
-        
-        availability.setStartTime(dto.getStartTime());
-        availability.setEndTime(dto.getEndTime());
-        availability.setSlotDurationMinutes(dto.getSlotDurationMinutes());
-        availability.setBreakStartTime(dto.getBreakStartTime());
-        availability.setBreakEndTime(dto.getBreakEndTime());
-        availability.setIsActive(dto.getIsActive());
-        
-        availability = availabilityRepository.save(availability);
-        return convertToDTO(availability);
+    /**
+     * Entity tag for the slots of a doctor on a day of the week. Slots are generated from
+     * the active schedule entries alone, so their IDs and versions identify the response.
+     */
+    public String getTimeSlotsETag(Long doctorId, LocalDate date) {
+        List<Object[]> versions = shards.readShard(shardOfDoctor(doctorId),
+            () -> availabilityRepository.findActiveVersions(doctorId, date.getDayOfWeek()));
+        long hash = 1125899906842597L;
+        for (Object[] row : versions) {
+            hash = 31 * hash + (Long) row[0];
+            hash = 31 * hash + (Long) row[1];
+        }
+        return ETags.of(doctorId + "-" + date.getDayOfWeek() + "-" + versions.size() + "-" + Long.toHexString(hash));
+    }
+
+    /**
+     * @param expectedVersion Version from the client's If-Match, null for an unconditional update
+     */
+    public AvailabilityDTO updateAvailability(Long id, AvailabilityDTO dto, Long expectedVersion) {
+        return shards.onShard(shardOfAvailability(id), () -> {
+            Availability availability = availabilityRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Availability not found"));
+            ETags.checkVersion(expectedVersion, availability.getVersion());
+
+            availability.setStartTime(dto.getStartTime());
+            availability.setEndTime(dto.getEndTime());
+            availability.setSlotDurationMinutes(dto.getSlotDurationMinutes());
+            availability.setBreakStartTime(dto.getBreakStartTime());
+            availability.setBreakEndTime(dto.getBreakEndTime());
+            availability.setIsActive(dto.getIsActive());
+
+            // Flushed so the returned version already counts this update
+            return convertToDTO(availabilityRepository.saveAndFlush(availability));
+        });
     }
 
-    @Transactional
     public void deleteAvailability(Long id) {
-        Availability availability = availabilityRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Availability not found"));
-        
-        availability.setIsActive(false);
-        availabilityRepository.save(availability);
+        shards.onShard(shardOfAvailability(id), () -> {
+            Availability availability = availabilityRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Availability not found"));
+
+            availability.setIsActive(false);
+            return availabilityRepository.save(availability);
+        });
     }
 
     public List<DayOfWeek> getAvailableDays(Long doctorId) {
-        return availabilityRepository.findAvailableDays(doctorId);
+        return shards.readShard(shardOfDoctor(doctorId), () -> availabilityRepository.findAvailableDays(doctorId));
     }
 
     public boolean isSlotAvailable(Long doctorId, LocalDateTime dateTime) {
-        List<Availability> availabilities = availabilityRepository
-            .findAvailableSlots(doctorId, dateTime.getDayOfWeek(), dateTime);
+        List<Availability> availabilities = shards.readShard(shardOfDoctor(doctorId), () -> availabilityRepository
+            .findAvailableSlots(doctorId, dateTime.getDayOfWeek(), dateTime.toLocalTime()));
             
         return !availabilities.isEmpty() && 
                availabilities.stream()
                    .anyMatch(a -> a.isTimeSlotAvailable(dateTime.toLocalTime()));
     }
 
+    /**
+     * @return Shard holding the doctor (DoctorShards); the primary database for an unknown doctor,
+     *         where the lookups that follow find nothing, as they would without sharding
+     */
+    private String shardOfDoctor(Long doctorId) {
+        return doctorShards.locate(doctorId).orElse(Shards.PRIMARY);
+    }
+
+    private String shardOfAvailability(Long id) {
+        return shards.locate(() -> availabilityRepository.existsById(id)).orElse(Shards.PRIMARY);
+    }
+
+    private Availability toEntity(Doctor doctor, DayOfWeek day, LocalTime startTime, LocalTime endTime,
+                                  Integer slotDurationMinutes, LocalTime breakStartTime, LocalTime breakEndTime) {
+        Availability availability = new Availability();
+        availability.setDoctor(doctor);
+        availability.setDayOfWeek(day);
+        availability.setStartTime(startTime);
+        availability.setEndTime(endTime);
+        availability.setSlotDurationMinutes(slotDurationMinutes);
+        availability.setBreakStartTime(breakStartTime);
+        availability.setBreakEndTime(breakEndTime);
+        availability.setIsActive(true);
+        return availability;
+    }
+
     private AvailabilityDTO convertToDTO(Availability availability) {
         AvailabilityDTO dto = new AvailabilityDTO();
         dto.setId(availability.getId());
@@ -153,6 +206,7 @@ public class AvailabilityService {
         dto.setBreakStartTime(availability.getBreakStartTime());
         dto.setBreakEndTime(availability.getBreakEndTime());
         dto.setIsActive(availability.getIsActive());
+        dto.setVersion(availability.getVersion());
         return dto;
     }
 }
@@ -0,0 +1,238 @@
+package com.healthcare.service;
+
+import com.healthcare.dto.ImportReport;
+import com.healthcare.importer.CsvReader;
+import com.healthcare.importer.CsvRow;
+import com.healthcare.model.Doctor;
+import com.healthcare.repository.DoctorRepository;
+import com.healthcare.shard.ShardTemplate;
+import com.healthcare.util.EntityIds;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk CSV onboarding of doctors
+ * Stream-parses the file and writes it in chunks: one IN query per chunk for email
+ * uniqueness, BCrypt hashing spread over a dedicated pool, then JDBC batch inserts with IDs
+ * taken from the doctors sequence, so qualifications need no lookup of the new rows
+ * Each chunk is written in one transaction per shard its hospitals belong to
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DoctorImportService {
+
+    private static final String INSERT_DOCTOR =
+        "INSERT INTO doctors (id, first_name, last_name, email, password, specialization, license_number, " +
+        "years_of_experience, phone_number, about, consultation_fee, is_available, rating, total_patients, " +
+        "created_at, updated_at, hospital_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_QUALIFICATION =
+        "INSERT INTO doctor_qualifications (doctor_id, qualification) VALUES (?, ?)";
+
+    private final DoctorRepository doctorRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTemplate shards;
+    private final EntityManager entityManager;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${import.hashing-threads:0}")
+    private int hashingThreads;
+
+    private ExecutorService hashingPool;
+
+    @PostConstruct
+    protected void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        hashingPool = Executors.newFixedThreadPool(threads);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    /**
+     * Import doctors from CSV
+     * @param input CSV with a header row using DoctorDTO field names; qualifications are ';' separated
+     * @return Counts and rejected rows
+     */
+    public ImportReport importDoctors(InputStream input) throws IOException {
+        ImportReport report = new ImportReport("doctor");
+        long start = System.currentTimeMillis();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingDoctor> chunk = new ArrayList<>(chunkSize);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvRow row;
+            while ((row = csv.next()) != null) {
+                report.setRowsRead(report.getRowsRead() + 1);
+                try {
+                    Doctor doctor = toDoctor(row);
+                    if (!seenEmails.add(doctor.getEmail())) {
+                        report.reject(row.getLineNumber(), "Duplicate email in file");
+                        continue;
+                    }
+                    chunk.add(new PendingDoctor(row.getLineNumber(), doctor));
+                } catch (IllegalArgumentException e) {
+                    report.reject(row.getLineNumber(), e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeDoctors(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeDoctors(chunk, report);
+        }
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Doctor import finished: {} imported, {} rejected in {} ms",
+            report.getImported(), report.getRejected(), report.getDurationMillis());
+        return report;
+    }
+
+    private void writeDoctors(List<PendingDoctor> chunk, ImportReport report) {
+        List<String> emails = chunk.stream().map(pending -> pending.doctor.getEmail()).collect(Collectors.toList());
+        Set<String> existing = new HashSet<>(shards.gather(() -> doctorRepository.findExistingEmails(emails)));
+
+        List<PendingDoctor> fresh = new ArrayList<>();
+        for (PendingDoctor pending : chunk) {
+            if (existing.contains(pending.doctor.getEmail())) {
+                report.reject(pending.lineNumber, "Email already registered");
+            } else {
+                fresh.add(pending);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        // BCrypt dominates import time; hash before opening the transaction so no connection waits on it
+        CompletableFuture.allOf(fresh.stream()
+            .map(pending -> pending.doctor)
+            .map(doctor -> CompletableFuture.runAsync(
+                () -> doctor.setPassword(passwordEncoder.encode(doctor.getPassword())), hashingPool))
+            .toArray(CompletableFuture[]::new))
+            .join();
+
+        Map<String, List<PendingDoctor>> byShard = fresh.stream().collect(Collectors.groupingBy(
+            pending -> shards.shardOf(pending.doctor.getHospitalId()), LinkedHashMap::new, Collectors.toList()));
+        byShard.forEach((shard, pendingDoctors) -> insertDoctors(shard, pendingDoctors, report));
+    }
+
+    private void insertDoctors(String shard, List<PendingDoctor> pendingDoctors, ImportReport report) {
+        List<Doctor> fresh = pendingDoctors.stream().map(pending -> pending.doctor).collect(Collectors.toList());
+        try {
+            shards.onShard(shard, () -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                List<Long> ids = EntityIds.next(entityManager, Doctor.class, fresh.size());
+                for (int i = 0; i < fresh.size(); i++) {
+                    fresh.get(i).setId(ids.get(i));
+                }
+                jdbcTemplate.batchUpdate(INSERT_DOCTOR, fresh, fresh.size(), (ps, doctor) -> {
+                    ps.setLong(1, doctor.getId());
+                    ps.setString(2, doctor.getFirstName());
+                    ps.setString(3, doctor.getLastName());
+                    ps.setString(4, doctor.getEmail());
+                    ps.setString(5, doctor.getPassword());
+                    ps.setString(6, doctor.getSpecialization());
+                    ps.setString(7, doctor.getLicenseNumber());
+                    ps.setObject(8, doctor.getYearsOfExperience());
+                    ps.setString(9, doctor.getPhoneNumber());
+                    ps.setString(10, doctor.getAbout());
+                    ps.setObject(11, doctor.getConsultationFee());
+                    ps.setBoolean(12, doctor.isAvailable());
+                    ps.setObject(13, doctor.getRating());
+                    ps.setInt(14, doctor.getTotalPatients());
+                    ps.setTimestamp(15, now);
+                    ps.setTimestamp(16, now);
+                    ps.setObject(17, doctor.getHospitalId());
+                });
+
+                List<Object[]> qualificationRows = new ArrayList<>();
+                for (Doctor doctor : fresh) {
+                    doctor.getQualifications().forEach(qualification ->
+                        qualificationRows.add(new Object[] {doctor.getId(), qualification}));
+                }
+                if (!qualificationRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_QUALIFICATION, qualificationRows);
+                }
+                return null;
+            });
+            report.setImported(report.getImported() + fresh.size());
+            log.debug("Doctor import progress: {} rows read, {} imported", report.getRowsRead(), report.getImported());
+        } catch (DataAccessException e) {
+            log.warn("Doctor import chunk failed on shard {}", shard, e);
+            pendingDoctors.forEach(pending -> report.reject(pending.lineNumber,
+                "Chunk failed: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private Doctor toDoctor(CsvRow row) {
+        Doctor doctor = new Doctor();
+        doctor.setFirstName(row.require("firstName"));
+        doctor.setLastName(row.require("lastName"));
+        doctor.setEmail(row.require("email"));
+        if (!doctor.getEmail().contains("@")) {
+            throw new IllegalArgumentException("Email should be valid");
+        }
+        doctor.setPassword(row.require("password"));
+        doctor.setSpecialization(row.require("specialization"));
+        doctor.setLicenseNumber(row.get("licenseNumber"));
+        doctor.setYearsOfExperience(row.getInt("yearsOfExperience"));
+        doctor.setPhoneNumber(row.get("phoneNumber"));
+        doctor.setAbout(row.get("about"));
+        doctor.setConsultationFee(row.getDouble("consultationFee"));
+        doctor.setAvailable(row.getBoolean("isAvailable", true));
+        doctor.setRating(row.getDouble("rating"));
+        doctor.setHospitalId(row.getLong("hospitalId"));
+        String qualifications = row.get("qualifications");
+        if (qualifications != null) {
+            Arrays.stream(qualifications.split(";"))
+                .map(String::trim)
+                .filter(qualification -> !qualification.isEmpty())
+                .forEach(doctor::addQualification);
+        }
+        return doctor;
+    }
+
+    private static final class PendingDoctor {
+        private final long lineNumber;
+        private final Doctor doctor;
+
+        private PendingDoctor(long lineNumber, Doctor doctor) {
+            this.lineNumber = lineNumber;
+            this.doctor = doctor;
+        }
+    }
+}
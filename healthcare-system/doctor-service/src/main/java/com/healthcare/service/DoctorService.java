@@ -1,9 +1,13 @@
 package com.healthcare.service;
 
+import com.healthcare.cache.DoctorReadCache;
 import com.healthcare.dto.*;
 import com.healthcare.model.Doctor;
 import com.healthcare.repository.DoctorRepository;
 import com.healthcare.security.JwtTokenProvider;
+import com.healthcare.shard.DoctorShards;
+import com.healthcare.shard.ShardTemplate;
+import com.healthcare.util.ETags;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,25 +16,42 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Service class for handling doctor-related business logic
  * Manages doctor authentication, registration, and profile operations
+ * Doctors are stored on their hospital's shard; each operation runs in a transaction on the
+ * shard it needs (ShardTemplate), and searches ask every shard at once
  */
 @Service
 @RequiredArgsConstructor
 public class DoctorService {
 
+    public static final int MAX_BATCH_SIZE = 200;
+
+    private static final Comparator<DoctorDTO> TOP_RATED_ORDER = Comparator
+        .comparing(DoctorDTO::getRating, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(DoctorDTO::getTotalPatients, Comparator.nullsLast(Comparator.reverseOrder()));
+
     private final DoctorRepository doctorRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final DoctorReadCache doctorReadCache;
+    private final ShardTemplate shards;
+    private final DoctorShards doctorShards;
 
     /**
      * Authenticate doctor and generate JWT token
@@ -48,27 +69,28 @@ public class DoctorService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtTokenProvider.generateToken(authentication);
         
-        Doctor doctor = doctorRepository.findByEmail(authRequest.getEmail())
+        DoctorDTO doctor = shards.findAny(() -> doctorRepository.findByEmail(authRequest.getEmail())
+                .map(DoctorService::toDetachedDTO))
             .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
 
-        return AuthResponse.success(jwt, DoctorDTO.fromEntity(doctor));
+        return AuthResponse.success(jwt, doctor);
     }
 
     /**
-     * Register a new doctor
+     * Register a new doctor on the shard of their hospital
+     * Emails are unique per database; across shards uniqueness rests on the check up front
      * @param doctorDTO Doctor registration details
      * @return Registered doctor DTO
      */
-    @Transactional
     public DoctorDTO register(DoctorDTO doctorDTO) {
-        if (doctorRepository.existsByEmail(doctorDTO.getEmail())) {
+        if (emailTaken(doctorDTO.getEmail(), null)) {
             throw new IllegalArgumentException("Email already registered");
         }
 
         Doctor doctor = doctorDTO.toEntity();
         doctor.setPassword(passwordEncoder.encode(doctorDTO.getPassword()));
-        Doctor savedDoctor = doctorRepository.save(doctor);
-        return DoctorDTO.fromEntity(savedDoctor);
+        return shards.onHospital(doctor.getHospitalId(),
+            () -> DoctorDTO.fromEntity(doctorRepository.save(doctor)));
     }
 
     /**
@@ -77,23 +99,25 @@ public class DoctorService {
      * @param request Availability request containing time slots
      * @return Updated doctor DTO
      */
-    @Transactional
     public DoctorDTO updateAvailability(Long doctorId, AvailabilityRequest request) {
-        Doctor doctor = doctorRepository.findById(doctorId)
-            .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
-
-        if (request.isClearExisting()) {
-            doctor.getAvailableSlots().clear();
-        }
-
         Set<LocalDateTime> newSlots = request.getTimeSlots().stream()
             .filter(TimeSlotDTO::isValid)
             .flatMap(slot -> List.of(slot.generateTimeSlots()).stream())
             .collect(Collectors.toSet());
 
-        doctor.getAvailableSlots().addAll(newSlots);
-        Doctor updatedDoctor = doctorRepository.save(doctor);
-        return DoctorDTO.fromEntity(updatedDoctor);
+        DoctorDTO updated = onDoctorShard(doctorId, () -> {
+            Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+
+            if (request.isClearExisting()) {
+                doctor.getAvailableSlots().clear();
+            }
+
+            doctor.getAvailableSlots().addAll(newSlots);
+            return toDetachedDTO(doctorRepository.save(doctor));
+        });
+        doctorReadCache.invalidate(doctorId);
+        return updated;
     }
 
     /**
@@ -102,9 +126,53 @@ public class DoctorService {
      * @return Doctor DTO
      */
     public DoctorDTO getDoctorById(Long id) {
-        Doctor doctor = doctorRepository.findById(id)
+        return doctorReadCache.get(id, this::loadDoctor);
+    }
+
+    /**
+     * Current version of a doctor, for answering conditional requests without building the DTO
+     * @param id Doctor ID
+     * @return Version, taken from the read cache when it holds the doctor
+     */
+    public Long getDoctorVersion(Long id) {
+        DoctorDTO cached = doctorReadCache.peek(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return shards.findAny(() -> doctorRepository.findVersionById(id))
             .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
-        return DoctorDTO.fromEntity(doctor);
+    }
+
+    /**
+     * Get doctor's profile
+     * @param id Doctor ID
+     * @return Doctor DTO
+     */
+    public DoctorDTO getDoctorProfile(Long id) {
+        return doctorReadCache.get(id, this::loadDoctor);
+    }
+
+    /**
+     * Get summaries for several doctors at once
+     * @param ids Doctor IDs, at most MAX_BATCH_SIZE distinct
+     * @return Summaries in the order of the first occurrence of each ID; unknown IDs are skipped
+     */
+    public List<DoctorSummaryDTO> getDoctorSummaries(Collection<Long> ids) {
+        Set<Long> distinct = ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " doctor IDs per batch");
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, DoctorSummaryDTO> byId = shards.<DoctorSummaryDTO>gather(() -> doctorRepository.findSummariesByIdIn(distinct))
+            .stream()
+            // A move interrupted between copy and delete leaves a doctor on two shards for a while
+            .collect(Collectors.toMap(DoctorSummaryDTO::getId, Function.identity(), (first, second) -> first));
+        return distinct.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
     /**
@@ -113,29 +181,91 @@ public class DoctorService {
      * @param doctorDTO Updated doctor details
      * @return Updated doctor DTO
      */
-    @Transactional
     public DoctorDTO updateDoctor(Long id, DoctorDTO doctorDTO) {
-        Doctor doctor = doctorRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+        String password = doctorDTO.getPassword() != null && !doctorDTO.getPassword().isEmpty()
+            ? passwordEncoder.encode(doctorDTO.getPassword())
+            : null;
 
-        doctor.setFirstName(doctorDTO.getFirstName());
-        doctor.setLastName(doctorDTO.getLastName());
-        doctor.setSpecialization(doctorDTO.getSpecialization());
-        doctor.setPhoneNumber(doctorDTO.getPhoneNumber());
-        doctor.setAbout(doctorDTO.getAbout());
-        doctor.setConsultationFee(doctorDTO.getConsultationFee());
-        doctor.setAvailable(doctorDTO.isAvailable());
+        DoctorDTO updated = onDoctorShard(id, () -> {
+            Doctor doctor = doctorRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
 
-        if (doctorDTO.getQualifications() != null) {
-            doctor.setQualifications(doctorDTO.getQualifications());
-        }
+            doctor.setFirstName(doctorDTO.getFirstName());
+            doctor.setLastName(doctorDTO.getLastName());
+            doctor.setSpecialization(doctorDTO.getSpecialization());
+            doctor.setPhoneNumber(doctorDTO.getPhoneNumber());
+            doctor.setAbout(doctorDTO.getAbout());
+            doctor.setConsultationFee(doctorDTO.getConsultationFee());
+            doctor.setAvailable(doctorDTO.isAvailable());
+
+            if (doctorDTO.getQualifications() != null) {
+                doctor.setQualifications(doctorDTO.getQualifications());
+            }
+
+            if (password != null) {
+                doctor.setPassword(password);
+            }
 
-        if (doctorDTO.getPassword() != null && !doctorDTO.getPassword().isEmpty()) {
-            doctor.setPassword(passwordEncoder.encode(doctorDTO.getPassword()));
+            return toDetachedDTO(doctorRepository.save(doctor));
+        });
+        doctorReadCache.invalidate(id);
+        return updated;
+    }
+
+    /**
+     * Update the profile fields a doctor may edit themselves
+     * @param id Doctor ID
+     * @param request Fields to change; null fields are left as they are
+     * @param expectedVersion Version from the client's If-Match, null for an unconditional update
+     * @return Updated doctor DTO
+     */
+    public DoctorDTO updateProfile(Long id, ProfileUpdateRequest request, Long expectedVersion) {
+        if (request.getEmail() != null && emailTaken(request.getEmail(), id)) {
+            throw new IllegalArgumentException("Email already registered");
         }
 
-        Doctor updatedDoctor = doctorRepository.save(doctor);
-        return DoctorDTO.fromEntity(updatedDoctor);
+        DoctorDTO updated = onDoctorShard(id, () -> {
+            Doctor doctor = doctorRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+            ETags.checkVersion(expectedVersion, doctor.getVersion());
+
+            if (request.getEmail() != null && !request.getEmail().equalsIgnoreCase(doctor.getEmail())) {
+                doctor.setEmail(request.getEmail());
+            }
+            if (request.getFirstName() != null) {
+                doctor.setFirstName(request.getFirstName());
+            }
+            if (request.getLastName() != null) {
+                doctor.setLastName(request.getLastName());
+            }
+            if (request.getPhoneNumber() != null) {
+                doctor.setPhoneNumber(request.getPhoneNumber());
+            }
+            if (request.getSpecialization() != null) {
+                doctor.setSpecialization(request.getSpecialization());
+            }
+            if (request.getQualification() != null && !request.getQualification().isBlank()) {
+                doctor.addQualification(request.getQualification().trim());
+            }
+            if (request.getBio() != null) {
+                doctor.setAbout(request.getBio());
+            }
+            if (request.getExperienceYears() != null) {
+                doctor.setYearsOfExperience(request.getExperienceYears());
+            }
+            if (request.getConsultationFee() != null && !request.getConsultationFee().isBlank()) {
+                try {
+                    doctor.setConsultationFee(Double.valueOf(request.getConsultationFee().trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid consultation fee: " + request.getConsultationFee());
+                }
+            }
+
+            // Flush so the returned version, and the ETag built from it, includes this update
+            return toDetachedDTO(doctorRepository.saveAndFlush(doctor));
+        });
+        doctorReadCache.invalidate(id);
+        return updated;
     }
 
     /**
@@ -144,10 +274,10 @@ public class DoctorService {
      * @return List of doctor DTOs
      */
     public List<DoctorDTO> findBySpecialization(String specialization) {
-        return doctorRepository.findBySpecializationAndIsAvailableTrue(specialization)
+        return shards.gather(() -> doctorRepository.findBySpecializationAndIsAvailableTrue(specialization)
             .stream()
-            .map(DoctorDTO::fromEntity)
-            .collect(Collectors.toList());
+            .map(DoctorService::toDetachedDTO)
+            .collect(Collectors.toList()));
     }
 
     /**
@@ -157,33 +287,89 @@ public class DoctorService {
      * @return List of doctor DTOs
      */
     public List<DoctorDTO> findAvailableDoctors(LocalDateTime startTime, LocalDateTime endTime) {
-        return doctorRepository.findAvailableDoctorsInTimeRange(startTime, endTime)
+        return shards.gather(() -> doctorRepository.findAvailableDoctorsInTimeRange(startTime, endTime)
             .stream()
-            .map(DoctorDTO::fromEntity)
-            .collect(Collectors.toList());
+            .map(DoctorService::toDetachedDTO)
+            .collect(Collectors.toList()));
     }
 
     /**
      * Get top rated doctors
+     * The best of each shard, merged in the repository query's order
      * @param limit Number of doctors to return
      * @return List of doctor DTOs
      */
     public List<DoctorDTO> getTopRatedDoctors(int limit) {
-        return doctorRepository.findTopRatedDoctors(limit)
-            .stream()
-            .map(DoctorDTO::fromEntity)
-            .collect(Collectors.toList());
+        return shards.gather(() -> doctorRepository.findTopRatedDoctors(limit)
+                .stream()
+                .limit(limit)
+                .map(DoctorService::toDetachedDTO)
+                .collect(Collectors.toList()),
+            TOP_RATED_ORDER, limit);
     }
 
     /**
      * Delete doctor by ID
      * @param id Doctor ID
      */
-    @Transactional
     public void deleteDoctor(Long id) {
-        if (!doctorRepository.existsById(id)) {
-            throw new EntityNotFoundException("Doctor not found");
+        onDoctorShard(id, () -> {
+            if (!doctorRepository.existsById(id)) {
+                throw new EntityNotFoundException("Doctor not found");
+            }
+            doctorRepository.deleteById(id);
+            return null;
+        });
+        doctorReadCache.invalidate(id);
+        doctorReadCache.evictHospital(id);
+    }
+
+    /**
+     * Load a doctor with its collections initialized, from whichever shard has it
+     */
+    private DoctorDTO loadDoctor(Long id) {
+        return shards.findAny(() -> doctorRepository.findWithCollectionsById(id).map(DoctorService::toDetachedDTO))
+            .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+    }
+
+    /**
+     * Run write work in a transaction on the doctor's shard (DoctorShards). When the work does not
+     * find the doctor there, the directory may not have caught up with a move yet, so the shards
+     * are probed and the work is run again where the doctor is.
+     */
+    private <T> T onDoctorShard(Long id, Supplier<T> work) {
+        String shard = doctorShards.locate(id)
+            .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+        try {
+            return shards.onShard(shard, work);
+        } catch (EntityNotFoundException e) {
+            String probed = doctorShards.probe(id).orElseThrow(() -> e);
+            if (probed.equals(shard)) {
+                throw e;
+            }
+            return shards.onShard(probed, work);
         }
-        doctorRepository.deleteById(id);
+    }
+
+    /**
+     * @param exceptId Doctor who may keep the email, null for none
+     * @return Whether another doctor on any shard has the email
+     */
+    private boolean emailTaken(String email, Long exceptId) {
+        return shards.findAny(() -> doctorRepository.findByEmail(email)
+                .map(Doctor::getId)
+                .filter(id -> !id.equals(exceptId)))
+            .isPresent();
+    }
+
+    /**
+     * DTO with the collections copied, so it can be shared by concurrent readers and outlive
+     * the shard transaction that loaded it
+     */
+    private static DoctorDTO toDetachedDTO(Doctor doctor) {
+        DoctorDTO dto = DoctorDTO.fromEntity(doctor);
+        dto.setQualifications(Set.copyOf(doctor.getQualifications()));
+        dto.setAvailableSlots(Set.copyOf(doctor.getAvailableSlots()));
+        return dto;
     }
 }
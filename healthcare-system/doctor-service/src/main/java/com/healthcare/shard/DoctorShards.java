@@ -0,0 +1,50 @@
+package com.healthcare.shard;
+
+import com.healthcare.cache.DoctorReadCache;
+import com.healthcare.repository.DoctorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Finds the shard of a doctor's rows through the shard directory, from the doctor's hospital.
+ *
+ * A doctor never changes hospital, so the hospital is looked up once (DoctorReadCache) and the
+ * directory, which ShardMover keeps current, says where that hospital lives now. Shards are only
+ * probed one by one when the hospital is not known: the first lookup, or a doctor without one.
+ */
+@Component
+public class DoctorShards {
+
+    @Autowired
+    private ShardTemplate shards;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorReadCache doctorReadCache;
+
+    /**
+     * @return Shard the directory gives for the doctor's hospital, or the probed one; empty if no shard has the doctor
+     */
+    public Optional<String> locate(Long doctorId) {
+        if (shards.shardNames().size() > 1) {
+            Long hospitalId = doctorReadCache.hospitalOf(doctorId,
+                id -> shards.findAny(() -> doctorRepository.findHospitalIdById(id)).orElse(null));
+            if (hospitalId != null) {
+                return Optional.of(shards.shardOf(hospitalId));
+            }
+        }
+        return probe(doctorId);
+    }
+
+    /**
+     * Ask every shard, bypassing the directory; for when the directory was behind a move
+     * @return First shard, in shard order, that has the doctor
+     */
+    public Optional<String> probe(Long doctorId) {
+        return shards.locate(() -> doctorRepository.existsById(doctorId));
+    }
+}
@@ -0,0 +1,42 @@
+package com.healthcare.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard the current thread's database work goes to, read by ShardRoutingDataSource when a
+ * transaction takes its connection. No shard means the primary database.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return Shard bound to this thread, null for the primary database
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the work with the shard bound to this thread, restoring the previous binding after
+     * @param shard Shard name
+     * @param work Database work; it must open its transaction itself, inside this call
+     * @return Result of the work
+     */
+    public static <T> T call(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.healthcare.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hospital to shard assignments, kept in the hospital_shards table of the primary database.
+ *
+ * The table holds one row per hospital and is read whole; lookups answer from that copy and
+ * reload it once it is older than the refresh interval, so other instances see a changed
+ * assignment within that interval. Hospitals without a row, and rows without a hospital,
+ * belong to the default shard.
+ */
+@Slf4j
+public class ShardDirectory {
+
+    private record Snapshot(Map<Long, String> assignments, long loadedAt) {
+    }
+
+    private final Shards shards;
+    private final JdbcTemplate jdbcTemplate;
+    private final String defaultShard;
+    private final long refreshNanos;
+    private volatile Snapshot snapshot;
+
+    public ShardDirectory(Shards shards, String defaultShard, long refreshMillis) {
+        this.shards = shards;
+        this.jdbcTemplate = new JdbcTemplate(shards.dataSource(Shards.PRIMARY));
+        this.defaultShard = shards.get(defaultShard).name();
+        this.refreshNanos = refreshMillis * 1_000_000L;
+    }
+
+    /**
+     * @param hospitalId Hospital, or null
+     * @return Shard holding the hospital's rows
+     */
+    public String shardOf(Long hospitalId) {
+        if (hospitalId == null) {
+            return defaultShard;
+        }
+        return assignments().getOrDefault(hospitalId, defaultShard);
+    }
+
+    /**
+     * @return Hospitals assigned to a shard explicitly
+     */
+    public Map<Long, String> assignments() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt() > refreshNanos) {
+            current = reload(current);
+        }
+        return current.assignments();
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    /**
+     * Point the hospital at a shard; its rows are not moved (see ShardMover)
+     */
+    public void assign(Long hospitalId, String shard) {
+        shards.get(shard);
+        int updated = jdbcTemplate.update("UPDATE hospital_shards SET shard = ? WHERE hospital_id = ?", shard, hospitalId);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO hospital_shards (hospital_id, shard) VALUES (?, ?)", hospitalId, shard);
+        }
+        log.info("Hospital {} assigned to shard {}", hospitalId, shard);
+        reload(null);
+    }
+
+    /**
+     * @param stale Copy the caller found outdated; when another thread has replaced it meanwhile,
+     *              that copy is returned instead of reading the table again. Null always reads it.
+     */
+    private synchronized Snapshot reload(Snapshot stale) {
+        if (stale != null && snapshot != stale) {
+            return snapshot;
+        }
+        Map<Long, String> assignments = new HashMap<>();
+        jdbcTemplate.query("SELECT hospital_id, shard FROM hospital_shards",
+            row -> {
+                assignments.put(row.getLong(1), row.getString(2));
+            });
+        Snapshot loaded = new Snapshot(Map.copyOf(assignments), System.nanoTime());
+        snapshot = loaded;
+        return loaded;
+    }
+}
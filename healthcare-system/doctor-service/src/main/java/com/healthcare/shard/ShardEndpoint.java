@@ -0,0 +1,49 @@
+package com.healthcare.shard;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shard administration, /actuator/shards once exposed through management.endpoints.web.exposure.include:
+ * GET lists the shards and the directory, GET /{hospitalId} names a hospital's shard and
+ * POST /{hospitalId} with {"target": "shard"} moves it (ShardMover)
+ */
+@Endpoint(id = "shards")
+public class ShardEndpoint {
+
+    private final Shards shards;
+    private final ShardDirectory directory;
+    private final ShardMover mover;
+
+    public ShardEndpoint(Shards shards, ShardDirectory directory, ShardMover mover) {
+        this.shards = shards;
+        this.directory = directory;
+        this.mover = mover;
+    }
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        Map<String, Object> idBlocks = new LinkedHashMap<>();
+        shards.all().forEach(shard -> idBlocks.put(shard.name(), shard.idBlock()));
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("idBlocks", idBlocks);
+        description.put("defaultShard", directory.getDefaultShard());
+        description.put("hospitals", directory.assignments());
+        return description;
+    }
+
+    @ReadOperation
+    public String hospital(@Selector Long hospitalId) {
+        return directory.shardOf(hospitalId);
+    }
+
+    @WriteOperation
+    public ShardMover.ShardMove move(@Selector Long hospitalId, String target) {
+        return mover.move(hospitalId, target);
+    }
+}
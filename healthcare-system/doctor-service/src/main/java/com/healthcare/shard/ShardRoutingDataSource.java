@@ -0,0 +1,28 @@
+package com.healthcare.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The service's DataSource with sharding on: each connection comes from the pool of the shard
+ * bound in ShardContext, or of the primary database when none is. JPA takes its connection when
+ * a transaction begins, so the shard has to be bound before that; ShardTemplate does both.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ShardRoutingDataSource(Shards shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        shards.all().forEach(shard -> targets.put(shard.name(), shard.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.dataSource(Shards.PRIMARY));
+        // A shard name that is not configured fails instead of quietly using the primary
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,221 @@
+package com.healthcare.shard;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs repository work on the right shard: in a transaction of its own on one shard, or on
+ * every shard in parallel with the results merged (scatter-gather).
+ *
+ * A shard's connection is taken when its transaction begins, so work given to this template
+ * must not already run inside a transaction on another shard; that fails instead of silently
+ * reading the wrong database. With sharding off there is one shard, the primary database,
+ * and everything runs on the calling thread as plain transactions, joining one already active.
+ */
+@Slf4j
+@Component
+public class ShardTemplate {
+
+    private final Shards shards;
+    private final ShardDirectory directory;
+    private final TransactionTemplate writes;
+    private final TransactionTemplate reads;
+
+    @Value("${sharding.scatter-threads:0}")
+    private int scatterThreads;
+
+    @Value("${sharding.scatter-timeout-ms:10000}")
+    private long scatterTimeoutMillis;
+
+    private ExecutorService scatterPool;
+
+    public ShardTemplate(ObjectProvider<Shards> shards, ObjectProvider<ShardDirectory> directory,
+                         PlatformTransactionManager transactionManager) {
+        this.shards = shards.getIfAvailable();
+        this.directory = directory.getIfAvailable();
+        this.writes = new TransactionTemplate(transactionManager);
+        this.reads = new TransactionTemplate(transactionManager);
+        this.reads.setReadOnly(true);
+    }
+
+    @PostConstruct
+    protected void init() {
+        if (shardNames().size() > 1) {
+            int threads = scatterThreads > 0 ? scatterThreads : 2 * shardNames().size();
+            AtomicInteger count = new AtomicInteger();
+            scatterPool = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "shard-scatter-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("Sharding over {} with {} scatter-gather threads", shardNames(), threads);
+        }
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (scatterPool != null) {
+            scatterPool.shutdown();
+        }
+    }
+
+    public List<String> shardNames() {
+        return shards == null ? List.of(Shards.PRIMARY) : shards.names();
+    }
+
+    /**
+     * @param hospitalId Hospital, or null for rows without one
+     * @return Shard holding the hospital's rows
+     */
+    public String shardOf(Long hospitalId) {
+        return directory == null ? Shards.PRIMARY : directory.shardOf(hospitalId);
+    }
+
+    /**
+     * Run the work in a read-write transaction on the hospital's shard
+     */
+    public <T> T onHospital(Long hospitalId, Supplier<T> work) {
+        return onShard(shardOf(hospitalId), work);
+    }
+
+    /**
+     * Run the work in a read-write transaction on the shard
+     */
+    public <T> T onShard(String shard, Supplier<T> work) {
+        return execute(shard, writes, work);
+    }
+
+    /**
+     * Run the work in a read-only transaction on the shard
+     */
+    public <T> T readShard(String shard, Supplier<T> work) {
+        return execute(shard, reads, work);
+    }
+
+    /**
+     * Run the query on every shard and concatenate the results, in shard order
+     */
+    public <T> List<T> gather(Supplier<? extends Collection<? extends T>> query) {
+        return scatter(shard -> readShard(shard, query)).stream()
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Run the query on every shard and merge the results
+     * @param query Query returning at most limit rows per shard, best first
+     * @param order Order of the merged result
+     * @param limit Rows to keep after merging
+     */
+    public <T> List<T> gather(Supplier<? extends Collection<? extends T>> query, Comparator<? super T> order,
+                              int limit) {
+        return scatter(shard -> readShard(shard, query)).stream()
+            .flatMap(Collection::stream)
+            .sorted(order)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Run a query for a single row on every shard
+     * @return The row from the first shard, in shard order, that has it
+     */
+    public <T> Optional<T> findAny(Supplier<Optional<T>> query) {
+        return scatter(shard -> readShard(shard, query)).stream()
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .findFirst();
+    }
+
+    /**
+     * Find the shard of a row before changing it. With a single shard nothing is queried and that
+     * shard is returned; the work then finds out itself whether the row exists.
+     * @param present Check for the row, run on every shard
+     * @return First shard, in shard order, where the check passes
+     */
+    public Optional<String> locate(BooleanSupplier present) {
+        List<String> names = shardNames();
+        if (names.size() == 1) {
+            return Optional.of(names.get(0));
+        }
+        List<Boolean> found = scatter(shard -> readShard(shard, present::getAsBoolean));
+        for (int i = 0; i < names.size(); i++) {
+            if (found.get(i)) {
+                return Optional.of(names.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <T> T execute(String shard, TransactionTemplate transactionTemplate, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            String bound = Objects.requireNonNullElse(ShardContext.current(), Shards.PRIMARY);
+            if (!bound.equals(shard)) {
+                throw new IllegalStateException("A transaction on shard " + bound
+                    + " is active; work for shard " + shard + " has to start outside of it");
+            }
+        }
+        return ShardContext.call(shard, () -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    /**
+     * @return One result per shard, in shard order; the first failure fails the whole call
+     *         rather than returning a partial answer
+     */
+    private <R> List<R> scatter(Function<String, R> perShard) {
+        List<String> names = shardNames();
+        if (scatterPool == null) {
+            return names.stream().map(perShard).collect(Collectors.toList());
+        }
+        List<Future<R>> futures = names.stream()
+            .map(shard -> scatterPool.submit(() -> perShard.apply(shard)))
+            .collect(Collectors.toList());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMillis);
+        List<R> results = new ArrayList<>(names.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Scatter-gather query failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Scatter-gather over " + names + " took longer than "
+                + scatterTimeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for shards", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
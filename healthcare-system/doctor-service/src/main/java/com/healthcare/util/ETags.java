@@ -0,0 +1,71 @@
+package com.healthcare.util;
+
+import com.healthcare.exception.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from JPA @Version columns, of the form "id.version".
+ * If-None-Match is evaluated with WebRequest.checkNotModified; If-Match is turned into
+ * an expected version that the service compares against the row it is about to update.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @param id Resource ID
+     * @param version Current @Version value
+     * @return Quoted strong entity tag
+     */
+    public static String of(Long id, Long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    /**
+     * Entity tag for a representation that is not a single row, e.g. a list
+     * @param opaque Value that changes whenever the representation does
+     */
+    public static String of(String opaque) {
+        return "\"" + opaque + "\"";
+    }
+
+    /**
+     * Version a client expects from its If-Match header
+     * @param ifMatch Header value, may be null
+     * @param id Resource being updated
+     * @return Expected version, or null when there is no precondition ("*" or no header)
+     * @throws PreconditionFailedException if the header holds anything but one strong tag of this resource
+     */
+    public static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        // Weak tags never match under the strong comparison If-Match requires
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"") || tag.contains(",")) {
+            throw new PreconditionFailedException("If-Match must be a single strong entity tag");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        String prefix = id + ".";
+        if (!value.startsWith(prefix)) {
+            throw new PreconditionFailedException("If-Match does not refer to resource " + id);
+        }
+        try {
+            return Long.valueOf(value.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not refer to resource " + id);
+        }
+    }
+
+    /**
+     * Enforce an If-Match precondition against the version just read in the write transaction
+     * @param expected Version from expectedVersion, null for an unconditional write
+     * @param actual Version of the loaded row
+     * @throws PreconditionFailedException if they differ
+     */
+    public static void checkVersion(Long expected, Long actual) {
+        if (expected != null && !expected.equals(actual)) {
+            throw new PreconditionFailedException("Resource has changed; current version is " + actual);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.healthcare.util;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDs for rows written with plain JDBC, drawn from the entity's own Hibernate generator so that
+ * JDBC and JPA inserts share one pooled sequence, and the block of it held in memory, instead of
+ * handing out the same values twice
+ */
+public final class EntityIds {
+
+    private EntityIds() {
+    }
+
+    /**
+     * @param entityManager Entity manager of the current transaction; a new block is fetched through it
+     * @param entityType Entity whose generator to use
+     * @param count Number of IDs
+     * @return Unused IDs, one per row
+     */
+    public static List<Long> next(EntityManager entityManager, Class<?> entityType, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+            .getEntityDescriptor(entityType).getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null));
+        }
+        return ids;
+    }
+}
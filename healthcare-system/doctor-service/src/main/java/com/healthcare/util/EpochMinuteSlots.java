@@ -0,0 +1,103 @@
+package com.healthcare.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact encoding of a set of time slots for binary formats (Smile, CBOR): the slots in order as
+ * [first epoch minute, minutes to the next, ...], so a day of half-hour slots is a short run of
+ * small integers instead of one date-time string each. JSON keeps the ISO strings it always had.
+ * Sets holding a slot with seconds are written as strings in every format.
+ *
+ * Epoch minutes are of the local date-time read as UTC; no time zone is involved.
+ */
+public final class EpochMinuteSlots {
+
+    private EpochMinuteSlots() {
+    }
+
+    /**
+     * @return Slots sorted and delta-encoded; the first value is absolute
+     */
+    public static int[] encode(Collection<LocalDateTime> slots) {
+        List<LocalDateTime> sorted = slots.stream().sorted().toList();
+        int[] encoded = new int[sorted.size()];
+        long previous = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            long minute = sorted.get(i).toEpochSecond(ZoneOffset.UTC) / 60;
+            encoded[i] = Math.toIntExact(minute - previous);
+            previous = minute;
+        }
+        return encoded;
+    }
+
+    public static Set<LocalDateTime> decode(int[] encoded) {
+        Set<LocalDateTime> slots = new LinkedHashSet<>();
+        long minute = 0;
+        for (int delta : encoded) {
+            minute += delta;
+            slots.add(LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC));
+        }
+        return slots;
+    }
+
+    private static boolean wholeMinutes(Collection<LocalDateTime> slots) {
+        return slots.stream().allMatch(slot -> slot.getSecond() == 0 && slot.getNano() == 0);
+    }
+
+    public static class Serializer extends JsonSerializer<Set<LocalDateTime>> {
+
+        @Override
+        public void serialize(Set<LocalDateTime> slots, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            if (generator.canWriteBinaryNatively() && wholeMinutes(slots)) {
+                int[] encoded = encode(slots);
+                generator.writeArray(encoded, 0, encoded.length);
+                return;
+            }
+            generator.writeStartArray(slots, slots.size());
+            for (LocalDateTime slot : slots) {
+                provider.defaultSerializeValue(slot, generator);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads either form, so a client need not know which one it was sent
+     */
+    public static class Deserializer extends JsonDeserializer<Set<LocalDateTime>> {
+
+        @Override
+        public Set<LocalDateTime> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                return context.reportInputMismatch(Set.class, "Expected an array of time slots, got %s",
+                    parser.currentToken());
+            }
+            Set<LocalDateTime> slots = new LinkedHashSet<>();
+            long minute = 0;
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    minute += parser.getIntValue();
+                    slots.add(LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC));
+                } else {
+                    slots.add(context.readValue(parser, LocalDateTime.class));
+                }
+            }
+            return slots;
+        }
+    }
+}
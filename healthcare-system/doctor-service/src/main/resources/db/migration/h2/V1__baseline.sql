@@ -0,0 +1,50 @@
+-- Schema as ddl-auto=update created it before migrations, in H2 syntax for tests and the load-test harness
+
+create table doctors (
+    id bigint generated by default as identity,
+    version bigint default 0 not null,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    specialization varchar(255),
+    license_number varchar(255),
+    years_of_experience integer,
+    phone_number varchar(255),
+    about varchar(255),
+    consultation_fee float(53),
+    is_available boolean,
+    rating float(53),
+    total_patients integer,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_doctors_email unique (email)
+);
+
+create table doctor_qualifications (
+    doctor_id bigint not null,
+    qualification varchar(255),
+    constraint fk_doctor_qualifications_doctor foreign key (doctor_id) references doctors (id)
+);
+
+create table doctor_available_slots (
+    doctor_id bigint not null,
+    time_slot timestamp(6),
+    constraint fk_doctor_available_slots_doctor foreign key (doctor_id) references doctors (id)
+);
+
+create table doctor_availability (
+    id bigint generated by default as identity,
+    version bigint default 0 not null,
+    doctor_id bigint not null,
+    day_of_week varchar(255) not null check (day_of_week in ('MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY')),
+    start_time time(6) not null,
+    end_time time(6) not null,
+    slot_duration_minutes integer not null,
+    is_active boolean not null,
+    break_start_time time(6),
+    break_end_time time(6),
+    primary key (id),
+    constraint fk_doctor_availability_doctor foreign key (doctor_id) references doctors (id)
+);
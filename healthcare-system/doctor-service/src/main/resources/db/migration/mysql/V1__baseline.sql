@@ -0,0 +1,50 @@
+-- Schema as ddl-auto=update created it before migrations; existing databases are baselined at V1
+
+create table doctors (
+    id bigint not null auto_increment,
+    version bigint default 0 not null,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    specialization varchar(255),
+    license_number varchar(255),
+    years_of_experience integer,
+    phone_number varchar(255),
+    about varchar(255),
+    consultation_fee float(53),
+    is_available bit,
+    rating float(53),
+    total_patients integer,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_doctors_email unique (email)
+) engine=InnoDB;
+
+create table doctor_qualifications (
+    doctor_id bigint not null,
+    qualification varchar(255),
+    constraint fk_doctor_qualifications_doctor foreign key (doctor_id) references doctors (id)
+) engine=InnoDB;
+
+create table doctor_available_slots (
+    doctor_id bigint not null,
+    time_slot datetime(6),
+    constraint fk_doctor_available_slots_doctor foreign key (doctor_id) references doctors (id)
+) engine=InnoDB;
+
+create table doctor_availability (
+    id bigint not null auto_increment,
+    version bigint default 0 not null,
+    doctor_id bigint not null,
+    day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') not null,
+    start_time time(6) not null,
+    end_time time(6) not null,
+    slot_duration_minutes integer not null,
+    is_active bit not null,
+    break_start_time time(6),
+    break_end_time time(6),
+    primary key (id),
+    constraint fk_doctor_availability_doctor foreign key (doctor_id) references doctors (id)
+) engine=InnoDB;
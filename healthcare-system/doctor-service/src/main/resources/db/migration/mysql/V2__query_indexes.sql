@@ -0,0 +1,13 @@
+-- Composite indexes for the slot, schedule and search queries; see the query-plans module
+
+-- findByDoctorIdAndDayOfWeekAndIsActiveTrue, findActiveVersions, findAvailableSlots, findAvailableDays
+create index idx_availability_doctor_day on doctor_availability (doctor_id, day_of_week, is_active);
+
+-- findAvailableDoctorsInTimeRange drives from the slot range, then joins doctors by primary key
+create index idx_available_slots_time on doctor_available_slots (time_slot, doctor_id);
+
+-- findBySpecialization, findBySpecializationAndIsAvailableTrue, findBySpecializationAndMinExperience
+create index idx_doctors_specialization on doctors (specialization, is_available, years_of_experience);
+
+-- findByRatingGreaterThanEqual
+create index idx_doctors_rating on doctors (rating);
@@ -0,0 +1,11 @@
+-- IDs come from pooled sequences instead of auto_increment, so Hibernate can batch inserts.
+-- MySQL has no sequences; Hibernate keeps each one as a single-row table and reads and advances
+-- next_val on a connection of its own. Each value fetched covers the 50 IDs up to and including
+-- it (allocationSize on the entities), so every table starts one block past the rows already there.
+-- The CSV import writes with plain JDBC and draws its IDs from the same sequences (EntityIds).
+
+create table doctors_seq (next_val bigint) engine=InnoDB;
+insert into doctors_seq select coalesce(max(id), 0) + 50 from doctors;
+
+create table doctor_availability_seq (next_val bigint) engine=InnoDB;
+insert into doctor_availability_seq select coalesce(max(id), 0) + 50 from doctor_availability;
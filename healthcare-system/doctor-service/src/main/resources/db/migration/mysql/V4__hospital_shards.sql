@@ -0,0 +1,14 @@
+-- Hospital shard key and the shard directory; see com.healthcare.shard. Every shard runs every
+-- migration, but only the primary database's hospital_shards is read. Doctors without a hospital,
+-- and hospitals missing from the directory, stay on the default shard.
+
+alter table doctors add column hospital_id bigint;
+
+-- Shard moves select a hospital's doctors
+create index idx_doctors_hospital on doctors (hospital_id);
+
+create table hospital_shards (
+    hospital_id bigint not null,
+    shard varchar(64) not null,
+    primary key (hospital_id)
+) engine=InnoDB;
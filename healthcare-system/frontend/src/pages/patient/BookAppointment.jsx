@@ -37,6 +37,24 @@ function BookAppointment() {
     }
   }, [selectedDoctor, selectedDate]);
 
+  // Refresh the slots when someone books or cancels with this doctor on the selected day
+  useEffect(() => {
+    if (!selectedDoctor || typeof EventSource === 'undefined') {
+      return undefined;
+    }
+    const day = selectedDate.toISOString().split('T')[0];
+    const stream = new EventSource(`/api/appointments/availability/stream?doctorId=${selectedDoctor}`);
+    const onSlotChange = (event) => {
+      const { slot } = JSON.parse(event.data);
+      if (slot && slot.startsWith(day)) {
+        fetchAvailableSlots();
+      }
+    };
+    stream.addEventListener('SLOT_TAKEN', onSlotChange);
+    stream.addEventListener('SLOT_FREED', onSlotChange);
+    return () => stream.close();
+  }, [selectedDoctor, selectedDate]);
+
   const fetchAvailableSlots = async () => {
     try {
       const response = await axios.get(`/api/doctors/${selectedDoctor}/availability`, {
@@ -0,0 +1,175 @@
+package com.healthcare.cache;
+
+import com.healthcare.dto.CacheStatsDTO;
+import com.healthcare.dto.DepartmentDTO;
+import com.healthcare.dto.HospitalDTO;
+import com.healthcare.dto.HospitalOverviewDTO;
+import com.healthcare.model.Department;
+import com.healthcare.model.Hospital;
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.HospitalRepository;
+import com.healthcare.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache regions for hospital and department lookups.
+ * Hospital data changes a few times a day but is read on almost every patient page,
+ * so reads are served from memory and writes evict the affected keys after commit.
+ */
+@Slf4j
+@Component
+public class HospitalCache {
+
+    public static final String HOSPITALS = "hospitals";
+    public static final String DEPARTMENTS_BY_HOSPITAL = "departmentsByHospital";
+    public static final String DEPARTMENT_COUNTS = "departmentCountsByHospital";
+    public static final String OVERVIEWS = "hospitalOverviews";
+
+    @Value("${hospital.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${hospital.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${hospital.cache.warm-on-startup:false}")
+    private boolean warmOnStartup;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private BoundedCache<Long, HospitalDTO> hospitals;
+    private BoundedCache<Long, List<DepartmentDTO>> departmentsByHospital;
+    private BoundedCache<Long, Integer> departmentCounts;
+    private BoundedCache<Long, HospitalOverviewDTO> overviews;
+
+    // Seeded from the clock so revisions, and the ETags built from them, do not repeat across restarts
+    private final AtomicLong revisions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    @PostConstruct
+    protected void init() {
+        long ttlMillis = ttlSeconds * 1000L;
+        hospitals = new BoundedCache<>(HOSPITALS, maxEntries, ttlMillis);
+        departmentsByHospital = new BoundedCache<>(DEPARTMENTS_BY_HOSPITAL, maxEntries, ttlMillis);
+        departmentCounts = new BoundedCache<>(DEPARTMENT_COUNTS, maxEntries, ttlMillis);
+        overviews = new BoundedCache<>(OVERVIEWS, maxEntries, ttlMillis);
+    }
+
+    public HospitalDTO getHospital(Long hospitalId, Function<Long, HospitalDTO> loader) {
+        return hospitals.get(hospitalId, loader);
+    }
+
+    /**
+     * @return The cached hospital, or null without loading it
+     */
+    public HospitalDTO peekHospital(Long hospitalId) {
+        return hospitals.peek(hospitalId);
+    }
+
+    public List<DepartmentDTO> getDepartments(Long hospitalId, Function<Long, List<DepartmentDTO>> loader) {
+        return departmentsByHospital.get(hospitalId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    public Integer getDepartmentCount(Long hospitalId, Function<Long, Integer> loader) {
+        return departmentCounts.get(hospitalId, loader);
+    }
+
+    /**
+     * Cached overview; each rebuild is stamped with a fresh revision
+     */
+    public HospitalOverviewDTO getOverview(Long hospitalId, Function<Long, HospitalOverviewDTO> loader) {
+        return overviews.get(hospitalId, id -> {
+            HospitalOverviewDTO overview = loader.apply(id);
+            overview.setRevision(revisions.incrementAndGet());
+            return overview;
+        });
+    }
+
+    /**
+     * Evict a hospital after commit. Department DTOs embed their hospital, so the
+     * hospital's department list goes too.
+     * @param hospitalId Hospital ID
+     */
+    public void evictHospital(Long hospitalId) {
+        AfterCommit.run(() -> {
+            hospitals.invalidate(hospitalId);
+            departmentsByHospital.invalidate(hospitalId);
+            overviews.invalidate(hospitalId);
+        });
+    }
+
+    /**
+     * Evict the department list and count of a hospital after commit. Department writes
+     * also move the hospital's materialized counts and version, so the hospital goes too.
+     * @param hospitalId Hospital ID
+     */
+    public void evictDepartments(Long hospitalId) {
+        AfterCommit.run(() -> {
+            hospitals.invalidate(hospitalId);
+            departmentsByHospital.invalidate(hospitalId);
+            departmentCounts.invalidate(hospitalId);
+            overviews.invalidate(hospitalId);
+        });
+    }
+
+    /**
+     * Evict the overview of a hospital after commit, e.g. when its admins change
+     * @param hospitalId Hospital ID, ignored if null
+     */
+    public void evictOverview(Long hospitalId) {
+        if (hospitalId != null) {
+            AfterCommit.run(() -> overviews.invalidate(hospitalId));
+        }
+    }
+
+    public void clear() {
+        hospitals.invalidateAll();
+        departmentsByHospital.invalidateAll();
+        departmentCounts.invalidateAll();
+        overviews.invalidateAll();
+    }
+
+    public List<CacheStatsDTO> stats() {
+        return List.of(hospitals.stats(), departmentsByHospital.stats(), departmentCounts.stats(), overviews.stats());
+    }
+
+    /**
+     * Preload active hospitals with their departments in two queries so the first
+     * patient requests after a deploy do not all miss
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        if (!warmOnStartup) {
+            return;
+        }
+        List<Hospital> active = hospitalRepository.findByIsActiveTrue();
+        Map<Long, List<Department>> departments = departmentRepository.findAll().stream()
+            .collect(Collectors.groupingBy(department -> department.getHospital().getId()));
+
+        for (Hospital hospital : active) {
+            List<Department> hospitalDepartments = departments.getOrDefault(hospital.getId(), List.of());
+            hospitals.put(hospital.getId(), HospitalDTO.fromEntity(hospital));
+            departmentsByHospital.put(hospital.getId(), hospitalDepartments.stream()
+                .map(DepartmentDTO::fromEntity)
+                .collect(Collectors.toUnmodifiableList()));
+            departmentCounts.put(hospital.getId(), hospitalDepartments.size());
+        }
+        log.info("Hospital cache warmed with {} hospitals", active.size());
+    }
+}
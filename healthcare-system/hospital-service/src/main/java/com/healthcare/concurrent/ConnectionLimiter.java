@@ -0,0 +1,124 @@
+package com.healthcare.concurrent;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the connections checked out of a pool at the pool's own size.
+ *
+ * With platform threads Tomcat's worker pool bounds how many requests can ask for a connection at
+ * once. Virtual threads remove that bound, and thousands of callers spinning in Hikari's hand-off
+ * queue cost far more than waiting on a fair semaphore. Callers therefore queue here, in arrival
+ * order, and only as many as the pool can serve reach it. A permit is returned when the connection
+ * is closed.
+ */
+public class ConnectionLimiter extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final long waitMillis;
+
+    public ConnectionLimiter(DataSource target, int maxConnections, long waitMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxConnections = maxConnections;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * Wrap a data source, sized to its pool when it is Hikari with maximum-pool-size set
+     * @param fallbackMaxConnections Limit for a data source of unknown size; Hikari's default is 10
+     * @param waitMillis Longest wait for a connection before failing
+     */
+    public static ConnectionLimiter wrap(DataSource dataSource, int fallbackMaxConnections, long waitMillis) {
+        int maxConnections = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 0;
+        return new ConnectionLimiter(dataSource, maxConnections > 0 ? maxConnections : fallbackMaxConnections,
+            waitMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return Callers waiting for a connection, an estimate
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database connection free after " + waitMillis
+                    + " ms; " + maxConnections + " in use, " + permits.getQueueLength() + " waiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    /**
+     * @return The connection, giving its permit back on the first close
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionLimiter.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "close":
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    default:
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            });
+    }
+}
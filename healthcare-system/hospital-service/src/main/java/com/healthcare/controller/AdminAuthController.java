@@ -0,0 +1,50 @@
+package com.healthcare.controller;
+
+import com.healthcare.dto.AdminAuthRequest;
+import com.healthcare.dto.AdminAuthResponse;
+import com.healthcare.security.JwtTokenProvider;
+import com.healthcare.service.AdminService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Authentication controller for hospital admins
+ * Handles login, logout and revoking every session of the current admin
+ */
+@RestController
+@RequestMapping("/api/admins/auth")
+public class AdminAuthController {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @PostMapping("/login")
+    public ResponseEntity<AdminAuthResponse> login(@Valid @RequestBody AdminAuthRequest request) {
+        return ResponseEntity.ok(adminService.authenticate(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request);
+        if (token != null) {
+            adminService.logout(token);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAllTokens(Authentication authentication) {
+        adminService.revokeToken(authentication.getName());
+        return ResponseEntity.ok().build();
+    }
+}
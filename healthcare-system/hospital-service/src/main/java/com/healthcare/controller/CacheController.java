@@ -0,0 +1,34 @@
+package com.healthcare.controller;
+
+import com.healthcare.cache.HospitalCache;
+import com.healthcare.dto.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+public class CacheController {
+
+    @Autowired
+    private HospitalCache hospitalCache;
+
+    @GetMapping("/stats")
+    @PreAuthorize("@adminPermissions.has(authentication, 'STATS_READ')")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(hospitalCache.stats());
+    }
+
+    @DeleteMapping
+    @PreAuthorize("@adminPermissions.has(authentication, 'CACHE_MANAGE')")
+    public ResponseEntity<Void> clearCache() {
+        hospitalCache.clear();
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.healthcare.controller;
+
+import com.healthcare.dto.HospitalDTO;
+import com.healthcare.dto.HospitalOverviewDTO;
+import com.healthcare.dto.NearbyHospitalDTO;
+import com.healthcare.metrics.QueryBudget;
+import com.healthcare.service.HospitalService;
+import com.healthcare.util.ETags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hospital lookups for any authenticated caller: patients, doctors and services forwarding
+ * their token. Changes need the admin permission checked on each method.
+ */
+@RestController
+@RequestMapping("/api/hospitals")
+public class HospitalController {
+
+    private static final int MAX_RESULTS = 100;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    /**
+     * Active hospitals open at the given local time, or now if omitted
+     */
+    @GetMapping("/open")
+    @QueryBudget(2)
+    public ResponseEntity<List<HospitalDTO>> getOpenHospitals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(hospitalService.getOpenHospitals(at != null ? at : LocalDateTime.now()));
+    }
+
+    /**
+     * A single hospital, tagged with its version.
+     * If-None-Match is answered from the version alone, before the hospital is loaded.
+     */
+    @GetMapping("/{id}")
+    @QueryBudget(3)
+    public ResponseEntity<HospitalDTO> getHospital(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.of(id, hospitalService.getHospitalVersion(id)))) {
+            return null;
+        }
+        HospitalDTO hospital = hospitalService.getHospitalById(id);
+        return ResponseEntity.ok().eTag(ETags.of(id, hospital.getVersion())).body(hospital);
+    }
+
+    /**
+     * Update a hospital; with If-Match, answers 412 if it changed since that ETag was read
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("@adminPermissions.has(authentication, 'HOSPITAL_WRITE')")
+    public ResponseEntity<HospitalDTO> updateHospital(
+            @PathVariable Long id,
+            @RequestBody HospitalDTO hospitalDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        HospitalDTO hospital = hospitalService.updateHospital(id, hospitalDTO, ETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(ETags.of(id, hospital.getVersion())).body(hospital);
+    }
+
+    /**
+     * Hospital, departments and admins for the detail page in one response.
+     * Answers 304 when the client's If-None-Match still matches the cached overview.
+     */
+    @GetMapping("/{id}/overview")
+    @QueryBudget(5)
+    public ResponseEntity<HospitalOverviewDTO> getHospitalOverview(@PathVariable Long id, WebRequest request) {
+        HospitalOverviewDTO overview = hospitalService.getHospitalOverview(id);
+        String etag = "\"" + id + "-" + overview.getRevision() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(overview);
+    }
+
+    /**
+     * The k hospitals closest to a point, optionally restricted to specializations
+     */
+    @GetMapping("/nearest")
+    @QueryBudget(2)
+    public ResponseEntity<List<NearbyHospitalDTO>> getNearestHospitals(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) List<String> specializations,
+            @RequestParam(defaultValue = "false") boolean matchAll) {
+        return ResponseEntity.ok(hospitalService.findNearestHospitals(
+            lat, lon, Math.min(k, MAX_RESULTS), specializations, matchAll));
+    }
+
+    /**
+     * Hospitals within a radius of a point, nearest first
+     */
+    @GetMapping("/nearby")
+    @QueryBudget(2)
+    public ResponseEntity<List<NearbyHospitalDTO>> getHospitalsNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam double radiusKm,
+            @RequestParam(required = false) List<String> specializations,
+            @RequestParam(defaultValue = "false") boolean matchAll,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(hospitalService.findHospitalsWithinRadius(
+            lat, lon, radiusKm, specializations, matchAll, Math.min(limit, MAX_RESULTS)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.healthcare.controller;
+
+import com.healthcare.dto.ImportReport;
+import com.healthcare.importer.HospitalImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin/import")
+public class ImportController {
+
+    @Autowired
+    private HospitalImportService hospitalImportService;
+
+    @PostMapping("/hospitals")
+    @PreAuthorize("@adminPermissions.has(authentication, 'BULK_IMPORT')")
+    public ResponseEntity<ImportReport> importHospitals(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(hospitalImportService.importHospitals(input));
+        }
+    }
+
+    @PostMapping("/departments")
+    @PreAuthorize("@adminPermissions.has(authentication, 'BULK_IMPORT')")
+    public ResponseEntity<ImportReport> importDepartments(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(hospitalImportService.importDepartments(input));
+        }
+    }
+}
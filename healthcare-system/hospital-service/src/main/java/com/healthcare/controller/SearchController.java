@@ -0,0 +1,68 @@
+package com.healthcare.controller;
+
+import com.healthcare.dto.DepartmentDTO;
+import com.healthcare.dto.HospitalDTO;
+import com.healthcare.dto.SearchStatsDTO;
+import com.healthcare.metrics.QueryBudget;
+import com.healthcare.search.FullTextIndex;
+import com.healthcare.service.DepartmentService;
+import com.healthcare.service.HospitalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Search for any authenticated caller; the index administration under /admin needs admin permissions
+ */
+@RestController
+@RequestMapping("/api")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    /**
+     * Ranked full-text search over hospital descriptions and facilities, e.g. ?q=MRI dialysis
+     */
+    @GetMapping("/search/hospitals")
+    @QueryBudget(2)
+    public ResponseEntity<List<HospitalDTO>> searchHospitals(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(hospitalService.searchHospitals(q, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/search/departments")
+    @QueryBudget(2)
+    public ResponseEntity<List<DepartmentDTO>> searchDepartments(@RequestParam String q,
+                                                                 @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(departmentService.searchDepartments(q, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/admin/search/stats")
+    @PreAuthorize("@adminPermissions.has(authentication, 'STATS_READ')")
+    public ResponseEntity<List<SearchStatsDTO>> getSearchStats() {
+        return ResponseEntity.ok(fullTextIndex.stats());
+    }
+
+    @PostMapping("/admin/search/reindex")
+    @PreAuthorize("@adminPermissions.has(authentication, 'SEARCH_MANAGE')")
+    public ResponseEntity<List<SearchStatsDTO>> reindex() {
+        fullTextIndex.rebuild();
+        return ResponseEntity.ok(fullTextIndex.stats());
+    }
+}
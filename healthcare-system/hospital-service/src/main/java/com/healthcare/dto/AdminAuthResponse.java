@@ -1,5 +1,6 @@
 package com.healthcare.dto;
 
+import com.healthcare.model.Admin;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,5 +21,25 @@ public class AdminAuthResponse {
     private String role;
     private Long hospitalId;
     private String permissions;
+    private Long permissionMask;
     private Boolean isActive;
+
+    /**
+     * Profile part of the response; the token and permission mask are set by the caller
+     * @param admin Authenticated admin
+     * @return AdminAuthResponse without token
+     */
+    public static AdminAuthResponse fromEntity(Admin admin) {
+        AdminAuthResponse response = new AdminAuthResponse();
+        response.setId(admin.getId());
+        response.setUsername(admin.getUsername());
+        response.setFirstName(admin.getFirstName());
+        response.setLastName(admin.getLastName());
+        response.setEmail(admin.getEmail());
+        response.setRole(admin.getRole());
+        response.setHospitalId(admin.getHospital() != null ? admin.getHospital().getId() : null);
+        response.setPermissions(admin.getPermissions());
+        response.setIsActive(admin.getIsActive());
+        return response;
+    }
 }
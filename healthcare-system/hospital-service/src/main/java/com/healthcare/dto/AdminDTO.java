@@ -1,5 +1,6 @@
 package com.healthcare.dto;
 
+import com.healthcare.model.Admin;
 import lombok.Data;
 import java.time.LocalDateTime;
 
@@ -23,4 +24,57 @@ public class AdminDTO {
     
     // Additional fields for nested data
     private HospitalDTO hospital;
+
+    /**
+     * Convert Admin entity to AdminDTO, with its hospital nested
+     * @param admin Admin entity
+     * @return AdminDTO
+     */
+    public static AdminDTO fromEntity(Admin admin) {
+        AdminDTO dto = new AdminDTO();
+        dto.setId(admin.getId());
+        dto.setUsername(admin.getUsername());
+        dto.setFirstName(admin.getFirstName());
+        dto.setLastName(admin.getLastName());
+        dto.setEmail(admin.getEmail());
+        dto.setPhoneNumber(admin.getPhoneNumber());
+        dto.setRole(admin.getRole());
+        dto.setPosition(admin.getPosition());
+        dto.setDepartment(admin.getDepartment());
+        dto.setPermissions(admin.getPermissions());
+        dto.setLastLogin(admin.getLastLogin());
+        dto.setIsActive(admin.getIsActive());
+        dto.setCreatedAt(admin.getCreatedAt());
+        dto.setUpdatedAt(admin.getUpdatedAt());
+        if (admin.getHospital() != null) {
+            dto.setHospitalId(admin.getHospital().getId());
+            dto.setHospital(HospitalDTO.fromEntity(admin.getHospital()));
+        }
+        return dto;
+    }
+
+    /**
+     * Convert AdminDTO to Admin entity. Timestamps and the last login are kept by the server,
+     * and the hospital is resolved by the caller.
+     * @return Admin entity
+     */
+    public Admin toEntity() {
+        Admin admin = new Admin();
+        admin.setId(this.id);
+        admin.setUsername(this.username);
+        admin.setFirstName(this.firstName);
+        admin.setLastName(this.lastName);
+        admin.setEmail(this.email);
+        admin.setPhoneNumber(this.phoneNumber);
+        if (this.role != null) {
+            admin.setRole(this.role);
+        }
+        admin.setPosition(this.position);
+        admin.setDepartment(this.department);
+        admin.setPermissions(this.permissions);
+        if (this.isActive != null) {
+            admin.setIsActive(this.isActive);
+        }
+        return admin;
+    }
 }
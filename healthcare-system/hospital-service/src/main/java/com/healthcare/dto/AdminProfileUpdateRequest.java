@@ -1,5 +1,6 @@
 package com.healthcare.dto;
 
+import com.healthcare.model.Admin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -21,4 +22,19 @@ public class AdminProfileUpdateRequest {
     private String department;
     private Long hospitalId;
     private String permissions;
+
+    /**
+     * Copy the profile onto an admin, absent fields included as null.
+     * The hospital is not touched; hospitalId is resolved by the caller.
+     * @param admin Admin entity to update
+     */
+    public void applyTo(Admin admin) {
+        admin.setFirstName(this.firstName);
+        admin.setLastName(this.lastName);
+        admin.setEmail(this.email);
+        admin.setPhoneNumber(this.phoneNumber);
+        admin.setPosition(this.position);
+        admin.setDepartment(this.department);
+        admin.setPermissions(this.permissions);
+    }
 }
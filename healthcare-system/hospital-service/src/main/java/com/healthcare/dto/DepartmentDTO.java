@@ -1,5 +1,6 @@
 package com.healthcare.dto;
 
+import com.healthcare.model.Department;
 import lombok.Data;
 
 @Data
@@ -17,7 +18,67 @@ public class DepartmentDTO {
     private String email;
     private String location;
     private Boolean isActive;
+    private Long version;
     
     // Additional fields for nested data
     private HospitalDTO hospital;
+
+    /**
+     * Convert Department entity to DepartmentDTO, with its hospital nested
+     * @param department Department entity
+     * @return DepartmentDTO
+     */
+    public static DepartmentDTO fromEntity(Department department) {
+        DepartmentDTO dto = new DepartmentDTO();
+        dto.setId(department.getId());
+        dto.setName(department.getName());
+        dto.setDescription(department.getDescription());
+        dto.setHeadDoctor(department.getHeadDoctor());
+        dto.setNumberOfDoctors(department.getNumberOfDoctors());
+        dto.setNumberOfStaff(department.getNumberOfStaff());
+        dto.setSpecializations(department.getSpecializations());
+        dto.setFacilities(department.getFacilities());
+        dto.setContactNumber(department.getContactNumber());
+        dto.setEmail(department.getEmail());
+        dto.setLocation(department.getLocation());
+        dto.setIsActive(department.getIsActive());
+        dto.setVersion(department.getVersion());
+        if (department.getHospital() != null) {
+            dto.setHospitalId(department.getHospital().getId());
+            dto.setHospital(HospitalDTO.fromEntity(department.getHospital()));
+        }
+        return dto;
+    }
+
+    /**
+     * Convert DepartmentDTO to Department entity; the caller resolves and sets the hospital
+     * @return Department entity
+     */
+    public Department toEntity() {
+        Department department = new Department();
+        department.setId(this.id);
+        applyTo(department);
+        return department;
+    }
+
+    /**
+     * Copy the editable fields onto an existing department, absent ones included as null except isActive.
+     * The hospital is not touched; hospitalId is resolved by the caller.
+     * @param department Department entity to update
+     */
+    public void applyTo(Department department) {
+        department.setName(this.name);
+        department.setDescription(this.description);
+        department.setHeadDoctor(this.headDoctor);
+        department.setNumberOfDoctors(this.numberOfDoctors);
+        department.setNumberOfStaff(this.numberOfStaff);
+        department.setSpecializations(this.specializations);
+        department.setFacilities(this.facilities);
+        department.setContactNumber(this.contactNumber);
+        department.setEmail(this.email);
+        department.setLocation(this.location);
+        if (this.isActive != null) {
+            department.setIsActive(this.isActive);
+        }
+    }
 }
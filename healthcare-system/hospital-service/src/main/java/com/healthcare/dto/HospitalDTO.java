@@ -1,5 +1,6 @@
 package com.healthcare.dto;
 
+import com.healthcare.model.Hospital;
 import lombok.Data;
 
 @Data
@@ -7,6 +8,8 @@ public class HospitalDTO {
     private Long id;
     private String name;
     private String address;
+    private Double latitude;
+    private Double longitude;
     private String contactNumber;
     private String email;
     private String website;
@@ -20,4 +23,71 @@ public class HospitalDTO {
     private String emergencyContact;
     private String operatingHours;
     private Boolean isActive;
+    private Long version;
+
+    /**
+     * Convert Hospital entity to HospitalDTO
+     * @param hospital Hospital entity
+     * @return HospitalDTO
+     */
+    public static HospitalDTO fromEntity(Hospital hospital) {
+        HospitalDTO dto = new HospitalDTO();
+        dto.setId(hospital.getId());
+        dto.setName(hospital.getName());
+        dto.setAddress(hospital.getAddress());
+        dto.setLatitude(hospital.getLatitude());
+        dto.setLongitude(hospital.getLongitude());
+        dto.setContactNumber(hospital.getContactNumber());
+        dto.setEmail(hospital.getEmail());
+        dto.setWebsite(hospital.getWebsite());
+        dto.setDescription(hospital.getDescription());
+        dto.setLicenseNumber(hospital.getLicenseNumber());
+        dto.setNumberOfDepartments(hospital.getNumberOfDepartments());
+        dto.setNumberOfDoctors(hospital.getNumberOfDoctors());
+        dto.setNumberOfStaff(hospital.getNumberOfStaff());
+        dto.setFacilities(hospital.getFacilities());
+        dto.setSpecializations(hospital.getSpecializations());
+        dto.setEmergencyContact(hospital.getEmergencyContact());
+        dto.setOperatingHours(hospital.getOperatingHours());
+        dto.setIsActive(hospital.getIsActive());
+        dto.setVersion(hospital.getVersion());
+        return dto;
+    }
+
+    /**
+     * Convert HospitalDTO to Hospital entity; the version is left to Hibernate
+     * @return Hospital entity
+     */
+    public Hospital toEntity() {
+        Hospital hospital = new Hospital();
+        hospital.setId(this.id);
+        applyTo(hospital);
+        return hospital;
+    }
+
+    /**
+     * Copy the editable fields onto an existing hospital, absent ones included as null except isActive
+     * @param hospital Hospital entity to update
+     */
+    public void applyTo(Hospital hospital) {
+        hospital.setName(this.name);
+        hospital.setAddress(this.address);
+        hospital.setLatitude(this.latitude);
+        hospital.setLongitude(this.longitude);
+        hospital.setContactNumber(this.contactNumber);
+        hospital.setEmail(this.email);
+        hospital.setWebsite(this.website);
+        hospital.setDescription(this.description);
+        hospital.setLicenseNumber(this.licenseNumber);
+        hospital.setNumberOfDepartments(this.numberOfDepartments);
+        hospital.setNumberOfDoctors(this.numberOfDoctors);
+        hospital.setNumberOfStaff(this.numberOfStaff);
+        hospital.setFacilities(this.facilities);
+        hospital.setSpecializations(this.specializations);
+        hospital.setEmergencyContact(this.emergencyContact);
+        hospital.setOperatingHours(this.operatingHours);
+        if (this.isActive != null) {
+            hospital.setIsActive(this.isActive);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.healthcare.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Everything the hospital detail page shows, assembled once and cached as a unit.
+ * Department, doctor and staff totals are the materialized counts on the hospital.
+ */
+@Data
+public class HospitalOverviewDTO {
+    private HospitalDTO hospital;
+    private List<DepartmentSummary> departments;
+    private List<AdminSummary> admins;
+
+    // Changes whenever the cached overview is rebuilt; drives the ETag
+    @JsonIgnore
+    private long revision;
+
+    @Data
+    public static class DepartmentSummary {
+        private Long id;
+        private String name;
+        private String headDoctor;
+        private Integer numberOfDoctors;
+        private Integer numberOfStaff;
+        private String specializations;
+        private String location;
+        private String contactNumber;
+        private Boolean isActive;
+    }
+
+    @Data
+    public static class AdminSummary {
+        private Long id;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String role;
+        private String position;
+        private String department;
+        private Boolean isActive;
+    }
+}
@@ -0,0 +1,42 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImportReport {
+
+    private static final int MAX_LISTED_REJECTIONS = 1000;
+
+    private String entity;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long durationMillis;
+    private List<RejectedRow> rejectedRows = new ArrayList<>();
+
+    public ImportReport(String entity) {
+        this.entity = entity;
+    }
+
+    public void reject(long lineNumber, String reason) {
+        rejected++;
+        if (rejectedRows.size() < MAX_LISTED_REJECTIONS) {
+            rejectedRows.add(new RejectedRow(lineNumber, reason));
+        }
+    }
+
+    // A rejected input line with the reason it was skipped
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long line;
+        private String reason;
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchStatsDTO {
+    private String index;
+    private int documents;
+    private int terms;
+    private long queries;
+    private long meanMicros;
+    private long p50Micros;
+    private long p99Micros;
+    private long maxMicros;
+}
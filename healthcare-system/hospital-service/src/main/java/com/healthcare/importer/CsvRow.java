@@ -0,0 +1,73 @@
+package com.healthcare.importer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One CSV record with by-name access. Column names are matched ignoring case,
+ * underscores and spaces, so "licenseNumber", "license_number" and "License Number" agree.
+ */
+public class CsvRow {
+
+    private final Map<String, Integer> columns;
+    private final List<String> values;
+    private final long lineNumber;
+
+    CsvRow(Map<String, Integer> columns, List<String> values, long lineNumber) {
+        this.columns = columns;
+        this.values = values;
+        this.lineNumber = lineNumber;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return Trimmed value, or null when the column is missing or blank
+     */
+    public String get(String column) {
+        Integer index = columns.get(normalizeColumn(column));
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    public String require(String column) {
+        String value = get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    public Integer getInt(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number: " + value);
+        }
+    }
+
+    public Double getDouble(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number: " + value);
+        }
+    }
+
+    public Boolean getBoolean(String column, boolean defaultValue) {
+        String value = get(column);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    static String normalizeColumn(String column) {
+        return column.replace("_", "").replace(" ", "").replace("\uFEFF", "").toLowerCase(Locale.ROOT);
+    }
+}
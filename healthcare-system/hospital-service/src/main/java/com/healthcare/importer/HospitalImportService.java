@@ -0,0 +1,426 @@
+package com.healthcare.importer;
+
+import com.healthcare.cache.HospitalCache;
+import com.healthcare.dto.ImportReport;
+import com.healthcare.index.HospitalGeoIndex;
+import com.healthcare.index.OperatingHoursIndex;
+import com.healthcare.index.SpecializationIndex;
+import com.healthcare.model.Department;
+import com.healthcare.model.Hospital;
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.HospitalRepository;
+import com.healthcare.search.FullTextIndex;
+import com.healthcare.util.AfterCommit;
+import com.healthcare.util.EntityIds;
+import com.healthcare.util.GeoCoordinates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk CSV import of hospitals and departments.
+ *
+ * Files are stream-parsed and processed in chunks: each chunk checks uniqueness with one
+ * IN query, inserts with JDBC batching and commits in its own transaction, so a
+ * network-sized onboarding file never sits in memory and a bad chunk only loses itself.
+ * IDs are taken from the entities' sequences up front, so tag rows need no lookup of the new rows.
+ */
+@Slf4j
+@Service
+public class HospitalImportService {
+
+    private static final String INSERT_HOSPITAL =
+        "INSERT INTO hospitals (id, name, address, contact_number, email, website, description, license_number, " +
+        "number_of_departments, number_of_doctors, number_of_staff, facilities, specializations, " +
+        "emergency_contact, operating_hours, is_active, latitude, longitude) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_HOSPITAL_TAG =
+        "INSERT INTO hospital_specialization_tags (hospital_id, tag) VALUES (?, ?)";
+
+    private static final String INSERT_DEPARTMENT =
+        "INSERT INTO departments (id, name, hospital_id, description, head_doctor, number_of_doctors, " +
+        "number_of_staff, specializations, facilities, contact_number, email, location, is_active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DEPARTMENT_TAG =
+        "INSERT INTO department_specialization_tags (department_id, tag) VALUES (?, ?)";
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SpecializationIndex specializationIndex;
+
+    @Autowired
+    private OperatingHoursIndex operatingHoursIndex;
+
+    @Autowired
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private HospitalCache hospitalCache;
+
+    /**
+     * Import hospitals; license numbers must be unique across the file and the database
+     * @param input CSV with a header row using HospitalDTO field names
+     * @return Counts and rejected rows
+     */
+    public ImportReport importHospitals(InputStream input) throws IOException {
+        ImportReport report = new ImportReport("hospital");
+        long start = System.currentTimeMillis();
+        Set<String> seenLicenses = new HashSet<>();
+        List<PendingRow<Hospital>> chunk = new ArrayList<>(chunkSize);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvRow row;
+            while ((row = csv.next()) != null) {
+                report.setRowsRead(report.getRowsRead() + 1);
+                try {
+                    Hospital hospital = toHospital(row);
+                    if (!seenLicenses.add(hospital.getLicenseNumber())) {
+                        report.reject(row.getLineNumber(), "Duplicate license number in file");
+                        continue;
+                    }
+                    chunk.add(new PendingRow<>(row.getLineNumber(), hospital));
+                } catch (IllegalArgumentException e) {
+                    report.reject(row.getLineNumber(), e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeHospitals(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeHospitals(chunk, report);
+        }
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Hospital import finished: {} imported, {} rejected in {} ms",
+            report.getImported(), report.getRejected(), report.getDurationMillis());
+        return report;
+    }
+
+    /**
+     * Import departments; each row names its hospital by license number and must be
+     * unique by name within that hospital
+     * @param input CSV with a hospitalLicenseNumber column plus DepartmentDTO field names
+     * @return Counts and rejected rows
+     */
+    public ImportReport importDepartments(InputStream input) throws IOException {
+        ImportReport report = new ImportReport("department");
+        long start = System.currentTimeMillis();
+        Set<String> seenKeys = new HashSet<>();
+        List<PendingRow<Department>> chunk = new ArrayList<>(chunkSize);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvRow row;
+            while ((row = csv.next()) != null) {
+                report.setRowsRead(report.getRowsRead() + 1);
+                try {
+                    String hospitalLicense = row.require("hospitalLicenseNumber");
+                    Department department = toDepartment(row);
+                    if (!seenKeys.add(hospitalLicense + '\0' + department.getName())) {
+                        report.reject(row.getLineNumber(), "Duplicate department for hospital in file");
+                        continue;
+                    }
+                    chunk.add(new PendingRow<>(row.getLineNumber(), department, hospitalLicense));
+                } catch (IllegalArgumentException e) {
+                    report.reject(row.getLineNumber(), e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeDepartments(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeDepartments(chunk, report);
+        }
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Department import finished: {} imported, {} rejected in {} ms",
+            report.getImported(), report.getRejected(), report.getDurationMillis());
+        return report;
+    }
+
+    private void writeHospitals(List<PendingRow<Hospital>> chunk, ImportReport report) {
+        List<ImportReport.RejectedRow> rejections = new ArrayList<>();
+        try {
+            int written = transactionTemplate.execute(status -> {
+                Set<String> licenses = chunk.stream()
+                    .map(pending -> pending.value.getLicenseNumber())
+                    .collect(Collectors.toSet());
+                Set<String> existing = toKeyMap(hospitalRepository.findIdsByLicenseNumbers(licenses)).keySet();
+
+                List<Hospital> fresh = new ArrayList<>();
+                for (PendingRow<Hospital> pending : chunk) {
+                    if (existing.contains(pending.value.getLicenseNumber())) {
+                        rejections.add(new ImportReport.RejectedRow(pending.lineNumber,
+                            "Hospital with this license number already exists"));
+                    } else {
+                        fresh.add(pending.value);
+                    }
+                }
+                if (fresh.isEmpty()) {
+                    return 0;
+                }
+
+                List<Long> ids = EntityIds.next(entityManager, Hospital.class, fresh.size());
+                for (int i = 0; i < fresh.size(); i++) {
+                    fresh.get(i).setId(ids.get(i));
+                }
+                jdbcTemplate.batchUpdate(INSERT_HOSPITAL, fresh, fresh.size(), (ps, hospital) -> {
+                    ps.setLong(1, hospital.getId());
+                    ps.setString(2, hospital.getName());
+                    ps.setString(3, hospital.getAddress());
+                    ps.setString(4, hospital.getContactNumber());
+                    ps.setString(5, hospital.getEmail());
+                    ps.setString(6, hospital.getWebsite());
+                    ps.setString(7, hospital.getDescription());
+                    ps.setString(8, hospital.getLicenseNumber());
+                    ps.setObject(9, hospital.getNumberOfDepartments());
+                    ps.setObject(10, hospital.getNumberOfDoctors());
+                    ps.setObject(11, hospital.getNumberOfStaff());
+                    ps.setString(12, hospital.getFacilities());
+                    ps.setString(13, hospital.getSpecializations());
+                    ps.setString(14, hospital.getEmergencyContact());
+                    ps.setString(15, hospital.getOperatingHours());
+                    ps.setBoolean(16, hospital.getIsActive());
+                    ps.setObject(17, hospital.getLatitude());
+                    ps.setObject(18, hospital.getLongitude());
+                });
+
+                List<Object[]> tagRows = new ArrayList<>();
+                Map<Long, Set<String>> tagsById = new HashMap<>();
+                Map<Long, Hospital> byId = new HashMap<>();
+                for (Hospital hospital : fresh) {
+                    Long id = hospital.getId();
+                    byId.put(id, hospital);
+                    hospital.getSpecializationTags().forEach(tag -> tagRows.add(new Object[] {id, tag}));
+                    tagsById.put(id, Set.copyOf(hospital.getSpecializationTags()));
+                }
+                if (!tagRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_HOSPITAL_TAG, tagRows);
+                }
+                AfterCommit.run(() -> {
+                    tagsById.forEach(specializationIndex::indexHospital);
+                    byId.forEach((id, hospital) -> {
+                        boolean active = Boolean.TRUE.equals(hospital.getIsActive());
+                        operatingHoursIndex.indexHospital(id, hospital.getOperatingHours(), active);
+                        fullTextIndex.indexHospital(id, hospital.getDescription(), hospital.getFacilities(), active);
+                        hospitalGeoIndex.indexHospital(id, hospital.getLatitude(), hospital.getLongitude(), active);
+                    });
+                });
+                return fresh.size();
+            });
+            rejections.forEach(rejection -> report.reject(rejection.getLine(), rejection.getReason()));
+            report.setImported(report.getImported() + written);
+            log.debug("Hospital import progress: {} rows read, {} imported", report.getRowsRead(), report.getImported());
+        } catch (DataAccessException e) {
+            log.warn("Hospital import chunk failed", e);
+            chunk.forEach(pending -> report.reject(pending.lineNumber, "Chunk failed: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private void writeDepartments(List<PendingRow<Department>> chunk, ImportReport report) {
+        List<ImportReport.RejectedRow> rejections = new ArrayList<>();
+        try {
+            int written = transactionTemplate.execute(status -> {
+                Set<String> licenses = chunk.stream().map(pending -> pending.key).collect(Collectors.toSet());
+                Map<String, Long> hospitalIds = toKeyMap(hospitalRepository.findIdsByLicenseNumbers(licenses));
+                Set<String> names = chunk.stream().map(pending -> pending.value.getName()).collect(Collectors.toSet());
+                Set<String> existing = departmentKeys(hospitalIds.values(), names).keySet();
+
+                List<Department> fresh = new ArrayList<>();
+                for (PendingRow<Department> pending : chunk) {
+                    Long hospitalId = hospitalIds.get(pending.key);
+                    if (hospitalId == null) {
+                        rejections.add(new ImportReport.RejectedRow(pending.lineNumber,
+                            "Hospital not found: " + pending.key));
+                    } else if (existing.contains(departmentKey(hospitalId, pending.value.getName()))) {
+                        rejections.add(new ImportReport.RejectedRow(pending.lineNumber,
+                            "Department with this name already exists in the hospital"));
+                    } else {
+                        Hospital hospital = new Hospital();
+                        hospital.setId(hospitalId);
+                        pending.value.setHospital(hospital);
+                        fresh.add(pending.value);
+                    }
+                }
+                if (fresh.isEmpty()) {
+                    return 0;
+                }
+
+                List<Long> ids = EntityIds.next(entityManager, Department.class, fresh.size());
+                for (int i = 0; i < fresh.size(); i++) {
+                    fresh.get(i).setId(ids.get(i));
+                }
+                jdbcTemplate.batchUpdate(INSERT_DEPARTMENT, fresh, fresh.size(), (ps, department) -> {
+                    ps.setLong(1, department.getId());
+                    ps.setString(2, department.getName());
+                    ps.setLong(3, department.getHospital().getId());
+                    ps.setString(4, department.getDescription());
+                    ps.setString(5, department.getHeadDoctor());
+                    ps.setObject(6, department.getNumberOfDoctors());
+                    ps.setObject(7, department.getNumberOfStaff());
+                    ps.setString(8, department.getSpecializations());
+                    ps.setString(9, department.getFacilities());
+                    ps.setString(10, department.getContactNumber());
+                    ps.setString(11, department.getEmail());
+                    ps.setString(12, department.getLocation());
+                    ps.setBoolean(13, department.getIsActive());
+                });
+
+                Set<Long> touchedHospitals = fresh.stream()
+                    .map(department -> department.getHospital().getId())
+                    .collect(Collectors.toSet());
+                List<Object[]> tagRows = new ArrayList<>();
+                Map<Long, Set<String>> tagsById = new HashMap<>();
+                Map<Long, Department> byId = new HashMap<>();
+                for (Department department : fresh) {
+                    Long id = department.getId();
+                    byId.put(id, department);
+                    department.getSpecializationTags().forEach(tag -> tagRows.add(new Object[] {id, tag}));
+                    tagsById.put(id, Set.copyOf(department.getSpecializationTags()));
+                }
+                if (!tagRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_DEPARTMENT_TAG, tagRows);
+                }
+                AfterCommit.run(() -> {
+                    tagsById.forEach(specializationIndex::indexDepartment);
+                    byId.forEach((id, department) -> fullTextIndex.indexDepartment(id, department.getDescription(),
+                        department.getFacilities(), Boolean.TRUE.equals(department.getIsActive())));
+                });
+                hospitalRepository.reconcileCounts(touchedHospitals);
+                touchedHospitals.forEach(hospitalCache::evictHospital);
+                touchedHospitals.forEach(hospitalCache::evictDepartments);
+                return fresh.size();
+            });
+            rejections.forEach(rejection -> report.reject(rejection.getLine(), rejection.getReason()));
+            report.setImported(report.getImported() + written);
+            log.debug("Department import progress: {} rows read, {} imported", report.getRowsRead(), report.getImported());
+        } catch (DataAccessException e) {
+            log.warn("Department import chunk failed", e);
+            chunk.forEach(pending -> report.reject(pending.lineNumber, "Chunk failed: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private Hospital toHospital(CsvRow row) {
+        Hospital hospital = new Hospital();
+        hospital.setName(row.require("name"));
+        hospital.setAddress(row.require("address"));
+        hospital.setContactNumber(row.require("contactNumber"));
+        hospital.setLicenseNumber(row.require("licenseNumber"));
+        hospital.setEmail(row.get("email"));
+        hospital.setWebsite(row.get("website"));
+        hospital.setDescription(row.get("description"));
+        // Counts are materialized from departments, not taken from the file
+        hospital.setNumberOfDepartments(0);
+        hospital.setNumberOfDoctors(0);
+        hospital.setNumberOfStaff(0);
+        hospital.setFacilities(row.get("facilities"));
+        hospital.setSpecializations(row.get("specializations"));
+        hospital.setEmergencyContact(row.get("emergencyContact"));
+        hospital.setOperatingHours(row.get("operatingHours"));
+        hospital.setIsActive(row.getBoolean("isActive", true));
+        hospital.setLatitude(row.getDouble("latitude"));
+        hospital.setLongitude(row.getDouble("longitude"));
+        String invalidCoordinates = GeoCoordinates.validate(hospital.getLatitude(), hospital.getLongitude());
+        if (invalidCoordinates != null) {
+            throw new IllegalArgumentException(invalidCoordinates);
+        }
+        hospital.syncSpecializationTags();
+        return hospital;
+    }
+
+    private Department toDepartment(CsvRow row) {
+        Department department = new Department();
+        department.setName(row.require("name"));
+        department.setDescription(row.get("description"));
+        department.setHeadDoctor(row.get("headDoctor"));
+        department.setNumberOfDoctors(row.getInt("numberOfDoctors"));
+        department.setNumberOfStaff(row.getInt("numberOfStaff"));
+        department.setSpecializations(row.get("specializations"));
+        department.setFacilities(row.get("facilities"));
+        department.setContactNumber(row.get("contactNumber"));
+        department.setEmail(row.get("email"));
+        department.setLocation(row.get("location"));
+        department.setIsActive(row.getBoolean("isActive", true));
+        department.syncSpecializationTags();
+        return department;
+    }
+
+    private Map<String, Long> departmentKeys(Collection<Long> hospitalIds, Set<String> names) {
+        Map<String, Long> keys = new HashMap<>();
+        if (hospitalIds.isEmpty()) {
+            return keys;
+        }
+        for (Object[] row : departmentRepository.findIdsByHospitalIdsAndNames(hospitalIds, names)) {
+            keys.put(departmentKey((Long) row[0], (String) row[1]), (Long) row[2]);
+        }
+        return keys;
+    }
+
+    private static String departmentKey(Long hospitalId, String name) {
+        return hospitalId + "\0" + name;
+    }
+
+    private static Map<String, Long> toKeyMap(List<Object[]> rows) {
+        Map<String, Long> map = new HashMap<>();
+        rows.forEach(row -> map.put((String) row[0], (Long) row[1]));
+        return map;
+    }
+
+    private static final class PendingRow<T> {
+        private final long lineNumber;
+        private final T value;
+        private final String key;
+
+        private PendingRow(long lineNumber, T value) {
+            this(lineNumber, value, null);
+        }
+
+        private PendingRow(long lineNumber, T value, String key) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.healthcare.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory spatial index of points on a latitude/longitude grid pyramid.
+ *
+ * Points live in square cells of {@code cellDegrees}; each coarser level doubles the cell edge
+ * and keeps a point count per occupied cell, up to a few dozen cells covering the globe.
+ * Queries walk the pyramid best first, ordered by the exact great-circle distance from the
+ * query to each cell, so empty regions are skipped a whole coarse cell at a time and dense
+ * regions are only opened where they can still beat the current results.
+ * Cell arrays are copy-on-write, so reads are lock free and writes are serialized.
+ */
+public class GeoGridIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final int MAX_TOP_CELLS = 64;
+    // Below one candidate per this many points, measuring each candidate beats walking the grid
+    private static final int DIRECT_SCAN_RATIO = 32;
+    // Absorbs floating point error so a cell bound never exceeds a true distance inside it
+    private static final double BOUND_SLACK_KM = 1e-6;
+    private static final Comparator<Hit> BY_DISTANCE =
+        Comparator.comparingDouble(Hit::distanceKm).thenComparingLong(Hit::id);
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final int top;
+    private final Map<Long, Point[]> cells = new ConcurrentHashMap<>();
+    private final List<Map<Long, Integer>> counts = new ArrayList<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * A ranked spatial match
+     */
+    public record Hit(long id, double distanceKm) {
+    }
+
+    /**
+     * @param cellDegrees Finest cell edge in degrees, e.g. 0.1 is about 11 km of latitude
+     */
+    public GeoGridIndex(double cellDegrees) {
+        if (!(cellDegrees > 0) || cellDegrees > 90) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 90 degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+        int level = 0;
+        while ((long) rows(level) * columns(level) > MAX_TOP_CELLS) {
+            level++;
+        }
+        this.top = level;
+        // Level 0 is the cell map itself
+        for (int i = 0; i <= top; i++) {
+            counts.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Add or move a point
+     * @param id Entity ID
+     * @param latitude Degrees, -90 to 90
+     * @param longitude Degrees, -180 to 180
+     */
+    public synchronized void put(long id, double latitude, double longitude) {
+        remove(id);
+        Point point = new Point(id, latitude, longitude);
+        int row = row(latitude);
+        int column = column(longitude);
+        cells.merge(key(0, row, column), new Point[] {point}, (existing, added) -> {
+            Point[] grown = Arrays.copyOf(existing, existing.length + 1);
+            grown[existing.length] = point;
+            return grown;
+        });
+        for (int level = 1; level <= top; level++) {
+            counts.get(level).merge(key(level, row >> level, column >> level), 1, Integer::sum);
+        }
+        points.put(id, point);
+    }
+
+    public synchronized void remove(long id) {
+        Point point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+        int row = row(point.latitude);
+        int column = column(point.longitude);
+        cells.computeIfPresent(key(0, row, column), (key, existing) -> {
+            Point[] kept = Arrays.stream(existing).filter(candidate -> candidate.id != id).toArray(Point[]::new);
+            return kept.length == 0 ? null : kept;
+        });
+        for (int level = 1; level <= top; level++) {
+            counts.get(level).computeIfPresent(key(level, row >> level, column >> level),
+                (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        counts.forEach(Map::clear);
+        points.clear();
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * The k points closest to a location
+     * @param filter Ids to consider, e.g. hospitals matching a specialization
+     * @return Up to k hits by ascending distance
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, LongPredicate filter) {
+        if (k <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(latitude, longitude);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(BY_DISTANCE.reversed());
+        PriorityQueue<Node> frontier = start(query);
+        while (!frontier.isEmpty()) {
+            Node node = frontier.poll();
+            if (heap.size() == k && node.boundKm > heap.peek().distanceKm()) {
+                break;
+            }
+            if (node.level > 0) {
+                expand(node, query, frontier);
+                continue;
+            }
+            Point[] cell = cells.get(key(0, node.row, node.column));
+            if (cell == null) {
+                continue;
+            }
+            for (Point point : cell) {
+                if (!filter.test(point.id)) {
+                    continue;
+                }
+                offer(heap, k, point, query.distanceKm(point));
+            }
+        }
+        return sorted(heap);
+    }
+
+    /**
+     * Points within a radius of a location
+     * @param filter Ids to consider
+     * @param limit Maximum number of hits
+     * @return Hits by ascending distance
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm, LongPredicate filter, int limit) {
+        if (radiusKm <= 0 || limit <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(latitude, longitude);
+        List<Hit> hits = new ArrayList<>();
+        PriorityQueue<Node> frontier = start(query);
+        while (!frontier.isEmpty()) {
+            Node node = frontier.poll();
+            if (node.boundKm > radiusKm) {
+                break;
+            }
+            if (node.level > 0) {
+                expand(node, query, frontier);
+                continue;
+            }
+            Point[] cell = cells.get(key(0, node.row, node.column));
+            if (cell == null) {
+                continue;
+            }
+            for (Point point : cell) {
+                if (filter.test(point.id)) {
+                    double distance = query.distanceKm(point);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(point.id, distance));
+                    }
+                }
+            }
+        }
+        hits.sort(BY_DISTANCE);
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * The k candidates closest to a location. A small candidate set, e.g. hospitals with a rare
+     * specialization, is measured directly instead of walking cells full of non-candidates.
+     * @param candidates Ids to consider, null for all
+     * @return Up to k hits by ascending distance
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, Collection<Long> candidates) {
+        if (k <= 0) {
+            return List.of();
+        }
+        if (candidates == null) {
+            return nearest(latitude, longitude, k, id -> true);
+        }
+        if (!isSelective(candidates)) {
+            return nearest(latitude, longitude, k, id -> candidates.contains(id));
+        }
+        Query query = new Query(latitude, longitude);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(BY_DISTANCE.reversed());
+        for (Long id : candidates) {
+            Point point = points.get(id);
+            if (point != null) {
+                offer(heap, k, point, query.distanceKm(point));
+            }
+        }
+        return sorted(heap);
+    }
+
+    /**
+     * Candidates within a radius of a location, measured directly when the set is small
+     * @param candidates Ids to consider, null for all
+     * @return Hits by ascending distance
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm,
+                                  Collection<Long> candidates, int limit) {
+        if (candidates == null) {
+            return withinRadius(latitude, longitude, radiusKm, id -> true, limit);
+        }
+        if (!isSelective(candidates)) {
+            return withinRadius(latitude, longitude, radiusKm, id -> candidates.contains(id), limit);
+        }
+        if (radiusKm <= 0 || limit <= 0) {
+            return List.of();
+        }
+        Query query = new Query(latitude, longitude);
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : candidates) {
+            Point point = points.get(id);
+            if (point != null) {
+                double distance = query.distanceKm(point);
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(id, distance));
+                }
+            }
+        }
+        hits.sort(BY_DISTANCE);
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Great-circle distance in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        return new Query(latitude1, longitude1).distanceKm(new Point(0, latitude2, longitude2));
+    }
+
+    private boolean isSelective(Collection<Long> candidates) {
+        return (long) candidates.size() * DIRECT_SCAN_RATIO <= points.size();
+    }
+
+    private static void offer(PriorityQueue<Hit> heap, int k, Point point, double distance) {
+        if (heap.size() < k) {
+            heap.offer(new Hit(point.id, distance));
+        } else if (distance < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.offer(new Hit(point.id, distance));
+        }
+    }
+
+    private static List<Hit> sorted(PriorityQueue<Hit> heap) {
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(BY_DISTANCE);
+        return hits;
+    }
+
+    private PriorityQueue<Node> start(Query query) {
+        PriorityQueue<Node> frontier = new PriorityQueue<>(Comparator.comparingDouble(Node::boundKm));
+        for (Long key : counts.get(top).keySet()) {
+            int row = (int) (key / columns(top));
+            int column = (int) (key % columns(top));
+            frontier.offer(node(top, row, column, query));
+        }
+        if (top == 0) {
+            cells.keySet().forEach(key -> frontier.offer(node(0, (int) (key / columns), (int) (key % columns), query)));
+        }
+        return frontier;
+    }
+
+    private void expand(Node parent, Query query, PriorityQueue<Node> frontier) {
+        int level = parent.level - 1;
+        int lastRow = Math.min(rows(level), 2 * parent.row + 2);
+        int lastColumn = Math.min(columns(level), 2 * parent.column + 2);
+        for (int row = 2 * parent.row; row < lastRow; row++) {
+            for (int column = 2 * parent.column; column < lastColumn; column++) {
+                long key = key(level, row, column);
+                if (level == 0 ? cells.containsKey(key) : counts.get(level).containsKey(key)) {
+                    frontier.offer(node(level, row, column, query));
+                }
+            }
+        }
+    }
+
+    private Node node(int level, int row, int column, Query query) {
+        double size = cellDegrees * (1L << level);
+        double south = -90 + row * size;
+        double west = -180 + column * size;
+        double bound = query.distanceKm(south, Math.min(90, south + size), west, Math.min(180, west + size));
+        return new Node(level, row, column, Math.max(0, bound - BOUND_SLACK_KM));
+    }
+
+    private int rows(int level) {
+        return ((rows - 1) >> level) + 1;
+    }
+
+    private int columns(int level) {
+        return ((columns - 1) >> level) + 1;
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long key(int level, int row, int column) {
+        return (long) row * columns(level) + column;
+    }
+
+    private record Node(int level, int row, int column, double boundKm) {
+    }
+
+    private static final class Point {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final double latitudeRadians;
+        private final double longitudeRadians;
+        private final double cosLatitude;
+
+        private Point(long id, double latitude, double longitude) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.latitudeRadians = Math.toRadians(latitude);
+            this.longitudeRadians = Math.toRadians(longitude);
+            this.cosLatitude = Math.cos(latitudeRadians);
+        }
+    }
+
+    private static final class Query {
+        private final double latitude;
+        private final double longitude;
+        private final double latitudeRadians;
+        private final double longitudeRadians;
+        private final double cosLatitude;
+
+        private Query(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.latitudeRadians = Math.toRadians(latitude);
+            this.longitudeRadians = Math.toRadians(longitude);
+            this.cosLatitude = Math.cos(latitudeRadians);
+        }
+
+        private double distanceKm(Point point) {
+            return haversine(point.latitudeRadians, point.cosLatitude, point.longitudeRadians);
+        }
+
+        /**
+         * Shortest distance to a cell. Off the cell's longitude band the nearest point lies on the
+         * closer meridian edge, where the distance has a single minimum at atan(tan lat / cos dLon).
+         */
+        private double distanceKm(double south, double north, double west, double east) {
+            if (longitude >= west && longitude <= east) {
+                double gap = latitude < south ? south - latitude : latitude > north ? latitude - north : 0;
+                return gap * KM_PER_DEGREE;
+            }
+            double toWest = longitudeGap(west);
+            double toEast = longitudeGap(east);
+            double edge = toWest <= toEast ? west : east;
+            double cosDelta = Math.cos(Math.toRadians(Math.min(toWest, toEast)));
+            if (cosDelta <= 0) {
+                return Math.min(distanceKm(south, edge), distanceKm(north, edge));
+            }
+            double closest = Math.toDegrees(Math.atan(Math.tan(latitudeRadians) / cosDelta));
+            return distanceKm(Math.max(south, Math.min(north, closest)), edge);
+        }
+
+        private double distanceKm(double pointLatitude, double pointLongitude) {
+            double radians = Math.toRadians(pointLatitude);
+            return haversine(radians, Math.cos(radians), Math.toRadians(pointLongitude));
+        }
+
+        private double longitudeGap(double other) {
+            double gap = Math.abs(other - longitude) % 360;
+            return gap > 180 ? 360 - gap : gap;
+        }
+
+        private double haversine(double otherLatitudeRadians, double otherCosLatitude, double otherLongitudeRadians) {
+            double sinLatitude = Math.sin((otherLatitudeRadians - latitudeRadians) / 2);
+            double sinLongitude = Math.sin((otherLongitudeRadians - longitudeRadians) / 2);
+            double a = sinLatitude * sinLatitude + cosLatitude * otherCosLatitude * sinLongitude * sinLongitude;
+            return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+        }
+    }
+}
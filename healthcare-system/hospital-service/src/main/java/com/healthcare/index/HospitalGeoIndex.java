@@ -0,0 +1,72 @@
+package com.healthcare.index;
+
+import com.healthcare.repository.HospitalRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Grid index over the coordinates of active hospitals.
+ * Built from the hospitals table on startup and kept current by the services.
+ */
+@Slf4j
+@Component
+public class HospitalGeoIndex {
+
+    @Value("${hospital.geo.cell-degrees:0.1}")
+    private double cellDegrees;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    private GeoGridIndex hospitals;
+
+    @PostConstruct
+    protected void init() {
+        hospitals = new GeoGridIndex(cellDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        hospitals.clear();
+        for (Object[] row : hospitalRepository.findActiveCoordinates()) {
+            hospitals.put((Long) row[0], (Double) row[1], (Double) row[2]);
+        }
+        log.info("Hospital geo index built: {} hospitals", hospitals.size());
+    }
+
+    /**
+     * Re-index a hospital after its coordinates or active flag changed
+     */
+    public void indexHospital(Long hospitalId, Double latitude, Double longitude, boolean active) {
+        if (active && latitude != null && longitude != null) {
+            hospitals.put(hospitalId, latitude, longitude);
+        } else {
+            hospitals.remove(hospitalId);
+        }
+    }
+
+    /**
+     * @param candidates Hospital ids to consider, null for all
+     */
+    public List<GeoGridIndex.Hit> nearest(double latitude, double longitude, int k, Collection<Long> candidates) {
+        return hospitals.nearest(latitude, longitude, k, candidates);
+    }
+
+    /**
+     * @param candidates Hospital ids to consider, null for all
+     */
+    public List<GeoGridIndex.Hit> withinRadius(double latitude, double longitude, double radiusKm,
+                                               Collection<Long> candidates, int limit) {
+        return hospitals.withinRadius(latitude, longitude, radiusKm, candidates, limit);
+    }
+}
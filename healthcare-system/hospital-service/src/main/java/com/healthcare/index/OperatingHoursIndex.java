@@ -0,0 +1,60 @@
+package com.healthcare.index;
+
+import com.healthcare.repository.HospitalRepository;
+import com.healthcare.util.OperatingHours;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Weekday interval index over the parsed operating hours of active hospitals.
+ * Built from the hospitals table on startup and kept current by the services.
+ */
+@Slf4j
+@Component
+public class OperatingHoursIndex {
+
+    private final WeeklyIntervalIndex hospitals = new WeeklyIntervalIndex();
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, OperatingHours> schedules = new HashMap<>();
+        int unparsed = 0;
+        for (Object[] row : hospitalRepository.findActiveOperatingHours()) {
+            OperatingHours hours = OperatingHours.parse((String) row[1]);
+            if (hours.isEmpty()) {
+                unparsed++;
+            } else {
+                schedules.put((Long) row[0], hours);
+            }
+        }
+        hospitals.replaceAll(schedules);
+        log.info("Operating hours index built: {} hospitals, {} with unparseable hours", schedules.size(), unparsed);
+    }
+
+    /**
+     * Re-index a hospital after its hours or active flag changed
+     * @param hospitalId Hospital ID
+     * @param operatingHours Raw operating hours text
+     * @param active Whether the hospital is active; inactive hospitals are dropped
+     */
+    public void indexHospital(Long hospitalId, String operatingHours, boolean active) {
+        hospitals.put(hospitalId, active ? OperatingHours.parse(operatingHours) : null);
+    }
+
+    public Set<Long> findOpenHospitalIds(LocalDateTime at) {
+        return hospitals.openAt(at.getDayOfWeek(), at.getHour() * 60 + at.getMinute());
+    }
+}
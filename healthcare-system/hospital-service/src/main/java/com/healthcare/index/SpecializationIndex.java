@@ -0,0 +1,76 @@
+package com.healthcare.index;
+
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.HospitalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tag -> id posting maps for hospital and department specializations.
+ * Built from the normalized tag tables on startup and kept current by the services.
+ */
+@Slf4j
+@Component
+public class SpecializationIndex {
+
+    private final TagIndex hospitals = new TagIndex();
+    private final TagIndex departments = new TagIndex();
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        hospitals.clear();
+        departments.clear();
+        load(hospitals, hospitalRepository.findAllSpecializationTagPairs());
+        load(departments, departmentRepository.findAllSpecializationTagPairs());
+        log.info("Specialization index built: {} hospitals, {} departments",
+            hospitals.size(), departments.size());
+    }
+
+    public void indexHospital(Long hospitalId, Collection<String> tags) {
+        hospitals.put(hospitalId, tags);
+    }
+
+    public void indexDepartment(Long departmentId, Collection<String> tags) {
+        departments.put(departmentId, tags);
+    }
+
+    public Set<Long> findHospitalIds(Collection<String> tags, boolean matchAll) {
+        return matchAll ? hospitals.matchAll(tags) : hospitals.matchAny(tags);
+    }
+
+    public Set<Long> findDepartmentIds(Collection<String> tags, boolean matchAll) {
+        return matchAll ? departments.matchAll(tags) : departments.matchAny(tags);
+    }
+
+    public Set<Long> findHospitalIdsByPrefix(Collection<String> prefixes) {
+        return hospitals.matchPrefix(prefixes);
+    }
+
+    public Set<Long> findDepartmentIdsByPrefix(Collection<String> prefixes) {
+        return departments.matchPrefix(prefixes);
+    }
+
+    private static void load(TagIndex index, List<Object[]> idTagPairs) {
+        Map<Long, Set<String>> tagsById = idTagPairs.stream()
+            .collect(Collectors.groupingBy(row -> (Long) row[0],
+                Collectors.mapping(row -> (String) row[1], Collectors.toSet())));
+        tagsById.forEach(index::put);
+    }
+}
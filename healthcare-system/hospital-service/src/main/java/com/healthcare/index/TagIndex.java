@@ -0,0 +1,122 @@
+package com.healthcare.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory posting map from a normalized tag to the ids of the entities carrying it.
+ * Tags are kept sorted, so a prefix lookup is a range scan over the tags sharing it.
+ * Lookups are lock free; writes are serialized so the forward and reverse maps stay in step.
+ */
+public class TagIndex {
+
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> tagsById = new ConcurrentHashMap<>();
+
+    /**
+     * Replace the tags indexed for an entity
+     * @param id Entity ID
+     * @param tags Normalized tags, empty to drop the entity from the index
+     */
+    public synchronized void put(Long id, Collection<String> tags) {
+        remove(id);
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        Set<String> copy = Set.copyOf(tags);
+        tagsById.put(id, copy);
+        for (String tag : copy) {
+            postings.computeIfAbsent(tag, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Remove an entity from every posting list it appears in
+     * @param id Entity ID
+     */
+    public synchronized void remove(Long id) {
+        Set<String> previous = tagsById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String tag : previous) {
+            postings.computeIfPresent(tag, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        tagsById.clear();
+    }
+
+    /**
+     * Ids carrying at least one of the tags (OR)
+     * @param tags Normalized tags
+     * @return Matching ids
+     */
+    public Set<Long> matchAny(Collection<String> tags) {
+        Set<Long> result = new HashSet<>();
+        for (String tag : tags) {
+            result.addAll(postings.getOrDefault(tag, Collections.emptySet()));
+        }
+        return result;
+    }
+
+    /**
+     * Ids carrying at least one tag that starts with one of the prefixes
+     * @param prefixes Normalized tag prefixes, e.g. "cardio" matches "cardiology"
+     * @return Matching ids
+     */
+    public Set<Long> matchPrefix(Collection<String> prefixes) {
+        Set<Long> result = new HashSet<>();
+        for (String prefix : prefixes) {
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values().forEach(result::addAll);
+        }
+        return result;
+    }
+
+    /**
+     * Ids carrying every one of the tags (AND); intersects from the shortest posting list
+     * @param tags Normalized tags
+     * @return Matching ids
+     */
+    public Set<Long> matchAll(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Set<Long>> lists = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            Set<Long> ids = postings.get(tag);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    public Set<String> tags() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    public int size() {
+        return tagsById.size();
+    }
+}
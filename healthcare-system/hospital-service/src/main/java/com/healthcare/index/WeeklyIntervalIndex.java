@@ -0,0 +1,131 @@
+package com.healthcare.index;
+
+import com.healthcare.util.OperatingHours;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-weekday stabbing index over weekly opening intervals.
+ *
+ * Each weekday is cut into elementary segments at every interval boundary, and each segment
+ * stores the sorted ids open throughout it, so a point query is one binary search. Day tables
+ * are immutable snapshots swapped in on write; only the weekdays a change touches are rebuilt.
+ */
+public class WeeklyIntervalIndex {
+
+    private static final DaySlice EMPTY_DAY = new DaySlice(new int[0], new long[0][]);
+
+    private final Map<Long, OperatingHours> schedules = new HashMap<>();
+    private final AtomicReferenceArray<DaySlice> days = new AtomicReferenceArray<>(7);
+
+    public WeeklyIntervalIndex() {
+        for (int i = 0; i < 7; i++) {
+            days.set(i, EMPTY_DAY);
+        }
+    }
+
+    /**
+     * Replace the schedule indexed for an entity
+     * @param id Entity ID
+     * @param hours Parsed schedule, empty to drop the entity from the index
+     */
+    public synchronized void put(Long id, OperatingHours hours) {
+        OperatingHours previous = hours == null || hours.isEmpty() ? schedules.remove(id) : schedules.put(id, hours);
+        Set<DayOfWeek> touched = EnumSet.noneOf(DayOfWeek.class);
+        if (previous != null) {
+            touched.addAll(previous.openDays());
+        }
+        if (hours != null) {
+            touched.addAll(hours.openDays());
+        }
+        touched.forEach(this::rebuildDay);
+    }
+
+    public synchronized void remove(Long id) {
+        put(id, null);
+    }
+
+    /**
+     * Replace the whole index in one pass
+     * @param all Schedules by entity ID
+     */
+    public synchronized void replaceAll(Map<Long, OperatingHours> all) {
+        schedules.clear();
+        all.forEach((id, hours) -> {
+            if (hours != null && !hours.isEmpty()) {
+                schedules.put(id, hours);
+            }
+        });
+        for (DayOfWeek day : DayOfWeek.values()) {
+            rebuildDay(day);
+        }
+    }
+
+    /**
+     * Ids open at a point in the week
+     * @param day Day of week
+     * @param minuteOfDay Minute since midnight, 0-1439
+     * @return Ids in ascending order
+     */
+    public Set<Long> openAt(DayOfWeek day, int minuteOfDay) {
+        DaySlice slice = days.get(day.ordinal());
+        int segment = Arrays.binarySearch(slice.boundaries, minuteOfDay);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        if (segment < 0 || segment >= slice.open.length) {
+            return Set.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long id : slice.open[segment]) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    public synchronized int size() {
+        return schedules.size();
+    }
+
+    private void rebuildDay(DayOfWeek day) {
+        TreeSet<Integer> cuts = new TreeSet<>();
+        schedules.values().forEach(hours -> hours.intervals(day).forEach(interval -> {
+            cuts.add(interval.startMinute());
+            cuts.add(interval.endMinute());
+        }));
+        if (cuts.isEmpty()) {
+            days.set(day.ordinal(), EMPTY_DAY);
+            return;
+        }
+        int[] boundaries = cuts.stream().mapToInt(Integer::intValue).toArray();
+        List<List<Long>> segments = new ArrayList<>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            segments.add(new ArrayList<>());
+        }
+        schedules.forEach((id, hours) -> hours.intervals(day).forEach(interval -> {
+            int from = Arrays.binarySearch(boundaries, interval.startMinute());
+            int to = Arrays.binarySearch(boundaries, interval.endMinute());
+            for (int i = from; i < to; i++) {
+                segments.get(i).add(id);
+            }
+        }));
+        long[][] open = new long[segments.size()][];
+        for (int i = 0; i < open.length; i++) {
+            open[i] = segments.get(i).stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        days.set(day.ordinal(), new DaySlice(boundaries, open));
+    }
+
+    private record DaySlice(int[] boundaries, long[][] open) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.healthcare.metrics;
+
+import com.healthcare.cache.HospitalCache;
+import com.healthcare.dto.CacheStatsDTO;
+import com.healthcare.security.LastLoginTracker;
+import com.healthcare.security.TokenRevocationStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the hospital cache regions, the revoked token set and the pending last-login writes
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    @Autowired
+    private HospitalCache hospitalCache;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private LastLoginTracker lastLoginTracker;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheStatsDTO region : hospitalCache.stats()) {
+            String name = region.getRegion();
+            Gauge.builder("cache.size", hospitalCache, cache -> stat(cache, name, CacheStatsDTO::getSize))
+                .tag("cache", name)
+                .register(registry);
+            counter(registry, "cache.hits", name, CacheStatsDTO::getHits);
+            counter(registry, "cache.misses", name, CacheStatsDTO::getMisses);
+            counter(registry, "cache.evictions", name, CacheStatsDTO::getEvictions);
+        }
+        Gauge.builder("security.revoked.tokens", tokenRevocationStore, TokenRevocationStore::revokedTokenCount)
+            .register(registry);
+        Gauge.builder("admin.last.login.pending", lastLoginTracker, LastLoginTracker::pendingCount)
+            .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String meter, String region, ToDoubleFunction<CacheStatsDTO> value) {
+        FunctionCounter.builder(meter, hospitalCache, cache -> stat(cache, region, value))
+            .tag("cache", region)
+            .register(registry);
+    }
+
+    private static double stat(HospitalCache cache, String region, ToDoubleFunction<CacheStatsDTO> value) {
+        return cache.stats().stream()
+            .filter(stats -> stats.getRegion().equals(region))
+            .mapToDouble(value)
+            .findFirst()
+            .orElse(0);
+    }
+}
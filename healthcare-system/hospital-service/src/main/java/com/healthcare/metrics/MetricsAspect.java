@@ -0,0 +1,96 @@
+package com.healthcare.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers around controller and service methods, JWT handling and password hashing.
+ *
+ * healthcare.method{layer, class, method, exception} covers every @RestController and @Service
+ * method; security.jwt{operation} and security.password{operation} time token parsing and BCrypt.
+ * Turned off as a whole with metrics.method-timers.enabled=false. Percentile histograms
+ * (metrics.histograms.enabled) are off by default since they multiply the number of series.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "metrics.method-timers.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsAspect {
+
+    private static final String NONE = "none";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.histograms.enabled:false}")
+    private boolean histograms;
+
+    // Timers of calls that returned normally, the common case, so they skip the registry lookup
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "healthcare.method", "controller");
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "healthcare.method", "service");
+    }
+
+    @Around("execution(* com.healthcare.security.JwtTokenProvider.*(..)) "
+        + "&& !execution(* com.healthcare.security.JwtTokenProvider.resolveToken(..))")
+    public Object timeJwt(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "security.jwt", null);
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object timePasswordEncoder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "security.password", null);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String layer) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            Timer timer = exception.equals(NONE)
+                ? timers.computeIfAbsent(method, key -> timer(name, layer, joinPoint, NONE))
+                : timer(name, layer, joinPoint, exception);
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String layer, ProceedingJoinPoint joinPoint, String exception) {
+        Timer.Builder builder = Timer.builder(name)
+            .tag("exception", exception)
+            .publishPercentileHistogram(histograms);
+        String method = joinPoint.getSignature().getName();
+        if (layer == null) {
+            builder.tag("operation", method);
+        } else {
+            builder.tag("layer", layer)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", method);
+        }
+        return builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.healthcare.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request handler may run. Statements are counted from entering
+ * the handler until the response is written, so lazy loads during mapping and serialization count too.
+ * Checked by QueryBudgetAspect: enforced under test, sampled and logged in production.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * @return Statements allowed per request
+     */
+    int value();
+}
@@ -0,0 +1,62 @@
+package com.healthcare.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each request ran as hibernate.queries.per.request{method, uri}.
+ * Ordered ahead of Spring Security so user lookups made while authenticating are counted too.
+ * Requests that broke their @QueryBudget are counted as hibernate.query.budget.exceeded and logged
+ * with the call site and the most repeated statement.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "metrics.query-counts.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryBudgetExceededException breach = QueryCounter.breach();
+            Map.Entry<String, Integer> mostRepeated = QueryCounter.mostRepeated();
+            int queries = QueryCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("hibernate.queries.per.request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(queries);
+            if (breach != null) {
+                meterRegistry.counter("hibernate.query.budget.exceeded", "method", request.getMethod(), "uri", uri)
+                    .increment();
+                log.warn("{} {} ran {} statements, over its budget of {}, first excess at {}; most repeated ({}x): {}",
+                    request.getMethod(), uri, queries, breach.getBudget(), breach.getCallSite(),
+                    mostRepeated.getValue(), mostRepeated.getKey());
+            }
+        }
+    }
+}
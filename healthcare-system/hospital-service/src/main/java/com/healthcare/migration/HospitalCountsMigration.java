@@ -0,0 +1,37 @@
+package com.healthcare.migration;
+
+import com.healthcare.repository.HospitalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Recomputes the materialized department, doctor and staff counts of every hospital from
+ * its active departments, so the deltas applied by department writes start from correct values.
+ */
+@Slf4j
+@Component
+@Order(2)
+public class HospitalCountsMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        List<Long> ids = hospitalRepository.findAllIds();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            hospitalRepository.reconcileCounts(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        log.info("Reconciled materialized counts for {} hospitals", ids.size());
+    }
+}
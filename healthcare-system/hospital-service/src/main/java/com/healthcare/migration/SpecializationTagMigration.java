@@ -0,0 +1,48 @@
+package com.healthcare.migration;
+
+import com.healthcare.model.Department;
+import com.healthcare.model.Hospital;
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.HospitalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Backfills the normalized specialization tag tables from the legacy comma separated
+ * specializations column. Only rows without tags are touched, so it is safe to run on every start.
+ */
+@Slf4j
+@Component
+@Order(1)
+public class SpecializationTagMigration implements ApplicationRunner {
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        List<Hospital> hospitals = hospitalRepository.findUntaggedWithSpecializations();
+        hospitals.forEach(Hospital::syncSpecializationTags);
+        hospitalRepository.saveAll(hospitals);
+
+        List<Department> departments = departmentRepository.findUntaggedWithSpecializations();
+        departments.forEach(Department::syncSpecializationTags);
+        departmentRepository.saveAll(departments);
+
+        if (!hospitals.isEmpty() || !departments.isEmpty()) {
+            log.info("Migrated specialization tags for {} hospitals and {} departments",
+                hospitals.size(), departments.size());
+        }
+    }
+}
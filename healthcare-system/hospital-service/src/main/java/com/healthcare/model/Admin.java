@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "admins")
 public class Admin {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admins_seq")
+    @SequenceGenerator(name = "admins_seq", sequenceName = "admins_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -37,8 +38,16 @@ public class Admin {
     private Hospital hospital;
 
     private String permissions;
+
+    // Written only by LastLoginTracker's batched flush, never by entity updates
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
+
     private Boolean isActive = true;
+
+    // Bumped to revoke every token issued to this admin; carried in the JWT "ver" claim
+    private Integer tokenVersion = 0;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
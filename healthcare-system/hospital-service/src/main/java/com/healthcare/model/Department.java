@@ -1,16 +1,29 @@
 package com.healthcare.model;
 
+import com.healthcare.util.SpecializationTags;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @Data
 @Entity
 @Table(name = "departments")
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String name;
 
@@ -28,4 +41,21 @@ public class Department {
     private String email;
     private String location;
     private Boolean isActive = true;
+
+    @ElementCollection
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @CollectionTable(name = "department_specialization_tags",
+                    joinColumns = @JoinColumn(name = "department_id"),
+                    indexes = @Index(name = "idx_department_spec_tag", columnList = "tag, department_id"))
+    @Column(name = "tag", nullable = false)
+    private Set<String> specializationTags = new HashSet<>();
+
+    /**
+     * Re-derive the normalized specialization tags from the free-text specializations
+     */
+    public void syncSpecializationTags() {
+        specializationTags.clear();
+        specializationTags.addAll(SpecializationTags.parse(specializations));
+    }
 }
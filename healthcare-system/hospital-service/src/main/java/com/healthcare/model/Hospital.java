@@ -1,22 +1,40 @@
 package com.healthcare.model;
 
+import com.healthcare.util.SpecializationTags;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @Data
 @Entity
 @Table(name = "hospitals")
 public class Hospital {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hospitals_seq")
+    @SequenceGenerator(name = "hospitals_seq", sequenceName = "hospitals_seq", allocationSize = 50)
     private Long id;
 
+    // Count updates in HospitalRepository bump it too, so ETags change with the counts
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String name;
 
     @Column(nullable = false)
     private String address;
 
+    // Optional WGS84 coordinates; hospitals without them are left out of geo queries
+    private Double latitude;
+    private Double longitude;
+
     @Column(nullable = false)
     private String contactNumber;
 
@@ -32,4 +50,21 @@ public class Hospital {
     private String emergencyContact;
     private String operatingHours;
     private Boolean isActive = true;
+
+    @ElementCollection
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @CollectionTable(name = "hospital_specialization_tags",
+                    joinColumns = @JoinColumn(name = "hospital_id"),
+                    indexes = @Index(name = "idx_hospital_spec_tag", columnList = "tag, hospital_id"))
+    @Column(name = "tag", nullable = false)
+    private Set<String> specializationTags = new HashSet<>();
+
+    /**
+     * Re-derive the normalized specialization tags from the free-text specializations
+     */
+    public void syncSpecializationTags() {
+        specializationTags.clear();
+        specializationTags.addAll(SpecializationTags.parse(specializations));
+    }
 }
@@ -2,6 +2,7 @@ package com.healthcare.repository;
 
 import com.healthcare.model.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +19,7 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
     List<Admin> findByDepartment(String department);
     Optional<Admin> findByUsernameAndIsActiveTrue(String username);
     List<Admin> findByHospitalIdAndIsActiveTrue(Long hospitalId);
+
+    @Query("SELECT a.username, a.tokenVersion FROM Admin a WHERE a.tokenVersion > 0")
+    List<Object[]> findUsernamesWithTokenVersion();
 }
@@ -2,7 +2,10 @@ package com.healthcare.repository;
 
 import com.healthcare.model.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,8 +14,22 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> findByHospitalId(Long hospitalId);
     List<Department> findByHospitalIdAndIsActiveTrue(Long hospitalId);
     Optional<Department> findByNameAndHospitalId(String name, Long hospitalId);
-    List<Department> findBySpecializationsContainingIgnoreCase(String specialization);
     boolean existsByNameAndHospitalId(String name, Long hospitalId);
     List<Department> findByHeadDoctor(String headDoctor);
     Integer countByHospitalId(Long hospitalId);
+
+    @Query("SELECT d.id, t FROM Department d JOIN d.specializationTags t")
+    List<Object[]> findAllSpecializationTagPairs();
+
+    @Query("SELECT d FROM Department d WHERE d.specializations IS NOT NULL " +
+           "AND d.specializations <> '' AND d.specializationTags IS EMPTY")
+    List<Department> findUntaggedWithSpecializations();
+
+    @Query("SELECT d.hospital.id, d.name, d.id FROM Department d " +
+           "WHERE d.hospital.id IN :hospitalIds AND d.name IN :names")
+    List<Object[]> findIdsByHospitalIdsAndNames(@Param("hospitalIds") Collection<Long> hospitalIds,
+                                                @Param("names") Collection<String> names);
+
+    @Query("SELECT d.id, d.description, d.facilities FROM Department d WHERE d.isActive = true")
+    List<Object[]> findActiveSearchText();
 }
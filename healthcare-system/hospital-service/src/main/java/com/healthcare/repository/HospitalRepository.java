@@ -2,7 +2,11 @@ package com.healthcare.repository;
 
 import com.healthcare.model.Hospital;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +14,66 @@ import java.util.Optional;
 public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     Optional<Hospital> findByName(String name);
     List<Hospital> findByIsActiveTrue();
-    List<Hospital> findBySpecializationsContainingIgnoreCase(String specialization);
     boolean existsByLicenseNumber(String licenseNumber);
+
+    @Query("SELECT h.id, t FROM Hospital h JOIN h.specializationTags t")
+    List<Object[]> findAllSpecializationTagPairs();
+
+    @Query("SELECT h FROM Hospital h WHERE h.specializations IS NOT NULL " +
+           "AND h.specializations <> '' AND h.specializationTags IS EMPTY")
+    List<Hospital> findUntaggedWithSpecializations();
+
+    @Query("SELECT h.licenseNumber, h.id FROM Hospital h WHERE h.licenseNumber IN :licenseNumbers")
+    List<Object[]> findIdsByLicenseNumbers(@Param("licenseNumbers") Collection<String> licenseNumbers);
+
+    @Query("SELECT h.id, h.operatingHours FROM Hospital h WHERE h.isActive = true AND h.operatingHours IS NOT NULL")
+    List<Object[]> findActiveOperatingHours();
+
+    @Query("SELECT h.id, h.description, h.facilities FROM Hospital h WHERE h.isActive = true")
+    List<Object[]> findActiveSearchText();
+
+    /**
+     * Apply a delta to the materialized department, doctor and staff counts of a hospital.
+     * A hospital already loaded keeps its old counts and version; refresh it before mapping it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VERSIONED Hospital h SET " +
+           "h.numberOfDepartments = COALESCE(h.numberOfDepartments, 0) + :departments, " +
+           "h.numberOfDoctors = COALESCE(h.numberOfDoctors, 0) + :doctors, " +
+           "h.numberOfStaff = COALESCE(h.numberOfStaff, 0) + :staff " +
+           "WHERE h.id = :hospitalId")
+    int adjustCounts(@Param("hospitalId") Long hospitalId, @Param("departments") int departments,
+                     @Param("doctors") int doctors, @Param("staff") int staff);
+
+    /**
+     * Recompute the materialized counts from active departments in a single statement.
+     * Only rows whose counts actually drift are written, so a reconcile on startup does
+     * not bump every hospital's version and invalidate every client's ETag. Clears the
+     * persistence context, so no stale hospital outlives the update.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE VERSIONED Hospital h SET " +
+           "h.numberOfDepartments = (SELECT COUNT(d) FROM Department d WHERE d.hospital = h AND d.isActive = true), " +
+           "h.numberOfDoctors = (SELECT COALESCE(SUM(d.numberOfDoctors), 0) FROM Department d " +
+           "WHERE d.hospital = h AND d.isActive = true), " +
+           "h.numberOfStaff = (SELECT COALESCE(SUM(d.numberOfStaff), 0) FROM Department d " +
+           "WHERE d.hospital = h AND d.isActive = true) " +
+           "WHERE h.id IN :hospitalIds AND (" +
+           "COALESCE(h.numberOfDepartments, -1) <> (SELECT COUNT(d) FROM Department d " +
+           "WHERE d.hospital = h AND d.isActive = true) OR " +
+           "COALESCE(h.numberOfDoctors, -1) <> (SELECT COALESCE(SUM(d.numberOfDoctors), 0) FROM Department d " +
+           "WHERE d.hospital = h AND d.isActive = true) OR " +
+           "COALESCE(h.numberOfStaff, -1) <> (SELECT COALESCE(SUM(d.numberOfStaff), 0) FROM Department d " +
+           "WHERE d.hospital = h AND d.isActive = true))")
+    int reconcileCounts(@Param("hospitalIds") Collection<Long> hospitalIds);
+
+    @Query("SELECT h.id, h.latitude, h.longitude FROM Hospital h WHERE h.isActive = true " +
+           "AND h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<Object[]> findActiveCoordinates();
+
+    @Query("SELECT h.version FROM Hospital h WHERE h.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT h.id FROM Hospital h")
+    List<Long> findAllIds();
 }
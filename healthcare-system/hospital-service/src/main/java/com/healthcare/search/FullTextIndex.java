@@ -0,0 +1,127 @@
+package com.healthcare.search;
+
+import com.healthcare.dto.SearchStatsDTO;
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.HospitalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Full-text index over hospital and department descriptions and facilities.
+ * Built from the database on startup or on demand, and kept current by the services.
+ * Writers take a ReentrantLock rather than the monitor, since a rebuild holds it across
+ * database reads and would otherwise pin any virtual thread indexing an update meanwhile.
+ */
+@Slf4j
+@Component
+public class FullTextIndex {
+
+    private static final String DESCRIPTION = "description";
+    private static final String FACILITIES = "facilities";
+
+    // Patients mostly search for equipment and services, which live in facilities
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(FACILITIES, 2.0f, DESCRIPTION, 1.0f);
+
+    private final InvertedIndex hospitals = new InvertedIndex(FIELD_WEIGHTS);
+    private final InvertedIndex departments = new InvertedIndex(FIELD_WEIGHTS);
+    private final LatencyRecorder hospitalLatency = new LatencyRecorder();
+    private final LatencyRecorder departmentLatency = new LatencyRecorder();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    /**
+     * Reindex every active hospital and department from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            hospitals.clear();
+            departments.clear();
+            hospitalRepository.findActiveSearchText()
+                .forEach(row -> hospitals.put((Long) row[0], fields((String) row[1], (String) row[2])));
+            departmentRepository.findActiveSearchText()
+                .forEach(row -> departments.put((Long) row[0], fields((String) row[1], (String) row[2])));
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Full-text index built in {} ms: {} hospitals, {} departments",
+            System.currentTimeMillis() - start, hospitals.documentCount(), departments.documentCount());
+    }
+
+    public void indexHospital(Long hospitalId, String description, String facilities, boolean active) {
+        writeLock.lock();
+        try {
+            if (active) {
+                hospitals.put(hospitalId, fields(description, facilities));
+            } else {
+                hospitals.remove(hospitalId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void indexDepartment(Long departmentId, String description, String facilities, boolean active) {
+        writeLock.lock();
+        try {
+            if (active) {
+                departments.put(departmentId, fields(description, facilities));
+            } else {
+                departments.remove(departmentId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<SearchHit> searchHospitals(String query, int limit) {
+        return timed(hospitals, hospitalLatency, query, limit);
+    }
+
+    public List<SearchHit> searchDepartments(String query, int limit) {
+        return timed(departments, departmentLatency, query, limit);
+    }
+
+    public List<SearchStatsDTO> stats() {
+        return List.of(stats("hospitals", hospitals, hospitalLatency),
+            stats("departments", departments, departmentLatency));
+    }
+
+    private static List<SearchHit> timed(InvertedIndex index, LatencyRecorder latency, String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            return index.search(query, limit);
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    private static SearchStatsDTO stats(String name, InvertedIndex index, LatencyRecorder latency) {
+        return new SearchStatsDTO(name, index.documentCount(), index.termCount(), latency.count(),
+            latency.meanMicros(), latency.percentileMicros(0.5), latency.percentileMicros(0.99), latency.maxMicros());
+    }
+
+    private static Map<String, String> fields(String description, String facilities) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(DESCRIPTION, description);
+        fields.put(FACILITIES, facilities);
+        return fields;
+    }
+}
@@ -0,0 +1,194 @@
+package com.healthcare.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking over weighted fields.
+ *
+ * Postings hold a field-weighted term frequency per document. Query terms are OR-ed and
+ * scored with BM25; a term with no postings falls back to a damped prefix match so partial
+ * input like "dialy" still finds "dialysis". Reads share a lock, writes are exclusive.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_DAMPING = 0.5;
+    private static final int MAX_PREFIX_EXPANSION = 50;
+
+    private final Map<String, Float> fieldWeights;
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsById = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * @param fieldWeights Boost per field name; fields not listed are ignored
+     */
+    public InvertedIndex(Map<String, Float> fieldWeights) {
+        this.fieldWeights = Map.copyOf(fieldWeights);
+    }
+
+    /**
+     * Replace the indexed text of a document
+     * @param id Document ID
+     * @param fields Text by field name; empty to drop the document
+     */
+    public void put(Long id, Map<String, String> fields) {
+        Map<String, Float> frequencies = new HashMap<>();
+        int length = 0;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            Float weight = fieldWeights.get(field.getKey());
+            if (weight == null) {
+                continue;
+            }
+            for (String term : TextAnalyzer.analyze(field.getValue())) {
+                frequencies.merge(term, weight, Float::sum);
+                length++;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+            termsById.put(id, frequencies.keySet());
+            lengths.put(id, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsById.clear();
+            lengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents against a free-text query
+     * @param query Query text
+     * @param limit Maximum number of hits
+     * @return Hits by descending score, ties by ascending id
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documents = lengths.size();
+            if (documents == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documents;
+            for (String term : terms) {
+                Map<Long, Float> exact = postings.get(term);
+                if (exact != null) {
+                    score(scores, exact, documents, averageLength, 1.0);
+                    continue;
+                }
+                int expanded = 0;
+                for (Map<Long, Float> prefixed : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    score(scores, prefixed, documents, averageLength, PREFIX_DAMPING);
+                    if (++expanded == MAX_PREFIX_EXPANSION) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top(scores, limit);
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return lengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(Map<Long, Double> scores, Map<Long, Float> posting, int documents,
+                       double averageLength, double boost) {
+        double idf = Math.log(1 + (documents - posting.size() + 0.5) / (posting.size() + 0.5));
+        posting.forEach((id, frequency) -> {
+            double norm = K1 * (1 - B + B * lengths.get(id) / averageLength);
+            scores.merge(id, boost * idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+        });
+    }
+
+    private static List<SearchHit> top(Map<Long, Double> scores, int limit) {
+        Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::score).reversed()
+            .thenComparing(SearchHit::id);
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(ranking.reversed());
+        scores.forEach((id, score) -> {
+            heap.offer(new SearchHit(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(ranking);
+        return hits;
+    }
+
+    private void removeLocked(Long id) {
+        Set<String> terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths.remove(id);
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthcare.search;
+
+/**
+ * A ranked full-text match
+ */
+public record SearchHit(Long id, double score) {
+}
@@ -0,0 +1,70 @@
+package com.healthcare.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer shared by indexing and querying so both sides agree on terms
+ * e.g. "Children's X-Ray and MRI scans" -> [children, xray, ray, mri, scan]
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+(?:['-][\\p{L}\\p{N}]+)*");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in",
+        "is", "it", "of", "on", "or", "our", "the", "to", "we", "with");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Split text into normalized terms, in order, duplicates kept
+     * @param text Free text, may be null
+     * @return Lower-cased, plural-folded terms without stop words
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String word = matcher.group().replace("'", "");
+            if (word.indexOf('-') >= 0) {
+                addTerm(terms, word.replace("-", ""));
+                for (String part : word.split("-")) {
+                    addTerm(terms, part);
+                }
+            } else {
+                addTerm(terms, word);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String word) {
+        if ((word.length() < 2 && !Character.isDigit(word.charAt(0))) || STOP_WORDS.contains(word)) {
+            return;
+        }
+        terms.add(stem(word));
+    }
+
+    /**
+     * Fold simple English plurals: facilities -> facility, scans -> scan; dialysis is left alone
+     */
+    static String stem(String word) {
+        if (word.length() > 4 && word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.length() > 3 && word.endsWith("s")
+                && !word.endsWith("ss") && !word.endsWith("is") && !word.endsWith("us")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+}
@@ -0,0 +1,29 @@
+package com.healthcare.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bit-test permission checks for method security, used as
+ * {@code @PreAuthorize("@adminPermissions.has(authentication, 'HOSPITAL_WRITE')")}.
+ * A check is an enum lookup plus a mask test and allocates nothing.
+ */
+@Component("adminPermissions")
+public class AdminPermissionEvaluator {
+
+    public boolean has(Authentication authentication, String permission) {
+        return has(authentication, Permission.valueOf(permission));
+    }
+
+    public boolean has(Authentication authentication, Permission permission) {
+        return authentication != null
+            && authentication.getPrincipal() instanceof AdminPrincipal principal
+            && principal.has(permission);
+    }
+
+    public boolean hasAll(Authentication authentication, long requiredMask) {
+        return authentication != null
+            && authentication.getPrincipal() instanceof AdminPrincipal principal
+            && (principal.getPermissionMask() & requiredMask) == requiredMask;
+    }
+}
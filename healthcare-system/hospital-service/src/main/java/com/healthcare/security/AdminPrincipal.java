@@ -0,0 +1,28 @@
+package com.healthcare.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated admin carrying the compiled permission bitmask
+ */
+@Getter
+public class AdminPrincipal extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long permissionMask;
+
+    public AdminPrincipal(String username, String password,
+                          Collection<? extends GrantedAuthority> authorities, long permissionMask) {
+        super(username, password, authorities);
+        this.permissionMask = permissionMask;
+    }
+
+    public boolean has(Permission permission) {
+        return (permissionMask & permission.mask()) == permission.mask();
+    }
+}
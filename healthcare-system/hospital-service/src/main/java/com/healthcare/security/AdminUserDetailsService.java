@@ -0,0 +1,37 @@
+package com.healthcare.security;
+
+import com.healthcare.model.Admin;
+import com.healthcare.repository.AdminRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Custom UserDetailsService implementation for admin authentication
+ * Only used at login, where the admin's role and permissions are compiled into a bitmask;
+ * authenticated requests are served from the JWT claims
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminUserDetailsService implements UserDetailsService {
+
+    private final AdminRepository adminRepository;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Admin admin = adminRepository.findByUsernameAndIsActiveTrue(username)
+            .orElseThrow(() ->
+                new UsernameNotFoundException("Admin not found with username: " + username));
+
+        return new AdminPrincipal(
+            admin.getUsername(),
+            admin.getPassword(),
+            List.of(new SimpleGrantedAuthority("ROLE_" + admin.getRole())),
+            PermissionCompiler.compile(admin.getRole(), admin.getPermissions()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.healthcare.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * JWT authentication filter for hospital service
+ * Validates JWT tokens in incoming requests, including the revocation check
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String token = jwtTokenProvider.resolveToken(request);
+
+        if (token != null) {
+            Claims claims = jwtTokenProvider.getValidClaims(token);
+            if (claims != null) {
+                SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(claims));
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
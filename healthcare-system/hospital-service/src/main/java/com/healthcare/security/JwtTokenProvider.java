@@ -0,0 +1,144 @@
+package com.healthcare.security;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JWT token provider for hospital service
+ * Issues admin tokens carrying a token id and version, and rejects revoked tokens
+ * without touching the database
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtTokenProvider {
+
+    private static final String ROLES_CLAIM = "roles";
+    private static final String VERSION_CLAIM = "ver";
+    private static final String PERMISSIONS_CLAIM = "perm";
+
+    @Value("${security.jwt.token.secret-key}")
+    private String secretKey;
+
+    @Value("${security.jwt.token.expire-length}")
+    private long validityInMilliseconds;
+
+    private Key key;
+
+    private JwtParser parser;
+
+    private final TokenRevocationStore revocationStore;
+
+    @PostConstruct
+    protected void init() {
+        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    public String generateToken(Authentication authentication) {
+        String username = authentication.getName();
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        long permissionMask = authentication.getPrincipal() instanceof AdminPrincipal principal
+                ? principal.getPermissionMask() : 0L;
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
+
+        return Jwts.builder()
+                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .claim(ROLES_CLAIM, roles)
+                .claim(PERMISSIONS_CLAIM, permissionMask)
+                .claim(VERSION_CLAIM, revocationStore.currentTokenVersion(username))
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Parse a token and check signature, expiry and revocation
+     * @param token JWT token
+     * @return Token claims, or null if the token is not valid
+     */
+    public Claims getValidClaims(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Integer tokenVersion = claims.get(VERSION_CLAIM, Integer.class);
+            boolean revoked = revocationStore.isRevoked(
+                    claims.getId(),
+                    claims.getSubject(),
+                    tokenVersion != null ? tokenVersion : 0,
+                    claims.getExpiration().getTime());
+            return revoked ? null : claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    /**
+     * Build the authentication from the token claims alone; no user lookup per request
+     * @param claims Validated token claims
+     * @return Authentication for the security context
+     */
+    public Authentication getAuthentication(Claims claims) {
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : Arrays.stream(roles.split(","))
+                .filter(role -> !role.isBlank())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        Long permissionMask = claims.get(PERMISSIONS_CLAIM, Long.class);
+        AdminPrincipal principal = new AdminPrincipal(
+                claims.getSubject(), "", authorities, permissionMask != null ? permissionMask : 0L);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    /**
+     * Revoke a single token until its natural expiry
+     * @param token JWT token
+     */
+    public void revokeToken(String token) {
+        Claims claims = getValidClaims(token);
+        if (claims != null && claims.getId() != null) {
+            revocationStore.revoke(claims.getId(), claims.getExpiration().getTime());
+        }
+    }
+
+    public String getUsername(String token) {
+        return parser.parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    public String resolveToken(HttpServletRequest req) {
+        String bearerToken = req.getHeader("Authorization");
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.healthcare.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind tracker for admin last-login timestamps.
+ * Logins only record the timestamp in memory; repeated logins of the same admin
+ * coalesce into one entry, and pending entries are written periodically as a single
+ * JDBC batch, so authentication never takes a row lock on the admins table.
+ */
+@Slf4j
+@Component
+public class LastLoginTracker {
+
+    private static final String UPDATE_LAST_LOGIN = "UPDATE admins SET last_login = ? WHERE id = ?";
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a login; only the most recent timestamp per admin is kept
+     * @param adminId Admin ID
+     * @param loginTime Login time
+     */
+    public void recordLogin(Long adminId, LocalDateTime loginTime) {
+        pending.merge(adminId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Login time recorded but not yet flushed, used to overlay fresh values on reads
+     * @param adminId Admin ID
+     * @return Pending login time if any
+     */
+    public Optional<LocalDateTime> pendingLogin(Long adminId) {
+        return Optional.ofNullable(pending.get(adminId));
+    }
+
+    @Scheduled(fixedDelayString = "${admin.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(Map.copyOf(pending).entrySet());
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, batch, batch.size(), (ps, entry) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+                ps.setLong(2, entry.getKey());
+            });
+            // Entries refreshed by a login during the write stay pending for the next flush
+            batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            log.debug("Flushed {} admin last-login updates", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} admin last-login updates, will retry", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,36 @@
+package com.healthcare.security;
+
+/**
+ * Admin permissions, each owning a fixed bit in the compiled permission mask.
+ * Bit positions are part of the JWT format: append new permissions, never renumber.
+ */
+public enum Permission {
+    HOSPITAL_READ(0),
+    HOSPITAL_WRITE(1),
+    DEPARTMENT_READ(2),
+    DEPARTMENT_WRITE(3),
+    ADMIN_READ(4),
+    ADMIN_WRITE(5),
+    STATS_READ(6),
+    CACHE_MANAGE(7),
+    BULK_IMPORT(8),
+    SEARCH_MANAGE(9);
+
+    private final long mask;
+
+    Permission(int bit) {
+        this.mask = 1L << bit;
+    }
+
+    public long mask() {
+        return mask;
+    }
+
+    public static long allMask() {
+        long mask = 0L;
+        for (Permission permission : values()) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,59 @@
+package com.healthcare.security;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.healthcare.security.Permission.*;
+
+/**
+ * Compiles an admin's role and free-text permissions into a permission bitmask.
+ * Runs once at login; requests only carry and test the resulting long.
+ */
+@Slf4j
+public final class PermissionCompiler {
+
+    private static final long READ_ONLY = HOSPITAL_READ.mask() | DEPARTMENT_READ.mask();
+
+    private static final Map<String, Long> ROLE_DEFAULTS = Map.of(
+        "SUPER_ADMIN", Permission.allMask(),
+        "ADMIN", HOSPITAL_READ.mask() | HOSPITAL_WRITE.mask() | DEPARTMENT_READ.mask()
+            | DEPARTMENT_WRITE.mask() | ADMIN_READ.mask() | STATS_READ.mask(),
+        "HOSPITAL_ADMIN", HOSPITAL_READ.mask() | HOSPITAL_WRITE.mask() | DEPARTMENT_READ.mask()
+            | DEPARTMENT_WRITE.mask() | STATS_READ.mask(),
+        "DEPARTMENT_ADMIN", READ_ONLY | DEPARTMENT_WRITE.mask(),
+        "STAFF", READ_ONLY
+    );
+
+    private PermissionCompiler() {
+    }
+
+    /**
+     * @param role Admin role, e.g. "ADMIN"; unknown roles get read-only access
+     * @param permissions Extra grants, comma separated, e.g. "cache:manage, BULK_IMPORT" or "*"
+     * @return Permission bitmask
+     */
+    public static long compile(String role, String permissions) {
+        long mask = role == null ? READ_ONLY
+            : ROLE_DEFAULTS.getOrDefault(role.trim().toUpperCase(Locale.ROOT), READ_ONLY);
+        if (permissions == null || permissions.isBlank()) {
+            return mask;
+        }
+        for (String entry : permissions.split(",")) {
+            String name = entry.trim().toUpperCase(Locale.ROOT).replace(':', '_').replace('-', '_');
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.equals("*")) {
+                return Permission.allMask();
+            }
+            try {
+                mask |= Permission.valueOf(name).mask();
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unknown admin permission '{}'", entry.trim());
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,222 @@
+package com.healthcare.security;
+
+import com.healthcare.repository.AdminRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory JWT revocation store consulted on every authenticated request.
+ *
+ * Individually revoked token ids (jti) are kept in sets bucketed by the token's expiry
+ * time, so a whole bucket is dropped once every token in it has expired and memory stays
+ * bounded by the number of revocations inside one token lifetime. A Bloom filter in front
+ * of the buckets answers the common "not revoked" case without allocating. Revoking every
+ * token of a user bumps their token version; tokens carrying an older version are rejected.
+ * Versions are persisted on the admin and re-read from the admins table on a short interval,
+ * so a bump made on another instance takes effect here within that interval.
+ * Writers share a ReentrantLock, not a monitor: the snapshot is written while holding it, and a
+ * logout blocked behind that file I/O must not pin its virtual thread.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    @Value("${security.jwt.revocation.expected-revocations:100000}")
+    private int expectedRevocations;
+
+    @Value("${security.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${security.jwt.revocation.snapshot-file:}")
+    private String snapshotFile;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    private final Map<Long, Set<String>> bucketsByExpiry = new ConcurrentHashMap<>();
+    private final Map<String, Integer> tokenVersions = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock
+    private boolean snapshotDirty;
+
+    @PostConstruct
+    protected void init() {
+        bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        refreshTokenVersions();
+        loadSnapshot();
+    }
+
+    /**
+     * Pick up token versions bumped on other instances. Versions only grow, so a read racing
+     * with a local bump can never lower one.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.version-refresh-ms:5000}")
+    public void refreshTokenVersions() {
+        adminRepository.findUsernamesWithTokenVersion()
+            .forEach(row -> tokenVersions.merge((String) row[0], (Integer) row[1], Math::max));
+    }
+
+    /**
+     * Revoke a single token until it expires
+     * @param jti Token id
+     * @param expiresAtMillis Token expiry, epoch milliseconds
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        lock.lock();
+        try {
+            bucketsByExpiry.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS, key -> ConcurrentHashMap.newKeySet())
+                .add(jti);
+            bloomFilter.put(jti);
+            snapshotDirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a user's new token version; every token issued with an older one is revoked
+     * @param username Username
+     * @param tokenVersion New token version
+     */
+    public void revokeAllForUser(String username, int tokenVersion) {
+        tokenVersions.merge(username, tokenVersion, Math::max);
+    }
+
+    public int currentTokenVersion(String username) {
+        return tokenVersions.getOrDefault(username, 0);
+    }
+
+    /**
+     * Hot-path check, called once per authenticated request
+     * @param jti Token id
+     * @param username Token subject
+     * @param tokenVersion Token version claim
+     * @param expiresAtMillis Token expiry, epoch milliseconds
+     * @return true if the token has been revoked
+     */
+    public boolean isRevoked(String jti, String username, int tokenVersion, long expiresAtMillis) {
+        if (tokenVersion < tokenVersions.getOrDefault(username, 0)) {
+            return true;
+        }
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Set<String> bucket = bucketsByExpiry.get(expiresAtMillis / BUCKET_MILLIS);
+        return bucket != null && bucket.contains(jti);
+    }
+
+    /**
+     * Drop buckets whose tokens have all expired and rebuild the Bloom filter from what is
+     * left, since a Bloom filter cannot forget entries on its own
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        lock.lock();
+        try {
+            long currentBucket = System.currentTimeMillis() / BUCKET_MILLIS;
+            boolean removed = bucketsByExpiry.keySet().removeIf(bucket -> bucket < currentBucket);
+            if (removed) {
+                BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+                bucketsByExpiry.values().forEach(bucket -> bucket.forEach(rebuilt::put));
+                bloomFilter = rebuilt;
+                snapshotDirty = true;
+            }
+            writeSnapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int revokedTokenCount() {
+        return bucketsByExpiry.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            writeSnapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loadSnapshot() {
+        if (snapshotFile.isBlank() || !Files.exists(Paths.get(snapshotFile))) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(snapshotFile), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    revoke(line.substring(separator + 1), Long.parseLong(line.substring(0, separator)));
+                }
+            }
+            lock.lock();
+            try {
+                snapshotDirty = false;
+            } finally {
+                lock.unlock();
+            }
+            log.info("Loaded {} revoked tokens from {}", revokedTokenCount(), snapshotFile);
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Could not read token revocation snapshot {}", snapshotFile, e);
+        }
+    }
+
+    /**
+     * Called with the lock held
+     */
+    private void writeSnapshot() {
+        if (snapshotFile.isBlank() || !snapshotDirty) {
+            return;
+        }
+        Path target = Paths.get(snapshotFile);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<Long, Set<String>> bucket : bucketsByExpiry.entrySet()) {
+                // Last millisecond of the bucket: never earlier than any real expiry in it,
+                // and maps back to the same bucket on load
+                long expiresAt = (bucket.getKey() + 1) * BUCKET_MILLIS - 1;
+                for (String jti : bucket.getValue()) {
+                    writer.write(expiresAt + " " + jti);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not write token revocation snapshot {}", snapshotFile, e);
+            return;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshotDirty = false;
+        } catch (IOException e) {
+            log.warn("Could not replace token revocation snapshot {}", snapshotFile, e);
+        }
+    }
+}
@@ -23,4 +23,5 @@ public interface AdminService {
     List<AdminDTO> getAdminsByRole(String role);
     List<AdminDTO> getAdminsByDepartment(String department);
     void revokeToken(String username);
+    void logout(String token);
 }
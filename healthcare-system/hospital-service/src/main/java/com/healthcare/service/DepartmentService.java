@@ -1,6 +1,7 @@
 package com.healthcare.service;
 
 import com.healthcare.dto.DepartmentDTO;
+import java.util.Collection;
 import java.util.List;
 
 public interface DepartmentService {
@@ -12,7 +13,12 @@ public interface DepartmentService {
     List<DepartmentDTO> getActiveDepartmentsByHospital(Long hospitalId);
     void deleteDepartment(Long id);
     DepartmentDTO getDepartmentByNameAndHospital(String name, Long hospitalId);
+    /**
+     * Departments with a specialization starting with the given text, e.g. "cardio" finds Cardiology
+     */
     List<DepartmentDTO> getDepartmentsBySpecialization(String specialization);
+    List<DepartmentDTO> getDepartmentsBySpecializations(Collection<String> specializations, boolean matchAll);
+    List<DepartmentDTO> searchDepartments(String query, int limit);
     boolean existsByNameAndHospital(String name, Long hospitalId);
     Integer countDepartmentsByHospital(Long hospitalId);
     List<DepartmentDTO> getDepartmentsByHeadDoctor(String headDoctor);
@@ -1,17 +1,34 @@
 package com.healthcare.service;
 
 import com.healthcare.dto.HospitalDTO;
+import com.healthcare.dto.HospitalOverviewDTO;
+import com.healthcare.dto.NearbyHospitalDTO;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface HospitalService {
     HospitalDTO createHospital(HospitalDTO hospitalDTO);
     HospitalDTO updateHospital(Long id, HospitalDTO hospitalDTO);
+    HospitalDTO updateHospital(Long id, HospitalDTO hospitalDTO, Long expectedVersion);
     HospitalDTO getHospitalById(Long id);
+    Long getHospitalVersion(Long id);
+    HospitalOverviewDTO getHospitalOverview(Long id);
     List<HospitalDTO> getAllHospitals();
     List<HospitalDTO> getActiveHospitals();
     void deleteHospital(Long id);
     HospitalDTO getHospitalByName(String name);
+    /**
+     * Hospitals with a specialization starting with the given text, e.g. "cardio" finds Cardiology
+     */
     List<HospitalDTO> getHospitalsBySpecialization(String specialization);
+    List<HospitalDTO> getHospitalsBySpecializations(Collection<String> specializations, boolean matchAll);
+    List<HospitalDTO> getOpenHospitals(LocalDateTime at);
+    List<HospitalDTO> searchHospitals(String query, int limit);
+    List<NearbyHospitalDTO> findNearestHospitals(double latitude, double longitude, int k,
+                                                 Collection<String> specializations, boolean matchAll);
+    List<NearbyHospitalDTO> findHospitalsWithinRadius(double latitude, double longitude, double radiusKm,
+                                                      Collection<String> specializations, boolean matchAll, int limit);
     boolean existsByLicenseNumber(String licenseNumber);
     void updateHospitalStats(Long hospitalId);
 }
@@ -1,5 +1,6 @@
 package com.healthcare.service.impl;
 
+import com.healthcare.cache.HospitalCache;
 import com.healthcare.dto.AdminDTO;
 import com.healthcare.dto.AdminAuthRequest;
 import com.healthcare.dto.AdminAuthResponse;
@@ -10,8 +11,12 @@ import com.healthcare.repository.AdminRepository;
 import com.healthcare.repository.HospitalRepository;
 import com.healthcare.service.AdminService;
 import com.healthcare.exception.BusinessException;
+import com.healthcare.security.AdminPrincipal;
 import com.healthcare.security.JwtTokenProvider;
-import org.modelmapper.ModelMapper;
+import com.healthcare.security.LastLoginTracker;
+import com.healthcare.security.PermissionCompiler;
+import com.healthcare.security.TokenRevocationStore;
+import com.healthcare.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,7 +40,7 @@ public class AdminServiceImpl implements AdminService {
     private HospitalRepository hospitalRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private HospitalCache hospitalCache;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -46,7 +51,14 @@ public class AdminServiceImpl implements AdminService {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private LastLoginTracker lastLoginTracker;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
     @Override
+    @Transactional(readOnly = true)
     public AdminAuthResponse authenticate(AdminAuthRequest request) {
         Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
@@ -56,10 +68,13 @@ public class AdminServiceImpl implements AdminService {
             .orElseThrow(() -> new BusinessException("Admin not found"));
 
         String token = jwtTokenProvider.generateToken(authentication);
-        updateLastLogin(admin.getUsername());
+        lastLoginTracker.recordLogin(admin.getId(), LocalDateTime.now());
 
-        AdminAuthResponse response = modelMapper.map(admin, AdminAuthResponse.class);
+        AdminAuthResponse response = AdminAuthResponse.fromEntity(admin);
         response.setToken(token);
+        if (authentication.getPrincipal() instanceof AdminPrincipal principal) {
+            response.setPermissionMask(principal.getPermissionMask());
+        }
         return response;
     }
 
@@ -72,7 +87,7 @@ public class AdminServiceImpl implements AdminService {
             throw new BusinessException("Email already exists");
         }
 
-        Admin admin = modelMapper.map(adminDTO, Admin.class);
+        Admin admin = adminDTO.toEntity();
         admin.setPassword(passwordEncoder.encode(admin.getPassword()));
         
         if (adminDTO.getHospitalId() != null) {
@@ -82,7 +97,8 @@ public class AdminServiceImpl implements AdminService {
         }
 
         admin = adminRepository.save(admin);
-        return modelMapper.map(admin, AdminDTO.class);
+        hospitalCache.evictOverview(hospitalIdOf(admin));
+        return AdminDTO.fromEntity(admin);
     }
 
     @Override
@@ -94,7 +110,13 @@ public class AdminServiceImpl implements AdminService {
             throw new BusinessException("Email already exists");
         }
 
-        modelMapper.map(request, admin);
+        Long previousHospitalId = hospitalIdOf(admin);
+        long previousPermissions = PermissionCompiler.compile(admin.getRole(), admin.getPermissions());
+        request.applyTo(admin);
+        // Tokens carry the permission mask, so those issued before a change are revoked
+        if (PermissionCompiler.compile(admin.getRole(), admin.getPermissions()) != previousPermissions) {
+            revokeAllTokens(admin);
+        }
         
         if (request.getHospitalId() != null) {
             Hospital hospital = hospitalRepository.findById(request.getHospitalId())
@@ -103,41 +125,43 @@ public class AdminServiceImpl implements AdminService {
         }
 
         admin = adminRepository.save(admin);
-        return modelMapper.map(admin, AdminDTO.class);
+        hospitalCache.evictOverview(previousHospitalId);
+        hospitalCache.evictOverview(hospitalIdOf(admin));
+        return AdminDTO.fromEntity(admin);
     }
 
     @Override
     public AdminDTO getAdminById(Long id) {
         Admin admin = adminRepository.findById(id)
             .orElseThrow(() -> new BusinessException("Admin not found"));
-        return modelMapper.map(admin, AdminDTO.class);
+        return withPendingLastLogin(AdminDTO.fromEntity(admin));
     }
 
     @Override
     public AdminDTO getAdminByUsername(String username) {
         Admin admin = adminRepository.findByUsername(username)
             .orElseThrow(() -> new BusinessException("Admin not found"));
-        return modelMapper.map(admin, AdminDTO.class);
+        return withPendingLastLogin(AdminDTO.fromEntity(admin));
     }
 
     @Override
     public List<AdminDTO> getAllAdmins() {
         return adminRepository.findAll().stream()
-            .map(admin -> modelMapper.map(admin, AdminDTO.class))
+            .map(AdminDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<AdminDTO> getAdminsByHospital(Long hospitalId) {
         return adminRepository.findByHospitalId(hospitalId).stream()
-            .map(admin -> modelMapper.map(admin, AdminDTO.class))
+            .map(AdminDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<AdminDTO> getActiveAdmins() {
         return adminRepository.findByIsActiveTrue().stream()
-            .map(admin -> modelMapper.map(admin, AdminDTO.class))
+            .map(AdminDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
@@ -146,7 +170,9 @@ public class AdminServiceImpl implements AdminService {
         Admin admin = adminRepository.findById(id)
             .orElseThrow(() -> new BusinessException("Admin not found"));
         admin.setIsActive(false);
+        revokeAllTokens(admin);
         adminRepository.save(admin);
+        hospitalCache.evictOverview(hospitalIdOf(admin));
     }
 
     @Override
@@ -159,6 +185,7 @@ public class AdminServiceImpl implements AdminService {
         }
 
         admin.setPassword(passwordEncoder.encode(newPassword));
+        revokeAllTokens(admin);
         adminRepository.save(admin);
     }
 
@@ -173,30 +200,59 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public void updateLastLogin(String username) {
         Admin admin = adminRepository.findByUsername(username)
             .orElseThrow(() -> new BusinessException("Admin not found"));
-        admin.setLastLogin(LocalDateTime.now());
-        adminRepository.save(admin);
+        lastLoginTracker.recordLogin(admin.getId(), LocalDateTime.now());
     }
 
     @Override
     public List<AdminDTO> getAdminsByRole(String role) {
         return adminRepository.findByRole(role).stream()
-            .map(admin -> modelMapper.map(admin, AdminDTO.class))
+            .map(AdminDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<AdminDTO> getAdminsByDepartment(String department) {
         return adminRepository.findByDepartment(department).stream()
-            .map(admin -> modelMapper.map(admin, AdminDTO.class))
+            .map(AdminDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
     public void revokeToken(String username) {
-        // Implementation for token revocation can be added here
-        // This might involve adding the token to a blacklist or updating the user's tokenVersion
+        Admin admin = adminRepository.findByUsername(username)
+            .orElseThrow(() -> new BusinessException("Admin not found"));
+        revokeAllTokens(admin);
+        adminRepository.save(admin);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void logout(String token) {
+        jwtTokenProvider.revokeToken(token);
+    }
+
+    /**
+     * Bump the admin's token version, revoking every token issued so far once the change commits.
+     * Requests are authenticated from the token's claims alone, so this is what ends a session
+     * after a deactivation, password change or permission change.
+     */
+    private void revokeAllTokens(Admin admin) {
+        String username = admin.getUsername();
+        int tokenVersion = (admin.getTokenVersion() == null ? 0 : admin.getTokenVersion()) + 1;
+        admin.setTokenVersion(tokenVersion);
+        AfterCommit.run(() -> tokenRevocationStore.revokeAllForUser(username, tokenVersion));
+    }
+
+    private AdminDTO withPendingLastLogin(AdminDTO adminDTO) {
+        lastLoginTracker.pendingLogin(adminDTO.getId()).ifPresent(adminDTO::setLastLogin);
+        return adminDTO;
+    }
+
+    private static Long hospitalIdOf(Admin admin) {
+        return admin.getHospital() == null ? null : admin.getHospital().getId();
     }
 }
@@ -1,18 +1,30 @@
 package com.healthcare.service.impl;
 
+import com.healthcare.cache.HospitalCache;
 import com.healthcare.dto.DepartmentDTO;
+import com.healthcare.index.SpecializationIndex;
 import com.healthcare.model.Department;
 import com.healthcare.model.Hospital;
 import com.healthcare.repository.DepartmentRepository;
 import com.healthcare.repository.HospitalRepository;
+import com.healthcare.search.FullTextIndex;
+import com.healthcare.search.SearchHit;
 import com.healthcare.service.DepartmentService;
 import com.healthcare.exception.BusinessException;
-import org.modelmapper.ModelMapper;
+import com.healthcare.util.AfterCommit;
+import com.healthcare.util.SpecializationTags;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +38,16 @@ public class DepartmentServiceImpl implements DepartmentService {
     private HospitalRepository hospitalRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private SpecializationIndex specializationIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private HospitalCache hospitalCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public DepartmentDTO createDepartment(DepartmentDTO departmentDTO) {
@@ -37,10 +58,15 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new BusinessException("Department with this name already exists in the hospital");
         }
 
-        Department department = modelMapper.map(departmentDTO, Department.class);
+        Department department = departmentDTO.toEntity();
+        department.setVersion(null);
         department.setHospital(hospital);
+        department.syncSpecializationTags();
         department = departmentRepository.save(department);
-        return modelMapper.map(department, DepartmentDTO.class);
+        adjustHospitalCounts(hospital.getId(), department, 1);
+        reindex(department);
+        hospitalCache.evictDepartments(hospital.getId());
+        return toDTOWithCurrentHospital(department);
     }
 
     @Override
@@ -51,38 +77,48 @@ public class DepartmentServiceImpl implements DepartmentService {
         Hospital hospital = hospitalRepository.findById(departmentDTO.getHospitalId())
             .orElseThrow(() -> new BusinessException("Hospital not found"));
 
-        modelMapper.map(departmentDTO, department);
+        Long previousHospitalId = department.getHospital().getId();
+        adjustHospitalCounts(previousHospitalId, department, -1);
+        Long version = department.getVersion();
+        departmentDTO.applyTo(department);
         department.setId(id);
+        department.setVersion(version);
         department.setHospital(hospital);
+        department.syncSpecializationTags();
         department = departmentRepository.save(department);
-        return modelMapper.map(department, DepartmentDTO.class);
+        adjustHospitalCounts(hospital.getId(), department, 1);
+        reindex(department);
+        hospitalCache.evictDepartments(previousHospitalId);
+        hospitalCache.evictDepartments(hospital.getId());
+        return toDTOWithCurrentHospital(department);
     }
 
     @Override
     public DepartmentDTO getDepartmentById(Long id) {
         Department department = departmentRepository.findById(id)
             .orElseThrow(() -> new BusinessException("Department not found"));
-        return modelMapper.map(department, DepartmentDTO.class);
+        return DepartmentDTO.fromEntity(department);
     }
 
     @Override
     public List<DepartmentDTO> getAllDepartments() {
         return departmentRepository.findAll().stream()
-            .map(department -> modelMapper.map(department, DepartmentDTO.class))
+            .map(DepartmentDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<DepartmentDTO> getDepartmentsByHospital(Long hospitalId) {
-        return departmentRepository.findByHospitalId(hospitalId).stream()
-            .map(department -> modelMapper.map(department, DepartmentDTO.class))
-            .collect(Collectors.toList());
+        return hospitalCache.getDepartments(hospitalId, id -> departmentRepository.findByHospitalId(id).stream()
+            .map(DepartmentDTO::fromEntity)
+            .collect(Collectors.toList()));
     }
 
     @Override
     public List<DepartmentDTO> getActiveDepartmentsByHospital(Long hospitalId) {
         return departmentRepository.findByHospitalIdAndIsActiveTrue(hospitalId).stream()
-            .map(department -> modelMapper.map(department, DepartmentDTO.class))
+            .map(DepartmentDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
@@ -90,21 +126,57 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
             .orElseThrow(() -> new BusinessException("Department not found"));
+        adjustHospitalCounts(department.getHospital().getId(), department, -1);
         department.setIsActive(false);
         departmentRepository.save(department);
+        reindex(department);
+        hospitalCache.evictDepartments(department.getHospital().getId());
     }
 
     @Override
     public DepartmentDTO getDepartmentByNameAndHospital(String name, Long hospitalId) {
         Department department = departmentRepository.findByNameAndHospitalId(name, hospitalId)
             .orElseThrow(() -> new BusinessException("Department not found"));
-        return modelMapper.map(department, DepartmentDTO.class);
+        return DepartmentDTO.fromEntity(department);
     }
 
     @Override
     public List<DepartmentDTO> getDepartmentsBySpecialization(String specialization) {
-        return departmentRepository.findBySpecializationsContainingIgnoreCase(specialization).stream()
-            .map(department -> modelMapper.map(department, DepartmentDTO.class))
+        Set<String> prefixes = SpecializationTags.parse(specialization);
+        return prefixes.isEmpty() ? List.of() : loadDepartments(specializationIndex.findDepartmentIdsByPrefix(prefixes));
+    }
+
+    @Override
+    public List<DepartmentDTO> getDepartmentsBySpecializations(Collection<String> specializations, boolean matchAll) {
+        Set<String> tags = SpecializationTags.parseAll(specializations);
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        return loadDepartments(specializationIndex.findDepartmentIds(tags, matchAll));
+    }
+
+    private List<DepartmentDTO> loadDepartments(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return departmentRepository.findAllById(ids).stream()
+            .map(DepartmentDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentDTO> searchDepartments(String query, int limit) {
+        List<SearchHit> hits = fullTextIndex.searchDepartments(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Department> departments = departmentRepository.findAllById(hits.stream().map(SearchHit::id).toList())
+            .stream().collect(Collectors.toMap(Department::getId, Function.identity()));
+        return hits.stream()
+            .map(hit -> departments.get(hit.id()))
+            .filter(Objects::nonNull)
+            .map(DepartmentDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
@@ -114,14 +186,53 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Integer countDepartmentsByHospital(Long hospitalId) {
-        return departmentRepository.countByHospitalId(hospitalId);
+        return hospitalCache.getDepartmentCount(hospitalId, departmentRepository::countByHospitalId);
     }
 
     @Override
     public List<DepartmentDTO> getDepartmentsByHeadDoctor(String headDoctor) {
         return departmentRepository.findByHeadDoctor(headDoctor).stream()
-            .map(department -> modelMapper.map(department, DepartmentDTO.class))
+            .map(DepartmentDTO::fromEntity)
             .collect(Collectors.toList());
     }
+
+    /**
+     * Add or remove an active department's contribution to its hospital's materialized counts
+     */
+    private void adjustHospitalCounts(Long hospitalId, Department department, int sign) {
+        if (!Boolean.TRUE.equals(department.getIsActive())) {
+            return;
+        }
+        hospitalRepository.adjustCounts(hospitalId, sign,
+            sign * nullToZero(department.getNumberOfDoctors()), sign * nullToZero(department.getNumberOfStaff()));
+        hospitalCache.evictHospital(hospitalId);
+    }
+
+    /**
+     * The count update is a bulk statement that bypasses the persistence context, so the loaded
+     * hospital still has the old counts and version; reload it before it is mapped, or a client
+     * sending that version back as If-Match would get a spurious 412
+     */
+    private DepartmentDTO toDTOWithCurrentHospital(Department department) {
+        entityManager.refresh(department.getHospital());
+        return DepartmentDTO.fromEntity(department);
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private void reindex(Department department) {
+        Long id = department.getId();
+        Set<String> tags = Set.copyOf(department.getSpecializationTags());
+        String description = department.getDescription();
+        String facilities = department.getFacilities();
+        boolean active = Boolean.TRUE.equals(department.getIsActive());
+        AfterCommit.run(() -> {
+            specializationIndex.indexDepartment(id, tags);
+            fullTextIndex.indexDepartment(id, description, facilities, active);
+        });
+    }
 }
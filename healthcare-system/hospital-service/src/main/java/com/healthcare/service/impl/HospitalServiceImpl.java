@@ -1,16 +1,38 @@
 package com.healthcare.service.impl;
 
+import com.healthcare.cache.HospitalCache;
 import com.healthcare.dto.HospitalDTO;
+import com.healthcare.dto.HospitalOverviewDTO;
+import com.healthcare.dto.NearbyHospitalDTO;
+import com.healthcare.index.GeoGridIndex;
+import com.healthcare.index.HospitalGeoIndex;
+import com.healthcare.index.OperatingHoursIndex;
+import com.healthcare.index.SpecializationIndex;
+import com.healthcare.model.Admin;
+import com.healthcare.model.Department;
 import com.healthcare.model.Hospital;
+import com.healthcare.repository.AdminRepository;
+import com.healthcare.repository.DepartmentRepository;
 import com.healthcare.repository.HospitalRepository;
+import com.healthcare.search.FullTextIndex;
+import com.healthcare.search.SearchHit;
 import com.healthcare.service.HospitalService;
 import com.healthcare.exception.BusinessException;
-import org.modelmapper.ModelMapper;
+import com.healthcare.util.AfterCommit;
+import com.healthcare.util.ETags;
+import com.healthcare.util.GeoCoordinates;
+import com.healthcare.util.SpecializationTags;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,47 +43,124 @@ public class HospitalServiceImpl implements HospitalService {
     private HospitalRepository hospitalRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private SpecializationIndex specializationIndex;
+
+    @Autowired
+    private OperatingHoursIndex operatingHoursIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    @Autowired
+    private HospitalCache hospitalCache;
 
     @Override
     public HospitalDTO createHospital(HospitalDTO hospitalDTO) {
         if (hospitalRepository.existsByLicenseNumber(hospitalDTO.getLicenseNumber())) {
             throw new BusinessException("Hospital with this license number already exists");
         }
-        Hospital hospital = modelMapper.map(hospitalDTO, Hospital.class);
+        checkCoordinates(hospitalDTO.getLatitude(), hospitalDTO.getLongitude());
+        Hospital hospital = hospitalDTO.toEntity();
+        hospital.setVersion(null);
+        // Counts are materialized from departments; a new hospital has none
+        hospital.setNumberOfDepartments(0);
+        hospital.setNumberOfDoctors(0);
+        hospital.setNumberOfStaff(0);
+        hospital.syncSpecializationTags();
         hospital = hospitalRepository.save(hospital);
-        return modelMapper.map(hospital, HospitalDTO.class);
+        reindex(hospital);
+        return HospitalDTO.fromEntity(hospital);
     }
 
     @Override
     public HospitalDTO updateHospital(Long id, HospitalDTO hospitalDTO) {
+        return updateHospital(id, hospitalDTO, null);
+    }
+
+    @Override
+    public HospitalDTO updateHospital(Long id, HospitalDTO hospitalDTO, Long expectedVersion) {
         Hospital hospital = hospitalRepository.findById(id)
             .orElseThrow(() -> new BusinessException("Hospital not found"));
-        
-        modelMapper.map(hospitalDTO, hospital);
+        ETags.checkVersion(expectedVersion, hospital.getVersion());
+        checkCoordinates(hospitalDTO.getLatitude(), hospitalDTO.getLongitude());
+
+        Integer departments = hospital.getNumberOfDepartments();
+        Integer doctors = hospital.getNumberOfDoctors();
+        Integer staff = hospital.getNumberOfStaff();
+        Long version = hospital.getVersion();
+        hospitalDTO.applyTo(hospital);
         hospital.setId(id); // Ensure ID remains unchanged
-        hospital = hospitalRepository.save(hospital);
-        return modelMapper.map(hospital, HospitalDTO.class);
+        hospital.setVersion(version); // Managed by Hibernate, never taken from the client
+        hospital.setNumberOfDepartments(departments);
+        hospital.setNumberOfDoctors(doctors);
+        hospital.setNumberOfStaff(staff);
+        hospital.syncSpecializationTags();
+        // Flushed so the returned version already counts this update
+        hospital = hospitalRepository.saveAndFlush(hospital);
+        reindex(hospital);
+        hospitalCache.evictHospital(id);
+        return HospitalDTO.fromEntity(hospital);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public HospitalDTO getHospitalById(Long id) {
-        Hospital hospital = hospitalRepository.findById(id)
+        return hospitalCache.getHospital(id, hospitalId -> {
+            Hospital hospital = hospitalRepository.findById(hospitalId)
+                .orElseThrow(() -> new BusinessException("Hospital not found"));
+            return HospitalDTO.fromEntity(hospital);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getHospitalVersion(Long id) {
+        HospitalDTO cached = hospitalCache.peekHospital(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return hospitalRepository.findVersionById(id)
             .orElseThrow(() -> new BusinessException("Hospital not found"));
-        return modelMapper.map(hospital, HospitalDTO.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HospitalOverviewDTO getHospitalOverview(Long id) {
+        return hospitalCache.getOverview(id, hospitalId -> {
+            Hospital hospital = hospitalRepository.findById(hospitalId)
+                .orElseThrow(() -> new BusinessException("Hospital not found"));
+            HospitalOverviewDTO overview = new HospitalOverviewDTO();
+            overview.setHospital(HospitalDTO.fromEntity(hospital));
+            overview.setDepartments(departmentRepository.findByHospitalId(hospitalId).stream()
+                .map(HospitalServiceImpl::toDepartmentSummary)
+                .collect(Collectors.toUnmodifiableList()));
+            overview.setAdmins(adminRepository.findByHospitalId(hospitalId).stream()
+                .map(HospitalServiceImpl::toAdminSummary)
+                .collect(Collectors.toUnmodifiableList()));
+            return overview;
+        });
     }
 
     @Override
     public List<HospitalDTO> getAllHospitals() {
         return hospitalRepository.findAll().stream()
-            .map(hospital -> modelMapper.map(hospital, HospitalDTO.class))
+            .map(HospitalDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<HospitalDTO> getActiveHospitals() {
         return hospitalRepository.findByIsActiveTrue().stream()
-            .map(hospital -> modelMapper.map(hospital, HospitalDTO.class))
+            .map(HospitalDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
@@ -71,22 +170,89 @@ public class HospitalServiceImpl implements HospitalService {
             .orElseThrow(() -> new BusinessException("Hospital not found"));
         hospital.setIsActive(false);
         hospitalRepository.save(hospital);
+        reindex(hospital);
+        hospitalCache.evictHospital(id);
     }
 
     @Override
     public HospitalDTO getHospitalByName(String name) {
         Hospital hospital = hospitalRepository.findByName(name)
             .orElseThrow(() -> new BusinessException("Hospital not found"));
-        return modelMapper.map(hospital, HospitalDTO.class);
+        return HospitalDTO.fromEntity(hospital);
     }
 
     @Override
     public List<HospitalDTO> getHospitalsBySpecialization(String specialization) {
-        return hospitalRepository.findBySpecializationsContainingIgnoreCase(specialization).stream()
-            .map(hospital -> modelMapper.map(hospital, HospitalDTO.class))
+        Set<String> prefixes = SpecializationTags.parse(specialization);
+        return prefixes.isEmpty() ? List.of() : loadHospitals(specializationIndex.findHospitalIdsByPrefix(prefixes));
+    }
+
+    @Override
+    public List<HospitalDTO> getHospitalsBySpecializations(Collection<String> specializations, boolean matchAll) {
+        Set<String> tags = SpecializationTags.parseAll(specializations);
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        return loadHospitals(specializationIndex.findHospitalIds(tags, matchAll));
+    }
+
+    private List<HospitalDTO> loadHospitals(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return hospitalRepository.findAllById(ids).stream()
+            .map(HospitalDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<HospitalDTO> getOpenHospitals(LocalDateTime at) {
+        Set<Long> ids = operatingHoursIndex.findOpenHospitalIds(at);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return hospitalRepository.findAllById(ids).stream()
+            .map(HospitalDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HospitalDTO> searchHospitals(String query, int limit) {
+        List<SearchHit> hits = fullTextIndex.searchHospitals(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Hospital> hospitals = hospitalRepository.findAllById(hits.stream().map(SearchHit::id).toList())
+            .stream().collect(Collectors.toMap(Hospital::getId, Function.identity()));
+        return hits.stream()
+            .map(hit -> hospitals.get(hit.id()))
+            .filter(Objects::nonNull)
+            .map(HospitalDTO::fromEntity)
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyHospitalDTO> findNearestHospitals(double latitude, double longitude, int k,
+                                                        Collection<String> specializations, boolean matchAll) {
+        checkCoordinates(latitude, longitude);
+        Set<Long> candidates = specializationCandidates(specializations, matchAll);
+        return candidates != null && candidates.isEmpty() ? List.of()
+            : toNearby(hospitalGeoIndex.nearest(latitude, longitude, k, candidates));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyHospitalDTO> findHospitalsWithinRadius(double latitude, double longitude, double radiusKm,
+                                                             Collection<String> specializations, boolean matchAll,
+                                                             int limit) {
+        checkCoordinates(latitude, longitude);
+        Set<Long> candidates = specializationCandidates(specializations, matchAll);
+        return candidates != null && candidates.isEmpty() ? List.of()
+            : toNearby(hospitalGeoIndex.withinRadius(latitude, longitude, radiusKm, candidates, limit));
+    }
+
     @Override
     public boolean existsByLicenseNumber(String licenseNumber) {
         return hospitalRepository.existsByLicenseNumber(licenseNumber);
@@ -94,9 +260,82 @@ public class HospitalServiceImpl implements HospitalService {
 
     @Override
     public void updateHospitalStats(Long hospitalId) {
-        Hospital hospital = hospitalRepository.findById(hospitalId)
-            .orElseThrow(() -> new BusinessException("Hospital not found"));
-        // Update statistics (can be implemented based on requirements)
-        hospitalRepository.save(hospital);
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new BusinessException("Hospital not found");
+        }
+        // Department writes keep the counts current by delta; this is the full reconcile
+        hospitalRepository.reconcileCounts(List.of(hospitalId));
+        hospitalCache.evictHospital(hospitalId);
+    }
+
+    /**
+     * @return Hospital ids matching the specializations, null when none are given
+     */
+    private Set<Long> specializationCandidates(Collection<String> specializations, boolean matchAll) {
+        Set<String> tags = SpecializationTags.parseAll(specializations);
+        return tags.isEmpty() ? null : specializationIndex.findHospitalIds(tags, matchAll);
+    }
+
+    private List<NearbyHospitalDTO> toNearby(List<GeoGridIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Hospital> hospitals = hospitalRepository.findAllById(hits.stream().map(GeoGridIndex.Hit::id).toList())
+            .stream().collect(Collectors.toMap(Hospital::getId, Function.identity()));
+        return hits.stream()
+            .filter(hit -> hospitals.containsKey(hit.id()))
+            .map(hit -> new NearbyHospitalDTO(HospitalDTO.fromEntity(hospitals.get(hit.id())), hit.distanceKm()))
+            .collect(Collectors.toList());
+    }
+
+    private static void checkCoordinates(Double latitude, Double longitude) {
+        String error = GeoCoordinates.validate(latitude, longitude);
+        if (error != null) {
+            throw new BusinessException(error);
+        }
+    }
+
+    private static HospitalOverviewDTO.DepartmentSummary toDepartmentSummary(Department department) {
+        HospitalOverviewDTO.DepartmentSummary summary = new HospitalOverviewDTO.DepartmentSummary();
+        summary.setId(department.getId());
+        summary.setName(department.getName());
+        summary.setHeadDoctor(department.getHeadDoctor());
+        summary.setNumberOfDoctors(department.getNumberOfDoctors());
+        summary.setNumberOfStaff(department.getNumberOfStaff());
+        summary.setSpecializations(department.getSpecializations());
+        summary.setLocation(department.getLocation());
+        summary.setContactNumber(department.getContactNumber());
+        summary.setIsActive(department.getIsActive());
+        return summary;
+    }
+
+    private static HospitalOverviewDTO.AdminSummary toAdminSummary(Admin admin) {
+        HospitalOverviewDTO.AdminSummary summary = new HospitalOverviewDTO.AdminSummary();
+        summary.setId(admin.getId());
+        summary.setFirstName(admin.getFirstName());
+        summary.setLastName(admin.getLastName());
+        summary.setEmail(admin.getEmail());
+        summary.setRole(admin.getRole());
+        summary.setPosition(admin.getPosition());
+        summary.setDepartment(admin.getDepartment());
+        summary.setIsActive(admin.getIsActive());
+        return summary;
+    }
+
+    private void reindex(Hospital hospital) {
+        Long id = hospital.getId();
+        Set<String> tags = Set.copyOf(hospital.getSpecializationTags());
+        String operatingHours = hospital.getOperatingHours();
+        String description = hospital.getDescription();
+        String facilities = hospital.getFacilities();
+        Double latitude = hospital.getLatitude();
+        Double longitude = hospital.getLongitude();
+        boolean active = Boolean.TRUE.equals(hospital.getIsActive());
+        AfterCommit.run(() -> {
+            specializationIndex.indexHospital(id, tags);
+            operatingHoursIndex.indexHospital(id, operatingHours, active);
+            fullTextIndex.indexHospital(id, description, facilities, active);
+            hospitalGeoIndex.indexHospital(id, latitude, longitude, active);
+        });
     }
 }
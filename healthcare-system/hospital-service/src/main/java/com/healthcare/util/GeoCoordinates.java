@@ -0,0 +1,31 @@
+package com.healthcare.util;
+
+/**
+ * Validation for optional latitude/longitude pairs
+ */
+public final class GeoCoordinates {
+
+    private GeoCoordinates() {
+    }
+
+    /**
+     * @param latitude Degrees, may be null
+     * @param longitude Degrees, may be null
+     * @return Error message, or null if both are absent or both are in range
+     */
+    public static String validate(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            return "Latitude and longitude must be given together";
+        }
+        if (latitude.isNaN() || latitude < -90 || latitude > 90) {
+            return "Latitude must be between -90 and 90";
+        }
+        if (longitude.isNaN() || longitude < -180 || longitude > 180) {
+            return "Longitude must be between -180 and 180";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,246 @@
+package com.healthcare.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Weekly opening intervals parsed from the free-text operating hours of a hospital
+ * e.g. "Mon-Fri 8:00-20:00; Sat 9am-1pm; Sun closed", "24/7", "Daily 22:00-06:00"
+ *
+ * Intervals are minute-of-day ranges, end exclusive; overnight ranges are split at midnight
+ * into the following day. Text that yields no interval parses to an empty (unknown) schedule.
+ */
+public final class OperatingHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final String DAY = "\\b(mon|tue|wed|thu|fri|sat|sun)[a-z]*\\.?";
+    private static final String DAY_TO = "\\s*(?:-|\u2013|to|through|thru)\\s*";
+    private static final String TIME_TO = "\\s*(?:-|\u2013|to|until)\\s*";
+    private static final String TIME = "(\\d{1,2})(?:[:.h]?(\\d{2}))?(?:\\s*([ap])\\.?m\\.?)?";
+
+    private static final Pattern TOKEN = Pattern.compile(
+        "(?<always>24\\s*/\\s*7|24\\s*x\\s*7|24\\s*h(?:ours|rs)?\\b|round the clock|always open)" +
+        "|(?<closed>\\bclosed\\b)" +
+        "|(?<daily>\\bdaily\\b|\\bevery\\s*day\\b|\\ball\\s*days\\b)" +
+        "|(?<weekdays>\\bweekdays\\b)" +
+        "|(?<weekends>\\bweekends?\\b)" +
+        "|(?<days>" + DAY + "(?:" + DAY_TO + DAY + ")?)" +
+        "|(?<times>" + TIME + TIME_TO + TIME + ")",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern DAY_RANGE = Pattern.compile(
+        DAY + "(?:" + DAY_TO + DAY + ")?", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern TIME_RANGE = Pattern.compile(
+        TIME + TIME_TO + TIME, Pattern.CASE_INSENSITIVE);
+
+    private static final OperatingHours UNKNOWN = new OperatingHours(new EnumMap<>(DayOfWeek.class));
+
+    /**
+     * Minute-of-day range, start inclusive and end exclusive
+     */
+    public record Interval(int startMinute, int endMinute) {
+
+        public boolean contains(int minuteOfDay) {
+            return minuteOfDay >= startMinute && minuteOfDay < endMinute;
+        }
+    }
+
+    private final Map<DayOfWeek, List<Interval>> intervals;
+
+    private OperatingHours(Map<DayOfWeek, List<Interval>> intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * Parse free-text operating hours
+     * @param raw Operating hours text, may be null
+     * @return Parsed schedule, empty if nothing usable was found
+     */
+    public static OperatingHours parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return UNKNOWN;
+        }
+        Map<DayOfWeek, List<Interval>> parsed = new EnumMap<>(DayOfWeek.class);
+        Set<DayOfWeek> pending = EnumSet.noneOf(DayOfWeek.class);
+        boolean lastWasDay = false;
+
+        Matcher matcher = TOKEN.matcher(raw);
+        while (matcher.find()) {
+            if (matcher.group("days") != null || matcher.group("daily") != null
+                    || matcher.group("weekdays") != null || matcher.group("weekends") != null) {
+                if (!lastWasDay) {
+                    pending.clear();
+                }
+                pending.addAll(days(matcher));
+                lastWasDay = true;
+                continue;
+            }
+            Set<DayOfWeek> targets = pending.isEmpty() ? EnumSet.allOf(DayOfWeek.class) : pending;
+            if (matcher.group("closed") != null) {
+                targets.forEach(parsed::remove);
+            } else if (matcher.group("always") != null) {
+                targets.forEach(day -> add(parsed, day, 0, MINUTES_PER_DAY));
+            } else {
+                addRange(parsed, targets, matcher.group("times"));
+            }
+            lastWasDay = false;
+        }
+        if (parsed.isEmpty()) {
+            return UNKNOWN;
+        }
+        parsed.replaceAll((day, list) -> merge(list));
+        return new OperatingHours(parsed);
+    }
+
+    /**
+     * @return True if the text could not be parsed into any opening interval
+     */
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    /**
+     * @return Days with at least one opening interval
+     */
+    public Set<DayOfWeek> openDays() {
+        return intervals.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(intervals.keySet());
+    }
+
+    /**
+     * @param day Day of week
+     * @return Sorted, non-overlapping intervals for the day
+     */
+    public List<Interval> intervals(DayOfWeek day) {
+        return intervals.getOrDefault(day, List.of());
+    }
+
+    public boolean isOpenAt(LocalDateTime at) {
+        int minute = at.getHour() * 60 + at.getMinute();
+        return intervals(at.getDayOfWeek()).stream().anyMatch(interval -> interval.contains(minute));
+    }
+
+    private static Set<DayOfWeek> days(Matcher matcher) {
+        if (matcher.group("daily") != null) {
+            return EnumSet.allOf(DayOfWeek.class);
+        }
+        if (matcher.group("weekdays") != null) {
+            return EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        }
+        if (matcher.group("weekends") != null) {
+            return EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        }
+        Matcher range = DAY_RANGE.matcher(matcher.group("days"));
+        range.find();
+        DayOfWeek from = day(range.group(1));
+        if (range.group(2) == null) {
+            return EnumSet.of(from);
+        }
+        DayOfWeek to = day(range.group(2));
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day = from; ; day = day.plus(1)) {
+            days.add(day);
+            if (day == to) {
+                return days;
+            }
+        }
+    }
+
+    private static DayOfWeek day(String prefix) {
+        return switch (prefix.toLowerCase(Locale.ROOT)) {
+            case "mon" -> DayOfWeek.MONDAY;
+            case "tue" -> DayOfWeek.TUESDAY;
+            case "wed" -> DayOfWeek.WEDNESDAY;
+            case "thu" -> DayOfWeek.THURSDAY;
+            case "fri" -> DayOfWeek.FRIDAY;
+            case "sat" -> DayOfWeek.SATURDAY;
+            default -> DayOfWeek.SUNDAY;
+        };
+    }
+
+    private static void addRange(Map<DayOfWeek, List<Interval>> parsed, Set<DayOfWeek> days, String text) {
+        Matcher range = TIME_RANGE.matcher(text);
+        range.find();
+        String startMeridiem = range.group(3);
+        String endMeridiem = range.group(6);
+        int end = minutes(range.group(4), range.group(5), endMeridiem);
+        int start = minutes(range.group(1), range.group(2), startMeridiem);
+        if (startMeridiem == null && endMeridiem != null) {
+            // "9-5pm": borrow the end marker when it keeps the range in order
+            int borrowed = minutes(range.group(1), range.group(2), endMeridiem);
+            if (borrowed >= 0 && borrowed < end) {
+                start = borrowed;
+            }
+        }
+        if (start < 0 || end < 0) {
+            return;
+        }
+        if (startMeridiem == null && endMeridiem == null && end < start && end <= 720 && end + 720 > start) {
+            // "9:00-5:00" reads as a day shift, "22:00-06:00" stays overnight
+            end += 720;
+        }
+        if (end <= start) {
+            // overnight, or the same time on both sides meaning a full 24 hours
+            end += MINUTES_PER_DAY;
+        }
+        for (DayOfWeek day : days) {
+            if (end <= MINUTES_PER_DAY) {
+                add(parsed, day, start, end);
+            } else {
+                add(parsed, day, start, MINUTES_PER_DAY);
+                add(parsed, day.plus(1), 0, end - MINUTES_PER_DAY);
+            }
+        }
+    }
+
+    private static int minutes(String hourText, String minuteText, String meridiem) {
+        int hour = Integer.parseInt(hourText);
+        int minute = minuteText == null ? 0 : Integer.parseInt(minuteText);
+        if (minute > 59) {
+            return -1;
+        }
+        if (meridiem != null) {
+            if (hour < 1 || hour > 12) {
+                return -1;
+            }
+            hour = hour % 12 + (Character.toLowerCase(meridiem.charAt(0)) == 'p' ? 12 : 0);
+        }
+        if (hour > 24 || (hour == 24 && minute > 0)) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    private static void add(Map<DayOfWeek, List<Interval>> parsed, DayOfWeek day, int start, int end) {
+        if (end > start) {
+            parsed.computeIfAbsent(day, key -> new ArrayList<>()).add(new Interval(start, end));
+        }
+    }
+
+    private static List<Interval> merge(List<Interval> list) {
+        list.sort(Comparator.comparingInt(Interval::startMinute));
+        List<Interval> merged = new ArrayList<>();
+        for (Interval interval : list) {
+            Interval last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval.startMinute() <= last.endMinute()) {
+                merged.set(merged.size() - 1,
+                    new Interval(last.startMinute(), Math.max(last.endMinute(), interval.endMinute())));
+            } else {
+                merged.add(interval);
+            }
+        }
+        return Collections.unmodifiableList(merged);
+    }
+}
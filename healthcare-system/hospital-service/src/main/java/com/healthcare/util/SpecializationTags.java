@@ -0,0 +1,64 @@
+package com.healthcare.util;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free-text specialization lists into tags
+ * e.g. " Cardiology,  Pediatric  Surgery;" -> [cardiology, pediatric surgery]
+ */
+public final class SpecializationTags {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SpecializationTags() {
+    }
+
+    /**
+     * Split a comma separated specialization string into normalized tags
+     * @param raw Free-text specializations, may be null
+     * @return Ordered set of distinct tags, empty if nothing usable was found
+     */
+    public static Set<String> parse(String raw) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (raw == null || raw.isBlank()) {
+            return tags;
+        }
+        for (String part : SEPARATORS.split(raw)) {
+            String tag = normalize(part);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Normalize each entry of an already split tag list
+     * @param raw Tags as supplied by a caller, entries may themselves be comma separated
+     * @return Ordered set of distinct normalized tags
+     */
+    public static Set<String> parseAll(Collection<String> raw) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (raw != null) {
+            raw.forEach(value -> tags.addAll(parse(value)));
+        }
+        return tags;
+    }
+
+    /**
+     * Normalize a single tag: trimmed, lower case, inner whitespace collapsed
+     * @param tag Tag text
+     * @return Normalized tag, empty if the input was blank
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(tag.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+-- IDs come from pooled sequences instead of the identity columns, so Hibernate can batch inserts.
+-- The increment matches allocationSize on the entities: each value fetched covers the 50 IDs
+-- up to and including it, so every sequence restarts one block past the rows already there.
+-- The CSV import writes with plain JDBC and draws its IDs from the same sequences (EntityIds).
+
+create sequence hospitals_seq start with 50 increment by 50;
+alter sequence hospitals_seq restart with (select coalesce(max(id), 0) + 50 from hospitals);
+
+create sequence departments_seq start with 50 increment by 50;
+alter sequence departments_seq restart with (select coalesce(max(id), 0) + 50 from departments);
+
+create sequence admins_seq start with 50 increment by 50;
+alter sequence admins_seq restart with (select coalesce(max(id), 0) + 50 from admins);
@@ -0,0 +1,84 @@
+-- Schema as ddl-auto=update created it before migrations; existing databases are baselined at V1
+
+create table hospitals (
+    id bigint not null auto_increment,
+    version bigint default 0 not null,
+    name varchar(255) not null,
+    address varchar(255) not null,
+    latitude float(53),
+    longitude float(53),
+    contact_number varchar(255) not null,
+    email varchar(255),
+    website varchar(255),
+    description varchar(255),
+    license_number varchar(255),
+    number_of_departments integer,
+    number_of_doctors integer,
+    number_of_staff integer,
+    facilities varchar(255),
+    specializations varchar(255),
+    emergency_contact varchar(255),
+    operating_hours varchar(255),
+    is_active bit,
+    primary key (id)
+) engine=InnoDB;
+
+create table hospital_specialization_tags (
+    hospital_id bigint not null,
+    tag varchar(255) not null,
+    primary key (hospital_id, tag),
+    constraint fk_hospital_specialization_tags_hospital foreign key (hospital_id) references hospitals (id)
+) engine=InnoDB;
+
+create index idx_hospital_spec_tag on hospital_specialization_tags (tag, hospital_id);
+
+create table departments (
+    id bigint not null auto_increment,
+    version bigint default 0 not null,
+    name varchar(255) not null,
+    hospital_id bigint not null,
+    description varchar(255),
+    head_doctor varchar(255),
+    number_of_doctors integer,
+    number_of_staff integer,
+    specializations varchar(255),
+    facilities varchar(255),
+    contact_number varchar(255),
+    email varchar(255),
+    location varchar(255),
+    is_active bit,
+    primary key (id),
+    constraint fk_departments_hospital foreign key (hospital_id) references hospitals (id)
+) engine=InnoDB;
+
+create table department_specialization_tags (
+    department_id bigint not null,
+    tag varchar(255) not null,
+    primary key (department_id, tag),
+    constraint fk_department_specialization_tags_department foreign key (department_id) references departments (id)
+) engine=InnoDB;
+
+create index idx_department_spec_tag on department_specialization_tags (tag, department_id);
+
+create table admins (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255),
+    role varchar(255),
+    position varchar(255),
+    department varchar(255),
+    hospital_id bigint,
+    permissions varchar(255),
+    last_login datetime(6),
+    is_active bit,
+    token_version integer,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_admins_email unique (email),
+    constraint fk_admins_hospital foreign key (hospital_id) references hospitals (id)
+) engine=InnoDB;
@@ -0,0 +1,13 @@
+-- Indexes for the per-hospital, login and import lookups; see the query-plans module
+
+-- findByHospitalId, findByNameAndHospitalId, countByHospitalId, findIdsByHospitalIdsAndNames, count reconciliation
+create index idx_departments_hospital_name on departments (hospital_id, name);
+
+-- findByUsername on every admin login and token check
+create index idx_admins_username on admins (username);
+
+-- existsByLicenseNumber, findIdsByLicenseNumbers during imports
+create index idx_hospitals_license on hospitals (license_number);
+
+-- findByName
+create index idx_hospitals_name on hospitals (name);
@@ -0,0 +1,91 @@
+package com.healthcare.cache;
+
+import com.healthcare.dto.CacheStatsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedCache
+ */
+public class BoundedCacheTest {
+
+    @Test
+    void get_RepeatedKey_LoadsOnce() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(1L, id -> "hospital-" + loads.incrementAndGet());
+        String value = cache.get(1L, id -> "hospital-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("hospital-1", value);
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio());
+    }
+
+    @Test
+    void peek_AbsentThenPresent_CountsMissAndHit() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, 60_000);
+
+        // Act
+        String absent = cache.peek(1L);
+        cache.put(1L, "hospital");
+        String present = cache.peek(1L);
+
+        // Assert
+        assertNull(absent);
+        assertEquals("hospital", present);
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>("test", 2, 60_000);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L, id -> "reloaded");
+
+        // Act
+        cache.put(3L, "c");
+
+        // Assert
+        assertEquals("a", cache.get(1L, id -> "reloaded"));
+        assertEquals("reloaded", cache.get(2L, id -> "reloaded"));
+    }
+
+    @Test
+    void get_ExpiredEntry_Reloads() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, 0);
+        cache.put(1L, "stale");
+
+        // Act & Assert
+        assertEquals("fresh", cache.get(1L, id -> "fresh"));
+    }
+
+    @Test
+    void get_InvalidatedDuringLoad_DoesNotStoreStaleValue() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, 60_000);
+
+        // Act
+        cache.get(1L, id -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        // Assert
+        assertEquals("fresh", cache.get(1L, id -> "fresh"));
+    }
+}
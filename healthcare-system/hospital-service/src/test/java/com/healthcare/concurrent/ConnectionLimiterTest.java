@@ -0,0 +1,66 @@
+package com.healthcare.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConnectionLimiter
+ */
+public class ConnectionLimiterTest {
+
+    @Test
+    void getConnection_AllInUse_FailsAfterWait() throws SQLException {
+        // Arrange
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConnectionLimiter limiter = new ConnectionLimiter(pool, 2, 10);
+        limiter.getConnection();
+        limiter.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void close_CalledTwice_ReleasesOnePermit() throws SQLException {
+        // Arrange
+        DataSource pool = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        ConnectionLimiter limiter = new ConnectionLimiter(pool, 1, 10);
+        Connection first = limiter.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+        Connection second = limiter.getConnection();
+
+        // Assert
+        assertNotNull(second);
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_PoolFails_ReleasesPermit() throws SQLException {
+        // Arrange
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLException("down")).thenReturn(mock(Connection.class));
+        ConnectionLimiter limiter = new ConnectionLimiter(pool, 1, 10);
+
+        // Act
+        assertThrows(SQLException.class, limiter::getConnection);
+        Connection connection = limiter.getConnection();
+
+        // Assert
+        assertNotNull(connection);
+    }
+}
@@ -0,0 +1,62 @@
+package com.healthcare.dto;
+
+import com.healthcare.model.Department;
+import com.healthcare.model.Hospital;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DepartmentDTO conversions
+ */
+public class DepartmentDTOTest {
+
+    @Test
+    void fromEntity_WithHospital_NestsHospitalAndId() {
+        // Arrange
+        Hospital hospital = new Hospital();
+        hospital.setId(7L);
+        hospital.setName("City General");
+        Department department = new Department();
+        department.setId(1L);
+        department.setName("Cardiology");
+        department.setHospital(hospital);
+
+        // Act
+        DepartmentDTO dto = DepartmentDTO.fromEntity(department);
+
+        // Assert
+        assertEquals(1L, dto.getId());
+        assertEquals("Cardiology", dto.getName());
+        assertEquals(7L, dto.getHospitalId());
+        assertEquals("City General", dto.getHospital().getName());
+    }
+
+    @Test
+    void applyTo_ExistingDepartment_LeavesHospitalAndVersionAlone() {
+        // Arrange
+        Hospital hospital = new Hospital();
+        hospital.setId(7L);
+        hospital.setName("City General");
+        Department department = new Department();
+        department.setId(1L);
+        department.setVersion(4L);
+        department.setHospital(hospital);
+        DepartmentDTO dto = new DepartmentDTO();
+        dto.setId(99L);
+        dto.setName("Neurology");
+        dto.setHospitalId(8L);
+
+        // Act
+        dto.applyTo(department);
+
+        // Assert
+        assertEquals("Neurology", department.getName());
+        assertEquals(1L, department.getId());
+        assertEquals(4L, department.getVersion());
+        assertSame(hospital, department.getHospital());
+        assertEquals(7L, hospital.getId());
+        assertEquals("City General", hospital.getName());
+        assertTrue(department.getIsActive());
+    }
+}
@@ -0,0 +1,153 @@
+package com.healthcare.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GeoGridIndex; query latency is measured by GeoGridIndexBenchmark in the benchmarks module
+ */
+public class GeoGridIndexTest {
+
+    private static final int POINTS = 5_000;
+
+    private GeoGridIndex index;
+    private double[][] coordinates;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoGridIndex(0.1);
+        coordinates = new double[POINTS][];
+        Random random = new Random(42);
+        for (int id = 0; id < POINTS; id++) {
+            // Clustered like real facilities: around a handful of metro areas plus a sparse rural spread
+            double latitude;
+            double longitude;
+            if (id % 10 == 0) {
+                latitude = -60 + random.nextDouble() * 130;
+                longitude = -180 + random.nextDouble() * 360;
+            } else {
+                int metro = random.nextInt(5);
+                latitude = 10 + metro * 10 + random.nextGaussian() * 0.5;
+                longitude = -120 + metro * 50 + random.nextGaussian() * 0.5;
+            }
+            coordinates[id] = new double[] {latitude, longitude};
+            index.put(id, latitude, longitude);
+        }
+    }
+
+    @Test
+    void nearest_RandomQueries_MatchBruteForce() {
+        // Arrange
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50; i++) {
+            double latitude = -60 + random.nextDouble() * 130;
+            double longitude = -180 + random.nextDouble() * 360;
+
+            // Act
+            List<Long> ids = index.nearest(latitude, longitude, 10, id -> true).stream()
+                .map(GeoGridIndex.Hit::id).collect(Collectors.toList());
+
+            // Assert
+            assertEquals(bruteForce(latitude, longitude, 10, 0), ids);
+        }
+    }
+
+    @Test
+    void nearest_WithFilter_OnlyReturnsAcceptedIds() {
+        // Act
+        List<GeoGridIndex.Hit> hits = index.nearest(30.0, -20.0, 5, id -> id % 7 == 0);
+
+        // Assert
+        assertEquals(5, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.id() % 7 == 0));
+        assertEquals(bruteForce(30.0, -20.0, 5, 7), hits.stream().map(GeoGridIndex.Hit::id).collect(Collectors.toList()));
+    }
+
+    @Test
+    void nearest_SmallCandidateSet_MatchesBruteForce() {
+        // Arrange
+        Set<Long> candidates = LongStream.range(0, POINTS).filter(id -> id % 97 == 0).boxed().collect(Collectors.toSet());
+
+        // Act
+        List<GeoGridIndex.Hit> hits = index.nearest(30.0, -20.0, 10, candidates);
+
+        // Assert
+        assertEquals(bruteForce(30.0, -20.0, 10, 97), hits.stream().map(GeoGridIndex.Hit::id).collect(Collectors.toList()));
+    }
+
+    @Test
+    void nearest_AcrossPoleAndAntimeridian_MatchesBruteForce() {
+        // Arrange
+        double[][] queries = {{89.9, 0.0}, {-89.9, 45.0}, {20.0, 179.99}, {-40.0, -179.99}, {75.0, -170.0}};
+
+        for (double[] query : queries) {
+            // Act
+            List<Long> ids = index.nearest(query[0], query[1], 10, id -> true).stream()
+                .map(GeoGridIndex.Hit::id).collect(Collectors.toList());
+
+            // Assert
+            assertEquals(bruteForce(query[0], query[1], 10, 0), ids);
+        }
+    }
+
+    @Test
+    void withinRadius_MetroCenter_ReturnsAllPointsInsideSortedByDistance() {
+        // Act
+        List<GeoGridIndex.Hit> hits = index.withinRadius(30.0, -20.0, 25.0, id -> true, Integer.MAX_VALUE);
+
+        // Assert
+        long expected = IntStream.range(0, POINTS)
+            .filter(id -> GeoGridIndex.distanceKm(30.0, -20.0, coordinates[id][0], coordinates[id][1]) <= 25.0)
+            .count();
+        assertEquals(expected, hits.size());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).distanceKm() <= hits.get(i).distanceKm());
+        }
+    }
+
+    @Test
+    void put_MovedPoint_IsFoundAtNewLocation() {
+        // Act
+        index.put(1L, -75.0, 100.0);
+
+        // Assert
+        assertEquals(1L, index.nearest(-75.0, 100.0, 1, id -> true).get(0).id());
+        assertEquals(POINTS, index.size());
+    }
+
+    /**
+     * The k nearest ids by a full scan, keeping the best k seen so far in a bounded max-heap
+     */
+    private List<Long> bruteForce(double latitude, double longitude, int k, int modulo) {
+        double[] distances = new double[POINTS];
+        Comparator<Integer> nearestFirst = Comparator.<Integer>comparingDouble(id -> distances[id])
+            .thenComparingInt(id -> id);
+        PriorityQueue<Integer> best = new PriorityQueue<>(nearestFirst.reversed());
+        for (int id = 0; id < POINTS; id++) {
+            if (modulo != 0 && id % modulo != 0) {
+                continue;
+            }
+            distances[id] = GeoGridIndex.distanceKm(latitude, longitude, coordinates[id][0], coordinates[id][1]);
+            best.add(id);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        List<Integer> ids = new ArrayList<>(best);
+        ids.sort(nearestFirst);
+        return ids.stream().map(Integer::longValue).collect(Collectors.toList());
+    }
+}
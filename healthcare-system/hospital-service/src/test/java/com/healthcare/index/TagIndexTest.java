@@ -0,0 +1,95 @@
+package com.healthcare.index;
+
+import com.healthcare.util.SpecializationTags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TagIndex and specialization tag parsing
+ */
+public class TagIndexTest {
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new TagIndex();
+        tagIndex.put(1L, SpecializationTags.parse("Cardiology, Neurology"));
+        tagIndex.put(2L, SpecializationTags.parse("cardiology; Pediatric  Surgery"));
+        tagIndex.put(3L, SpecializationTags.parse("Oncology"));
+    }
+
+    @Test
+    void parse_MixedSeparatorsAndCase_ReturnsNormalizedTags() {
+        // Act
+        Set<String> tags = SpecializationTags.parse("  Cardiology,, PEDIATRIC   surgery ;|");
+
+        // Assert
+        assertEquals(List.of("cardiology", "pediatric surgery"), List.copyOf(tags));
+    }
+
+    @Test
+    void matchAny_MultipleTags_ReturnsUnion() {
+        // Act
+        Set<Long> ids = tagIndex.matchAny(List.of("neurology", "oncology"));
+
+        // Assert
+        assertEquals(Set.of(1L, 3L), ids);
+    }
+
+    @Test
+    void matchAll_MultipleTags_ReturnsIntersection() {
+        // Act
+        Set<Long> ids = tagIndex.matchAll(List.of("cardiology", "pediatric surgery"));
+
+        // Assert
+        assertEquals(Set.of(2L), ids);
+    }
+
+    @Test
+    void matchAll_UnknownTag_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(tagIndex.matchAll(List.of("cardiology", "dermatology")).isEmpty());
+    }
+
+    @Test
+    void matchPrefix_PartialTag_ReturnsIdsWithTagsStartingWithIt() {
+        // Act & Assert
+        assertEquals(Set.of(1L, 2L), tagIndex.matchPrefix(List.of("cardio")));
+        assertEquals(Set.of(2L), tagIndex.matchPrefix(List.of("pediatric")));
+        assertEquals(Set.of(1L, 3L), tagIndex.matchPrefix(List.of("neuro", "onco")));
+    }
+
+    @Test
+    void matchPrefix_MidTagText_DoesNotMatch() {
+        // Act & Assert
+        assertTrue(tagIndex.matchPrefix(List.of("surgery")).isEmpty());
+        assertTrue(tagIndex.matchPrefix(List.of("cardiologyx")).isEmpty());
+    }
+
+    @Test
+    void put_ExistingId_ReplacesPreviousTags() {
+        // Act
+        tagIndex.put(1L, Set.of("oncology"));
+
+        // Assert
+        assertEquals(Set.of(2L), tagIndex.matchAny(List.of("cardiology")));
+        assertTrue(tagIndex.matchAny(List.of("neurology")).isEmpty());
+        assertEquals(Set.of(1L, 3L), tagIndex.matchAny(List.of("oncology")));
+    }
+
+    @Test
+    void remove_ExistingId_DropsEmptyPostingLists() {
+        // Act
+        tagIndex.remove(3L);
+
+        // Assert
+        assertFalse(tagIndex.tags().contains("oncology"));
+        assertEquals(2, tagIndex.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.healthcare.index;
+
+import com.healthcare.util.OperatingHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeeklyIntervalIndex and operating hours parsing
+ */
+public class WeeklyIntervalIndexTest {
+
+    private WeeklyIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WeeklyIntervalIndex();
+        index.put(1L, OperatingHours.parse("Mon-Fri 08:00-20:00; Sat 9am-1pm; Sun closed"));
+        index.put(2L, OperatingHours.parse("24/7"));
+        index.put(3L, OperatingHours.parse("Daily 22:00-06:00"));
+    }
+
+    @Test
+    void parse_DayRangesAndMeridiem_ReturnsIntervals() {
+        // Act
+        OperatingHours hours = OperatingHours.parse("Mon-Fri 8:00-17:00, Sat 9-1pm; Sun closed");
+
+        // Assert
+        assertEquals(List.of(new OperatingHours.Interval(480, 1020)), hours.intervals(DayOfWeek.WEDNESDAY));
+        assertEquals(List.of(new OperatingHours.Interval(540, 780)), hours.intervals(DayOfWeek.SATURDAY));
+        assertTrue(hours.intervals(DayOfWeek.SUNDAY).isEmpty());
+    }
+
+    @Test
+    void parse_OvernightRange_SplitsIntoNextDay() {
+        // Act
+        OperatingHours hours = OperatingHours.parse("Sun 22:00-06:00");
+
+        // Assert
+        assertEquals(List.of(new OperatingHours.Interval(1320, 1440)), hours.intervals(DayOfWeek.SUNDAY));
+        assertEquals(List.of(new OperatingHours.Interval(0, 360)), hours.intervals(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void parse_UnrecognizedText_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(OperatingHours.parse("Call ahead").isEmpty());
+        assertTrue(OperatingHours.parse(null).isEmpty());
+    }
+
+    @Test
+    void openAt_WeekdayMorning_ReturnsDayAndAlwaysOpen() {
+        // Act
+        Set<Long> ids = index.openAt(DayOfWeek.TUESDAY, 9 * 60);
+
+        // Assert
+        assertEquals(Set.of(1L, 2L), ids);
+    }
+
+    @Test
+    void openAt_Boundaries_AreStartInclusiveEndExclusive() {
+        // Act & Assert
+        assertTrue(index.openAt(DayOfWeek.MONDAY, 8 * 60).contains(1L));
+        assertFalse(index.openAt(DayOfWeek.MONDAY, 20 * 60).contains(1L));
+        assertTrue(index.openAt(DayOfWeek.MONDAY, 5 * 60 + 59).contains(3L));
+        assertFalse(index.openAt(DayOfWeek.MONDAY, 6 * 60).contains(3L));
+    }
+
+    @Test
+    void put_ChangedHours_RebuildsAffectedDays() {
+        // Act
+        index.put(1L, OperatingHours.parse("Sun 10:00-12:00"));
+
+        // Assert
+        assertFalse(index.openAt(DayOfWeek.TUESDAY, 9 * 60).contains(1L));
+        assertTrue(index.openAt(DayOfWeek.SUNDAY, 11 * 60).contains(1L));
+    }
+
+    @Test
+    void remove_ExistingId_DropsFromEveryDay() {
+        // Act
+        index.remove(2L);
+
+        // Assert
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertFalse(index.openAt(day, 12 * 60).contains(2L));
+        }
+        assertEquals(2, index.size());
+    }
+}
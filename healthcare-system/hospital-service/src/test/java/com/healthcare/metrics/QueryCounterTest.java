@@ -0,0 +1,86 @@
+package com.healthcare.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryCounter
+ */
+public class QueryCounterTest {
+
+    private static final String SELECT_HOSPITAL = "select h1_0.id from hospitals h1_0 where h1_0.id=?";
+
+    private final QueryCounter counter = new QueryCounter();
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    void inspect_NotStarted_CountsNothing() {
+        // Act
+        counter.inspect(SELECT_HOSPITAL);
+
+        // Assert
+        assertEquals(0, QueryCounter.current());
+    }
+
+    @Test
+    void inspect_EnforcedBudgetExceeded_ThrowsAtFirstExcessStatement() {
+        // Arrange
+        QueryCounter.start();
+        counter.inspect("select a1_0.id from admins a1_0 where a1_0.username=?");
+        QueryCounter.budget(2, true);
+        counter.inspect(SELECT_HOSPITAL);
+        counter.inspect(SELECT_HOSPITAL);
+
+        // Act
+        QueryBudgetExceededException breach = assertThrows(QueryBudgetExceededException.class,
+            () -> counter.inspect(SELECT_HOSPITAL));
+
+        // Assert
+        assertEquals(2, breach.getBudget());
+        assertEquals(SELECT_HOSPITAL, breach.getSql());
+        assertSame(breach, QueryCounter.breach());
+        assertEquals(4, QueryCounter.current());
+    }
+
+    @Test
+    void inspect_SampledBudgetExceeded_RecordsBreachAndMostRepeated() {
+        // Arrange
+        QueryCounter.start();
+        QueryCounter.budget(1, false);
+
+        // Act
+        counter.inspect("select d1_0.id from departments d1_0 where d1_0.name like ?");
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(SELECT_HOSPITAL);
+        }
+
+        // Assert
+        assertNotNull(QueryCounter.breach());
+        Map.Entry<String, Integer> mostRepeated = QueryCounter.mostRepeated();
+        assertEquals(SELECT_HOSPITAL, mostRepeated.getKey());
+        assertEquals(5, mostRepeated.getValue());
+    }
+
+    @Test
+    void inspect_WithinBudget_RecordsNoBreach() {
+        // Arrange
+        QueryCounter.start();
+        QueryCounter.budget(2, true);
+
+        // Act
+        counter.inspect(SELECT_HOSPITAL);
+        counter.inspect(SELECT_HOSPITAL);
+
+        // Assert
+        assertNull(QueryCounter.breach());
+        assertEquals(2, QueryCounter.stop());
+    }
+}
@@ -0,0 +1,81 @@
+package com.healthcare.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InvertedIndex and text analysis
+ */
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(Map.of("facilities", 2.0f, "description", 1.0f));
+        index.put(1L, Map.of("description", "General hospital", "facilities", "MRI, CT scans, X-Ray"));
+        index.put(2L, Map.of("description", "Kidney care centre with MRI referral", "facilities", "Dialysis units"));
+        index.put(3L, Map.of("description", "Children's hospital", "facilities", "Pediatric ICU"));
+    }
+
+    @Test
+    void analyze_PluralsHyphensAndStopWords_ReturnsNormalizedTerms() {
+        // Act
+        List<String> terms = TextAnalyzer.analyze("Children's X-Ray and MRI scans");
+
+        // Assert
+        assertEquals(List.of("children", "xray", "ray", "mri", "scan"), terms);
+    }
+
+    @Test
+    void search_TermInFacilities_RanksAboveDescriptionMatch() {
+        // Act
+        List<SearchHit> hits = index.search("MRI", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), hits.stream().map(SearchHit::id).toList());
+    }
+
+    @Test
+    void search_PartialTerm_FallsBackToPrefix() {
+        // Act
+        List<SearchHit> hits = index.search("dialy", 10);
+
+        // Assert
+        assertEquals(List.of(2L), hits.stream().map(SearchHit::id).toList());
+    }
+
+    @Test
+    void search_Limit_ReturnsTopHitsOnly() {
+        // Act
+        List<SearchHit> hits = index.search("hospital", 1);
+
+        // Assert
+        assertEquals(1, hits.size());
+    }
+
+    @Test
+    void put_ReplacedText_DropsOldTerms() {
+        // Act
+        index.put(1L, Map.of("facilities", "Cardiac surgery"));
+
+        // Assert
+        assertTrue(index.search("mri", 10).stream().noneMatch(hit -> hit.id() == 1L));
+        assertEquals(List.of(1L), index.search("cardiac", 10).stream().map(SearchHit::id).toList());
+    }
+
+    @Test
+    void remove_ExistingDocument_NoLongerMatches() {
+        // Act
+        index.remove(2L);
+
+        // Assert
+        assertTrue(index.search("dialysis", 10).isEmpty());
+        assertEquals(2, index.documentCount());
+    }
+}
@@ -0,0 +1,73 @@
+package com.healthcare.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for permission compilation and bitmask evaluation
+ */
+public class AdminPermissionEvaluatorTest {
+
+    private AdminPermissionEvaluator evaluator;
+    private Authentication departmentAdmin;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new AdminPermissionEvaluator();
+        long mask = PermissionCompiler.compile("department_admin", "cache:manage, unknown-permission");
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_DEPARTMENT_ADMIN"));
+        departmentAdmin = new UsernamePasswordAuthenticationToken(
+            new AdminPrincipal("dept.admin", "", authorities, mask), "", authorities);
+    }
+
+    @Test
+    void compile_RoleAndExtraGrants_CombinesMasks() {
+        // Act
+        long mask = PermissionCompiler.compile("STAFF", "BULK_IMPORT");
+
+        // Assert
+        assertEquals(Permission.HOSPITAL_READ.mask() | Permission.DEPARTMENT_READ.mask()
+            | Permission.BULK_IMPORT.mask(), mask);
+        assertEquals(Permission.allMask(), PermissionCompiler.compile("STAFF", "*"));
+    }
+
+    @Test
+    void has_GrantedAndMissingPermissions_TestsBits() {
+        // Act & Assert
+        assertTrue(evaluator.has(departmentAdmin, "DEPARTMENT_WRITE"));
+        assertTrue(evaluator.has(departmentAdmin, "CACHE_MANAGE"));
+        assertFalse(evaluator.has(departmentAdmin, "HOSPITAL_WRITE"));
+        assertFalse(evaluator.has(null, "HOSPITAL_READ"));
+    }
+
+    @Test
+    void has_RepeatedChecks_DoNotAllocate() {
+        // Arrange
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int granted = 0;
+        for (int i = 0; i < 100_000; i++) {
+            granted += evaluator.has(departmentAdmin, "DEPARTMENT_WRITE") ? 1 : 0;
+        }
+
+        // Act
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1_000_000; i++) {
+            granted += evaluator.has(departmentAdmin, "DEPARTMENT_WRITE") ? 1 : 0;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Assert
+        assertEquals(1_100_000, granted);
+        assertTrue(allocated < 4096, "Permission checks allocated " + allocated + " bytes");
+    }
+}
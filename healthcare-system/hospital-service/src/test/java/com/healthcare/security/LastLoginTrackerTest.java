@@ -0,0 +1,123 @@
+package com.healthcare.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LastLoginTracker
+ */
+@ExtendWith(MockitoExtension.class)
+public class LastLoginTrackerTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LastLoginTracker tracker;
+
+    @Test
+    void recordLogin_RepeatedLogins_CoalesceToLatestPerAdmin() {
+        // Act
+        tracker.recordLogin(1L, NINE);
+        tracker.recordLogin(1L, NINE.plusMinutes(5));
+        tracker.recordLogin(1L, NINE.plusMinutes(2));
+        tracker.recordLogin(2L, NINE);
+
+        // Assert
+        assertEquals(2, tracker.pendingCount());
+        assertEquals(Optional.of(NINE.plusMinutes(5)), tracker.pendingLogin(1L));
+        assertEquals(Optional.of(NINE), tracker.pendingLogin(2L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_PendingLogins_WritesOneBatchAndClearsThem() throws Exception {
+        // Arrange
+        tracker.recordLogin(1L, NINE);
+        tracker.recordLogin(1L, NINE.plusMinutes(5));
+        tracker.recordLogin(2L, NINE);
+
+        // Act
+        tracker.flush();
+
+        // Assert
+        ArgumentCaptor<Collection<Map.Entry<Long, LocalDateTime>>> batch = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Map.Entry<Long, LocalDateTime>>> setter =
+            ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq("UPDATE admins SET last_login = ? WHERE id = ?"),
+            batch.capture(), eq(2), setter.capture());
+        assertEquals(Map.of(1L, NINE.plusMinutes(5), 2L, NINE),
+            batch.getValue().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        assertEquals(0, tracker.pendingCount());
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, Map.entry(2L, NINE));
+        verify(statement).setTimestamp(1, Timestamp.valueOf(NINE));
+        verify(statement).setLong(2, 2L);
+    }
+
+    @Test
+    void flush_NothingPending_DoesNotTouchTheDatabase() {
+        // Act
+        tracker.flush();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_LoginDuringWrite_StaysPendingForNextFlush() {
+        // Arrange
+        tracker.recordLogin(1L, NINE);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            tracker.recordLogin(1L, NINE.plusMinutes(1));
+            return new int[][] {{1}};
+        });
+
+        // Act
+        tracker.flush();
+
+        // Assert
+        assertEquals(Optional.of(NINE.plusMinutes(1)), tracker.pendingLogin(1L));
+    }
+
+    @Test
+    void flush_DatabaseFailure_KeepsEntriesPending() {
+        // Arrange
+        tracker.recordLogin(1L, NINE);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+            .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        tracker.flush();
+
+        // Assert
+        assertEquals(Optional.of(NINE), tracker.pendingLogin(1L));
+    }
+}
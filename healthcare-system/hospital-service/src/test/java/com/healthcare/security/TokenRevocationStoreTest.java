@@ -0,0 +1,117 @@
+package com.healthcare.security;
+
+import com.healthcare.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TokenRevocationStore
+ */
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationStoreTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @InjectMocks
+    private TokenRevocationStore revocationStore;
+
+    private long expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(revocationStore, "expectedRevocations", 1000);
+        ReflectionTestUtils.setField(revocationStore, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(revocationStore, "snapshotFile", "");
+        when(adminRepository.findUsernamesWithTokenVersion())
+            .thenReturn(List.<Object[]>of(new Object[] {"locked.out", 3}));
+        revocationStore.init();
+        expiresAt = System.currentTimeMillis() + 3_600_000L;
+    }
+
+    @Test
+    void isRevoked_UnknownToken_ReturnsFalse() {
+        // Act & Assert
+        assertFalse(revocationStore.isRevoked("jti-1", "admin", 0, expiresAt));
+    }
+
+    @Test
+    void revoke_Token_IsRevokedUntilExpiry() {
+        // Act
+        revocationStore.revoke("jti-1", expiresAt);
+
+        // Assert
+        assertTrue(revocationStore.isRevoked("jti-1", "admin", 0, expiresAt));
+        assertFalse(revocationStore.isRevoked("jti-2", "admin", 0, expiresAt));
+    }
+
+    @Test
+    void revoke_AlreadyExpiredToken_IsNotStored() {
+        // Act
+        revocationStore.revoke("jti-1", System.currentTimeMillis() - 1);
+
+        // Assert
+        assertEquals(0, revocationStore.revokedTokenCount());
+    }
+
+    @Test
+    void isRevoked_OlderTokenVersion_ReturnsTrue() {
+        // Act & Assert
+        assertTrue(revocationStore.isRevoked("jti-1", "locked.out", 2, expiresAt));
+        assertFalse(revocationStore.isRevoked("jti-1", "locked.out", 3, expiresAt));
+    }
+
+    @Test
+    void revokeAllForUser_NewVersion_RevokesEarlierTokens() {
+        // Act
+        revocationStore.revokeAllForUser("admin", 1);
+
+        // Assert
+        assertTrue(revocationStore.isRevoked("jti-1", "admin", 0, expiresAt));
+        assertEquals(1, revocationStore.currentTokenVersion("admin"));
+    }
+
+    @Test
+    void refreshTokenVersions_BumpPersistedByAnotherInstance_RevokesEarlierTokens() {
+        // Arrange
+        TokenRevocationStore peer = new TokenRevocationStore();
+        ReflectionTestUtils.setField(peer, "adminRepository", adminRepository);
+        ReflectionTestUtils.setField(peer, "expectedRevocations", 1000);
+        ReflectionTestUtils.setField(peer, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(peer, "snapshotFile", "");
+        peer.init();
+        revocationStore.revokeAllForUser("admin", 1);
+        when(adminRepository.findUsernamesWithTokenVersion())
+            .thenReturn(List.<Object[]>of(new Object[] {"locked.out", 3}, new Object[] {"admin", 1}));
+        assertFalse(peer.isRevoked("jti-1", "admin", 0, expiresAt));
+
+        // Act
+        peer.refreshTokenVersions();
+
+        // Assert
+        assertTrue(peer.isRevoked("jti-1", "admin", 0, expiresAt));
+        assertFalse(peer.isRevoked("jti-1", "admin", 1, expiresAt));
+    }
+
+    @Test
+    void refreshTokenVersions_StaleRead_KeepsLocalBump() {
+        // Arrange
+        revocationStore.revokeAllForUser("locked.out", 4);
+
+        // Act
+        revocationStore.refreshTokenVersions();
+
+        // Assert
+        assertEquals(4, revocationStore.currentTokenVersion("locked.out"));
+    }
+}
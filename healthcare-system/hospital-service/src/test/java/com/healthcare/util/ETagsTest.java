@@ -0,0 +1,48 @@
+package com.healthcare.util;
+
+import com.healthcare.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ETags
+ */
+public class ETagsTest {
+
+    @Test
+    void expectedVersion_TagFromOf_ReturnsVersion() {
+        // Arrange
+        String etag = ETags.of(12L, 3L);
+
+        // Act
+        Long version = ETags.expectedVersion(etag, 12L);
+
+        // Assert
+        assertEquals("\"12.3\"", etag);
+        assertEquals(3L, version);
+    }
+
+    @Test
+    void expectedVersion_AbsentOrWildcard_ReturnsNull() {
+        // Act & Assert
+        assertNull(ETags.expectedVersion(null, 12L));
+        assertNull(ETags.expectedVersion("*", 12L));
+    }
+
+    @Test
+    void expectedVersion_WeakOrForeignTag_ThrowsPreconditionFailed() {
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedVersion("W/\"12.3\"", 12L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedVersion("\"112.3\"", 12L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedVersion("\"12.x\"", 12L));
+    }
+
+    @Test
+    void checkVersion_Mismatch_ThrowsPreconditionFailed() {
+        // Act & Assert
+        assertDoesNotThrow(() -> ETags.checkVersion(null, 4L));
+        assertDoesNotThrow(() -> ETags.checkVersion(4L, 4L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.checkVersion(3L, 4L));
+    }
+}
@@ -0,0 +1,100 @@
+package com.healthcare.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One patient journey: search, then slots, then hold and book, then maybe cancel.
+ *
+ * 1. Search doctors by the specialization of a doctor drawn by popularity and, for a share of
+ *    the journeys, the hospitals nearest to a random point.
+ * 2. Read that doctor's slots from doctor-service and the free times for a future day from
+ *    appointment-service.
+ * 3. Check one free time, which is as close to a hold as the services offer, then book it.
+ *    Users racing for the same time show up as rejected bookings.
+ * 4. Cancel a share of the bookings again, which frees the slot for others.
+ */
+public final class BookingWorkload {
+
+    private final ServiceClient client;
+    private final Dataset dataset;
+    private final ServiceEndpoints endpoints;
+    private final double hospitalSearchRatio;
+    private final double cancelRatio;
+    private final String[] doctorTokens;
+    private final String hospitalToken;
+
+    private BookingWorkload(ServiceClient client, Dataset dataset, ServiceEndpoints endpoints,
+                            LoadTestOptions options, String[] doctorTokens, String hospitalToken) {
+        this.client = client;
+        this.dataset = dataset;
+        this.endpoints = endpoints;
+        this.hospitalSearchRatio = hospitalToken == null ? 0 : options.decimal("hospital-search-ratio", 0.3);
+        this.cancelRatio = options.decimal("cancel-ratio", 0.2);
+        this.doctorTokens = doctorTokens;
+        this.hospitalToken = hospitalToken;
+    }
+
+    /**
+     * Log in with seeded accounts and return a workload ready to run. Doctor-service only serves
+     * authenticated callers, so the journeys share a few doctor sessions.
+     */
+    public static BookingWorkload create(ServiceClient client, Dataset dataset, ServiceEndpoints endpoints,
+                                         LoadTestOptions options) throws IOException, InterruptedException {
+        String[] doctorTokens = new String[Math.min(options.integer("doctor-sessions", 8), dataset.getDoctorCount())];
+        for (int i = 0; i < doctorTokens.length; i++) {
+            doctorTokens[i] = client.login(endpoints.doctorUrl() + "/api/doctors/auth/login",
+                Map.of("email", DataGenerator.doctorEmail(i + 1L), "password", DataGenerator.PASSWORD));
+        }
+        String hospitalToken = endpoints.hospitalUrl() == null ? null
+            : client.login(endpoints.hospitalUrl() + "/api/admins/auth/login",
+                Map.of("username", DataGenerator.ADMIN_USERNAME, "password", DataGenerator.PASSWORD));
+        return new BookingWorkload(client, dataset, endpoints, options, doctorTokens, hospitalToken);
+    }
+
+    public void run(Random random) throws IOException, InterruptedException {
+        String doctorToken = doctorTokens[random.nextInt(doctorTokens.length)];
+        long doctorId = dataset.pickDoctor(random);
+        LocalDate day = dataset.pickBookingDay(random, LocalDate.now());
+
+        // Search
+        client.get("doctor.search", endpoints.doctorUrl() + "/api/doctors/search?specialization="
+            + URLEncoder.encode(dataset.specialization(doctorId), StandardCharsets.UTF_8), doctorToken);
+        if (random.nextDouble() < hospitalSearchRatio) {
+            client.get("hospital.nearest", endpoints.hospitalUrl() + "/api/hospitals/nearest?k=5&lat="
+                + Dataset.pickLatitude(random) + "&lon=" + Dataset.pickLongitude(random), hospitalToken);
+        }
+
+        // Slots
+        client.get("doctor.slots", endpoints.doctorUrl() + "/api/availability/doctor/" + doctorId
+            + "/slots?date=" + day, doctorToken);
+        JsonNode free = client.get("appointment.slots", endpoints.appointmentUrl()
+            + "/api/appointments/availability/slots?doctorId=" + doctorId + "&date=" + day.atStartOfDay(), null);
+        if (free == null || free.isEmpty()) {
+            return;
+        }
+        String time = free.get(random.nextInt(free.size())).asText();
+
+        // Hold, then book
+        JsonNode available = client.get("appointment.check", endpoints.appointmentUrl()
+            + "/api/appointments/availability/check?doctorId=" + doctorId + "&dateTime=" + time, null);
+        if (available == null || !available.asBoolean()) {
+            return;
+        }
+        JsonNode booked = client.post("appointment.book", endpoints.appointmentUrl() + "/api/appointments", null,
+            Map.of("doctorId", doctorId, "patientId", dataset.pickPatient(random),
+                "appointmentDate", time, "status", "PENDING"));
+
+        // Cancel
+        if (booked != null && random.nextDouble() < cancelRatio) {
+            client.put("appointment.cancel", endpoints.appointmentUrl() + "/api/appointments/"
+                + booked.path("id").asLong() + "/status?status=CANCELLED", null);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.healthcare.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Synthetic data for the load test, written with batched JDBC inserts straight into the
+ * services' tables. The schema itself comes from the services (their migrations run in the
+ * schema pass of EmbeddedServices), so only the columns the entities map are written here.
+ *
+ * Doctor popularity follows a Zipf distribution: with the default exponent of 1 the top 1% of
+ * doctors take a third or more of the appointments. Each doctor has at most one appointment per
+ * slot; draws for a fully booked doctor spill over to the next most popular one.
+ *
+ * Rows are inserted without IDs, so a fresh table numbers them 1..n in insertion order,
+ * which is what Dataset assumes. The services draw IDs from pooled sequences, so those are
+ * moved past the seeded rows afterwards.
+ */
+@Slf4j
+public final class DataGenerator {
+
+    public static final String PASSWORD = "loadtest";
+    public static final String ADMIN_USERNAME = "loadtest";
+
+    static final String[] SPECIALIZATIONS = {
+        "General Medicine", "Pediatrics", "Cardiology", "Dermatology", "Orthopedics", "Gynecology",
+        "Psychiatry", "Neurology", "Ophthalmology", "ENT", "Gastroenterology", "Oncology"
+    };
+
+    // Appointment slots as appointment-service hands them out: every 30 minutes from 09:00 to 17:00
+    static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+    static final int SLOT_MINUTES = 30;
+    static final int SLOTS_PER_DAY = 16;
+
+    private static final int BATCH_SIZE = 1000;
+    // allocationSize of the entities' sequence generators
+    private static final int ID_ALLOCATION = 50;
+    private static final String[] FACILITIES = {"MRI", "CT Scan", "Emergency", "ICU", "Pharmacy", "Dialysis",
+        "Blood Bank", "Maternity Ward", "Physiotherapy", "X-Ray"};
+
+    /**
+     * JDBC connection details of one service's database
+     */
+    public record Target(String url, String username, String password) {
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, int row) throws SQLException;
+    }
+
+    private final int doctors;
+    private final int hospitals;
+    private final int departmentsPerHospital;
+    private final int appointments;
+    private final int patients;
+    private final int days;
+    private final double zipfExponent;
+    private final long seed;
+
+    private String passwordHash;
+
+    public DataGenerator(LoadTestOptions options) {
+        this.doctors = options.integer("doctors", 500);
+        this.hospitals = options.integer("hospitals", 50);
+        this.departmentsPerHospital = Math.min(options.integer("departments-per-hospital", 6), SPECIALIZATIONS.length);
+        this.appointments = options.integer("appointments", 100_000);
+        this.patients = options.integer("patients", 20_000);
+        this.days = options.integer("days", 60);
+        this.zipfExponent = options.decimal("zipf", 1.0);
+        this.seed = options.number("seed", 42);
+        long capacity = (long) doctors * days * SLOTS_PER_DAY;
+        if (appointments > capacity) {
+            throw new IllegalArgumentException(appointments + " appointments do not fit in " + capacity
+                + " slots; raise --doctors or --days");
+        }
+    }
+
+    /**
+     * @return The data a seeded run contains; cheap, nothing is written
+     */
+    public Dataset plan() {
+        Random random = new Random(seed);
+        ZipfSampler specializationMix = new ZipfSampler(SPECIALIZATIONS.length, 0.8);
+        String[] specializationByDoctor = new String[doctors];
+        for (int doctor = 0; doctor < doctors; doctor++) {
+            specializationByDoctor[doctor] = SPECIALIZATIONS[specializationMix.sample(random)];
+        }
+        // Popularity is independent of the ID order
+        int[] doctorByRank = new int[doctors];
+        for (int doctor = 0; doctor < doctors; doctor++) {
+            doctorByRank[doctor] = doctor;
+        }
+        for (int i = doctors - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = doctorByRank[i];
+            doctorByRank[i] = doctorByRank[j];
+            doctorByRank[j] = swap;
+        }
+        LocalDate firstDay = LocalDate.now().minusDays(days / 2);
+        return new Dataset(specializationByDoctor, doctorByRank, new ZipfSampler(doctors, zipfExponent),
+            patients, days, firstDay);
+    }
+
+    public void seedDoctors(Target target, Dataset dataset) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String password = passwordHash();
+        Random random = new Random(seed + 1);
+        try (Connection connection = connect(target)) {
+            insert(connection, "doctors",
+                "INSERT INTO doctors (first_name, last_name, email, password, specialization, license_number, "
+                    + "years_of_experience, phone_number, about, consultation_fee, is_available, rating, "
+                    + "total_patients, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                doctors, (statement, row) -> {
+                    long id = row + 1L;
+                    statement.setString(1, "Doctor");
+                    statement.setString(2, "No" + id);
+                    statement.setString(3, doctorEmail(id));
+                    statement.setString(4, password);
+                    statement.setString(5, dataset.specialization(id));
+                    statement.setString(6, "LIC-" + id);
+                    statement.setInt(7, 1 + random.nextInt(35));
+                    statement.setString(8, String.format("555-%07d", id));
+                    statement.setString(9, "Synthetic doctor for load testing");
+                    statement.setDouble(10, 50 + random.nextInt(20) * 10);
+                    statement.setBoolean(11, true);
+                    statement.setDouble(12, Math.round((3 + random.nextDouble() * 2) * 10) / 10.0);
+                    statement.setInt(13, 0);
+                    statement.setTimestamp(14, now);
+                    statement.setTimestamp(15, now);
+                });
+            insert(connection, "doctor_qualifications",
+                "INSERT INTO doctor_qualifications (doctor_id, qualification) VALUES (?, ?)",
+                doctors, (statement, row) -> {
+                    statement.setLong(1, row + 1L);
+                    statement.setString(2, "MBBS");
+                });
+            // Monday to Friday, 09:00-17:00 with a lunch break
+            DayOfWeek[] workdays = {DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY};
+            insert(connection, "doctor_availability",
+                "INSERT INTO doctor_availability (doctor_id, day_of_week, start_time, end_time, "
+                    + "slot_duration_minutes, is_active, break_start_time, break_end_time) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                doctors * workdays.length, (statement, row) -> {
+                    statement.setLong(1, row / workdays.length + 1L);
+                    statement.setString(2, workdays[row % workdays.length].name());
+                    statement.setTime(3, Time.valueOf(FIRST_SLOT));
+                    statement.setTime(4, Time.valueOf(LocalTime.of(17, 0)));
+                    statement.setInt(5, SLOT_MINUTES);
+                    statement.setBoolean(6, true);
+                    statement.setTime(7, Time.valueOf(LocalTime.NOON));
+                    statement.setTime(8, Time.valueOf(LocalTime.of(13, 0)));
+                });
+            advanceSequences(connection, "doctors", "doctor_availability");
+        }
+    }
+
+    public void seedAppointments(Target target, Dataset dataset) throws SQLException {
+        Random random = new Random(seed + 2);
+        BitSet[] taken = new BitSet[doctors];
+        int slotsPerDoctor = days * SLOTS_PER_DAY;
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp created = Timestamp.valueOf(now);
+        try (Connection connection = connect(target)) {
+            insert(connection, "appointments",
+                "INSERT INTO appointments (doctor_id, patient_id, appointment_date, status, notes, created_at, "
+                    + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                appointments, (statement, row) -> {
+                    long doctorId = dataset.pickDoctor(random);
+                    // Fully booked doctors pass the appointment on to the next most popular one
+                    int rank = dataset.rankOf(doctorId);
+                    while (isFull(taken[(int) (doctorId - 1)], slotsPerDoctor)) {
+                        rank = (rank + 1) % doctors;
+                        doctorId = dataset.doctorAtRank(rank);
+                    }
+                    int doctor = (int) (doctorId - 1);
+                    if (taken[doctor] == null) {
+                        taken[doctor] = new BitSet(slotsPerDoctor);
+                    }
+                    int slot = taken[doctor].nextClearBit(random.nextInt(slotsPerDoctor));
+                    if (slot >= slotsPerDoctor) {
+                        slot = taken[doctor].nextClearBit(0);
+                    }
+                    taken[doctor].set(slot);
+
+                    LocalDateTime start = dataset.getFirstDay().plusDays(slot / SLOTS_PER_DAY)
+                        .atTime(FIRST_SLOT).plusMinutes((long) (slot % SLOTS_PER_DAY) * SLOT_MINUTES);
+                    statement.setLong(1, doctorId);
+                    statement.setLong(2, dataset.pickPatient(random));
+                    statement.setTimestamp(3, Timestamp.valueOf(start));
+                    statement.setString(4, status(start.isBefore(now), random));
+                    statement.setString(5, null);
+                    statement.setTimestamp(6, created);
+                    statement.setTimestamp(7, created);
+                });
+            advanceSequences(connection, "appointments");
+        }
+    }
+
+    public void seedHospitals(Target target) throws SQLException {
+        Random random = new Random(seed + 3);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (Connection connection = connect(target)) {
+            insert(connection, "hospitals",
+                "INSERT INTO hospitals (name, address, latitude, longitude, contact_number, email, description, "
+                    + "license_number, number_of_departments, number_of_doctors, number_of_staff, facilities, "
+                    + "specializations, emergency_contact, operating_hours, is_active) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                hospitals, (statement, row) -> {
+                    long id = row + 1L;
+                    String facilities = FACILITIES[row % FACILITIES.length] + ", "
+                        + FACILITIES[(row * 7 + 3) % FACILITIES.length];
+                    statement.setString(1, "Hospital " + id);
+                    statement.setString(2, id + " Synthetic Avenue");
+                    statement.setDouble(3, Dataset.pickLatitude(random));
+                    statement.setDouble(4, Dataset.pickLongitude(random));
+                    statement.setString(5, String.format("555-%07d", id));
+                    statement.setString(6, "hospital" + id + "@loadtest.example");
+                    statement.setString(7, "General hospital offering " + facilities);
+                    statement.setString(8, "HOS-" + id);
+                    statement.setInt(9, departmentsPerHospital);
+                    statement.setInt(10, 0);
+                    statement.setInt(11, 100 + random.nextInt(900));
+                    statement.setString(12, facilities);
+                    statement.setString(13, String.join(", ", departmentNames(row)));
+                    statement.setString(14, "911");
+                    statement.setString(15, row % 4 == 0 ? "24/7" : "Mon-Fri 08:00-20:00, Sat 09:00-13:00");
+                    statement.setBoolean(16, true);
+                });
+            insert(connection, "departments",
+                "INSERT INTO departments (name, hospital_id, description, number_of_doctors, number_of_staff, "
+                    + "specializations, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                hospitals * departmentsPerHospital, (statement, row) -> {
+                    int hospital = row / departmentsPerHospital;
+                    String name = departmentNames(hospital)[row % departmentsPerHospital];
+                    statement.setString(1, name);
+                    statement.setLong(2, hospital + 1L);
+                    statement.setString(3, name + " department");
+                    statement.setInt(4, 0);
+                    statement.setInt(5, 5 + random.nextInt(40));
+                    statement.setString(6, name);
+                    statement.setBoolean(7, true);
+                });
+            insert(connection, "admins",
+                "INSERT INTO admins (username, password, first_name, last_name, email, role, permissions, "
+                    + "is_active, token_version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                1, (statement, row) -> {
+                    statement.setString(1, ADMIN_USERNAME);
+                    statement.setString(2, passwordHash());
+                    statement.setString(3, "Load");
+                    statement.setString(4, "Test");
+                    statement.setString(5, "admin@loadtest.example");
+                    statement.setString(6, "ADMIN");
+                    statement.setString(7, "*");
+                    statement.setBoolean(8, true);
+                    statement.setInt(9, 0);
+                    statement.setTimestamp(10, now);
+                    statement.setTimestamp(11, now);
+                });
+            advanceSequences(connection, "hospitals", "departments", "admins");
+        }
+    }
+
+    public static String doctorEmail(long doctorId) {
+        return "doctor" + doctorId + "@loadtest.example";
+    }
+
+    private String[] departmentNames(int hospital) {
+        String[] names = new String[departmentsPerHospital];
+        for (int i = 0; i < departmentsPerHospital; i++) {
+            names[i] = SPECIALIZATIONS[(hospital + i) % SPECIALIZATIONS.length];
+        }
+        return names;
+    }
+
+    private static String status(boolean past, Random random) {
+        int roll = random.nextInt(100);
+        if (past) {
+            return roll < 85 ? "COMPLETED" : "CANCELLED";
+        }
+        return roll < 40 ? "PENDING" : roll < 90 ? "CONFIRMED" : "CANCELLED";
+    }
+
+    private static boolean isFull(BitSet taken, int slots) {
+        return taken != null && taken.cardinality() >= slots;
+    }
+
+    // One hash for every seeded account; BCrypt per row would dominate the seeding time
+    private String passwordHash() {
+        if (passwordHash == null) {
+            passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        }
+        return passwordHash;
+    }
+
+    private static Connection connect(Target target) throws SQLException {
+        Connection connection = DriverManager.getConnection(target.url(), target.username(), target.password());
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    /**
+     * Restart each table's ID sequence one block past its rows, as the services' V3 migrations do;
+     * on MySQL the sequence is the single-row table Hibernate keeps in its place
+     */
+    private static void advanceSequences(Connection connection, String... tables) throws SQLException {
+        boolean h2 = connection.getMetaData().getDatabaseProductName().startsWith("H2");
+        try (Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                String next = "(select coalesce(max(id), 0) + " + ID_ALLOCATION + " from " + table + ")";
+                statement.execute(h2
+                    ? "alter sequence " + table + "_seq restart with " + next
+                    : "update " + table + "_seq set next_val = " + next);
+            }
+            connection.commit();
+        }
+    }
+
+    private static void insert(Connection connection, String table, String sql, int rows, RowWriter writer)
+            throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int row = 0; row < rows; row++) {
+                writer.write(statement, row);
+                statement.addBatch();
+                if ((row + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+        log.info("Seeded {} rows into {} in {} ms", rows, table, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,103 @@
+package com.healthcare.loadtest;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * What the workload needs to know about the generated data: doctor IDs, their specialization and
+ * popularity, the patient ID range and where the hospitals are.
+ *
+ * Planned from the options and seed alone, so a run against services seeded by an earlier run
+ * with the same options sees the same data.
+ */
+public final class Dataset {
+
+    // Hospitals are spread over this box, about the size of a large city
+    public static final double MIN_LATITUDE = 40.50;
+    public static final double MAX_LATITUDE = 40.90;
+    public static final double MIN_LONGITUDE = -74.25;
+    public static final double MAX_LONGITUDE = -73.70;
+
+    private final String[] specializationByDoctor;
+    private final int[] doctorByRank;
+    private final int[] rankByDoctor;
+    private final ZipfSampler doctorPopularity;
+    private final int patients;
+    private final int days;
+    private final LocalDate firstDay;
+
+    Dataset(String[] specializationByDoctor, int[] doctorByRank, ZipfSampler doctorPopularity,
+            int patients, int days, LocalDate firstDay) {
+        this.specializationByDoctor = specializationByDoctor;
+        this.doctorByRank = doctorByRank;
+        this.rankByDoctor = new int[doctorByRank.length];
+        for (int rank = 0; rank < doctorByRank.length; rank++) {
+            rankByDoctor[doctorByRank[rank]] = rank;
+        }
+        this.doctorPopularity = doctorPopularity;
+        this.patients = patients;
+        this.days = days;
+        this.firstDay = firstDay;
+    }
+
+    public int getDoctorCount() {
+        return specializationByDoctor.length;
+    }
+
+    public int getPatientCount() {
+        return patients;
+    }
+
+    /**
+     * @return First day appointments are spread over; half of the window lies in the past
+     */
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * @return Doctor ID drawn by popularity
+     */
+    public long pickDoctor(Random random) {
+        return doctorByRank[doctorPopularity.sample(random)] + 1L;
+    }
+
+    /**
+     * @return Doctor ID of the given popularity rank, 0 being the most booked
+     */
+    public long doctorAtRank(int rank) {
+        return doctorByRank[rank] + 1L;
+    }
+
+    public int rankOf(long doctorId) {
+        return rankByDoctor[(int) (doctorId - 1)];
+    }
+
+    public String specialization(long doctorId) {
+        return specializationByDoctor[(int) (doctorId - 1)];
+    }
+
+    public long pickPatient(Random random) {
+        return 1L + random.nextInt(patients);
+    }
+
+    /**
+     * @return A day in the future part of the window, where bookings are made
+     */
+    public LocalDate pickBookingDay(Random random, LocalDate today) {
+        int ahead = Math.max(1, (int) (firstDay.plusDays(days).toEpochDay() - today.toEpochDay()));
+        return today.plusDays(1 + random.nextInt(ahead));
+    }
+
+    public static double pickLatitude(Random random) {
+        return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+    }
+
+    public static double pickLongitude(Random random) {
+        return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthcare.loadtest;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * Stands in for the application class of services that have none in their build output
+ * (appointment- and hospital-service): auto-configuration plus a scan of com.healthcare, which
+ * is what @SpringBootApplication on a class in that package would do.
+ *
+ * Deliberately not a @Configuration: it is registered as the primary source only, and must not
+ * be picked up by the com.healthcare scan of services that do bring their own application class.
+ */
+@EnableAutoConfiguration
+@AutoConfigurationPackage(basePackages = "com.healthcare")
+@ComponentScan("com.healthcare")
+public class EmbeddedApplication {
+}
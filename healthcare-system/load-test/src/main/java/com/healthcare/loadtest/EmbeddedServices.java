@@ -0,0 +1,164 @@
+package com.healthcare.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the services in this JVM, each on its own in-memory H2 database and a random port.
+ *
+ * The services share package and class names (every one has a com.healthcare.security.JwtTokenProvider),
+ * so each gets a class loader of its own over its build output. Spring, Hibernate, H2 and the other
+ * libraries come from the harness class path and are shared; that is also what lets DataGenerator
+ * reach a service's in-memory database over JDBC.
+ *
+ * A service is booted twice: once so its Flyway migrations lay out the schema, which Hibernate then
+ * validates, and again, after seeding, to serve. Caches and search indexes built at startup then see the seeded data.
+ */
+@Slf4j
+public final class EmbeddedServices implements AutoCloseable {
+
+    public enum Service {
+        DOCTOR("doctor", "doctor-service", "DoctorServiceApplication", List.of()),
+        // Ships without Spring Security; keep Boot from locking it down with a generated password
+        APPOINTMENT("appointment", "appointment-service", "AppointmentServiceApplication", List.of(
+            "--spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration,"
+                + "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration")),
+        HOSPITAL("hospital", "hospital-service", "HospitalServiceApplication", List.of(
+            "--hospital.cache.warm-on-startup=true"));
+
+        private final String key;
+        private final String directory;
+        private final String applicationClass;
+        private final List<String> arguments;
+
+        Service(String key, String directory, String applicationClass, List<String> arguments) {
+            this.key = key;
+            this.directory = directory;
+            this.applicationClass = applicationClass;
+            this.arguments = arguments;
+        }
+
+        /**
+         * @return Prefix of this service's options, e.g. --doctor-url
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+    }
+
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final List<URLClassLoader> classLoaders = new ArrayList<>();
+    private final boolean virtualThreads;
+
+    /**
+     * @param virtualThreads Run the services with threads.virtual.enabled, which takes effect on JDK 21+
+     */
+    public EmbeddedServices(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public static DataGenerator.Target database(Service service) {
+        return new DataGenerator.Target(
+            "jdbc:h2:mem:loadtest-" + service.key + ";DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+    }
+
+    /**
+     * Boot the service once so its migrations create the tables, then shut it down again
+     */
+    public void createSchema(Service service, Path classes) throws IOException {
+        long start = System.nanoTime();
+        boot(service, classes).close();
+        log.info("Created {} schema in {} ms", service.directory, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return Base URL of the running service
+     */
+    public String start(Service service, Path classes) throws IOException {
+        ConfigurableApplicationContext context = boot(service, classes);
+        contexts.add(context);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        log.info("Started {} on port {}", service.directory, port);
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        for (URLClassLoader classLoader : classLoaders) {
+            classLoader.close();
+        }
+    }
+
+    private ConfigurableApplicationContext boot(Service service, Path classes) throws IOException {
+        if (!Files.isDirectory(classes)) {
+            throw new IllegalStateException(classes + " does not exist; build " + service.directory
+                + " first, point --" + service.key + "-classes at its classes or pass --" + service.key + "-url");
+        }
+        URLClassLoader classLoader = new URLClassLoader(service.directory,
+            new URL[] {classes.toUri().toURL()}, EmbeddedServices.class.getClassLoader());
+        classLoaders.add(classLoader);
+
+        SpringApplication application = new SpringApplication(new DefaultResourceLoader(classLoader),
+            applicationClass(service, classLoader));
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setRegisterShutdownHook(false);
+
+        DataGenerator.Target database = database(service);
+        List<String> arguments = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.application.name=" + service.directory,
+            "--spring.datasource.url=" + database.url(),
+            "--spring.datasource.username=" + database.username(),
+            "--spring.datasource.password=" + database.password(),
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.hibernate.ddl-auto=validate",
+            "--spring.jpa.show-sql=false",
+            "--spring.jmx.enabled=false",
+            "--springdoc.api-docs.enabled=false",
+            "--springdoc.swagger-ui.enabled=false",
+            // Check the @QueryBudget of every request; breaches are logged with their call site, not failed
+            "--metrics.query-budget.mode=sample",
+            "--metrics.query-budget.sample-rate=1",
+            "--threads.virtual.enabled=" + virtualThreads,
+            "--logging.level.com.healthcare=INFO",
+            "--logging.level.org.springframework.security=WARN"));
+        arguments.addAll(service.arguments);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return application.run(arguments.toArray(String[]::new));
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static Class<?> applicationClass(Service service, ClassLoader classLoader) {
+        try {
+            return classLoader.loadClass("com.healthcare." + service.applicationClass);
+        } catch (ClassNotFoundException e) {
+            return EmbeddedApplication.class;
+        }
+    }
+}
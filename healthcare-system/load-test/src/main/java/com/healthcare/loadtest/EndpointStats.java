@@ -0,0 +1,121 @@
+package com.healthcare.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counts per endpoint.
+ *
+ * Latencies go into an HdrHistogram Recorder, which is wait-free for the recording threads,
+ * in microseconds with three significant digits. reset() drops what was recorded so far,
+ * which is how the warm-up is excluded from the report.
+ */
+public final class EndpointStats {
+
+    // Anything slower than a minute is recorded as a minute
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private static final class Endpoint {
+
+        private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+        private final Histogram total = new Histogram(MAX_MICROS, 3);
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private synchronized Histogram drain() {
+            total.add(recorder.getIntervalHistogram());
+            return total.copy();
+        }
+
+        private synchronized void reset() {
+            recorder.getIntervalHistogram();
+            total.reset();
+            rejected.reset();
+            failed.reset();
+        }
+    }
+
+    /**
+     * Record a completed call
+     * @param endpoint Endpoint name, e.g. "doctor.search"
+     * @param nanos Time taken
+     * @param status HTTP status; 4xx counts as rejected (e.g. slot already taken), 5xx as failed
+     */
+    public void record(String endpoint, long nanos, int status) {
+        Endpoint stats = endpoint(endpoint);
+        stats.recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, nanos / 1000)));
+        if (status >= 500) {
+            stats.failed.increment();
+        } else if (status >= 400) {
+            stats.rejected.increment();
+        }
+    }
+
+    /**
+     * Record a call that got no response at all (connection refused, timeout)
+     */
+    public void recordFailure(String endpoint, long nanos) {
+        record(endpoint, nanos, 599);
+    }
+
+    public void reset() {
+        endpoints.values().forEach(Endpoint::reset);
+    }
+
+    /**
+     * Print one line per endpoint: throughput, outcome counts and latency percentiles in ms
+     * @param seconds Length of the measured interval
+     */
+    public void report(PrintStream out, double seconds) {
+        out.printf("%-22s %10s %9s %9s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s",
+            "rejected", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        snapshot().forEach((name, histogram) -> {
+            Endpoint stats = endpoints.get(name);
+            out.printf("%-22s %10d %9.1f %9d %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                stats.rejected.sum(), stats.failed.sum(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        });
+    }
+
+    /**
+     * Write each endpoint's full percentile distribution as &lt;endpoint&gt;.hgrm, in ms; the files
+     * load into the HdrHistogram plotter for comparing runs
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : snapshot().entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private Map<String, Histogram> snapshot() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        endpoints.forEach((name, stats) -> histograms.put(name, stats.drain()));
+        return histograms;
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
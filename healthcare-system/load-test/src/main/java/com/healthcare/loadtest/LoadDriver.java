@@ -0,0 +1,171 @@
+package com.healthcare.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs journeys under a closed or an open load model and times each one as "journey".
+ *
+ * closed: a fixed number of users, each starting its next journey when the last one finished
+ *         (plus think time). Throughput adapts to the system, so it finds the saturation point,
+ *         but a slow system also gets fewer requests.
+ * open:   journeys start at a fixed rate whatever the system does, like independent patients.
+ *         Journey latency counts from the scheduled start, so time spent waiting behind a slow
+ *         system is included instead of being hidden (coordinated omission). Journeys that would
+ *         exceed max-in-flight are dropped and counted.
+ */
+@Slf4j
+public final class LoadDriver {
+
+    public static final String JOURNEY = "journey";
+
+    @FunctionalInterface
+    public interface Journey {
+        void run(Random random) throws Exception;
+    }
+
+    private final EndpointStats stats;
+    private final String model;
+    private final int users;
+    private final long thinkMs;
+    private final double rate;
+    private final int maxInFlight;
+    private final long warmupSeconds;
+    private final long durationSeconds;
+    private final long seed;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+
+    public LoadDriver(EndpointStats stats, LoadTestOptions options) {
+        this.stats = stats;
+        this.model = options.text("model", "closed");
+        this.users = options.integer("users", 32);
+        this.thinkMs = options.number("think-ms", 0);
+        this.rate = options.decimal("rate", 100);
+        this.maxInFlight = options.integer("max-in-flight", 1000);
+        this.warmupSeconds = options.number("warmup-s", 10);
+        this.durationSeconds = options.number("duration-s", 60);
+        this.seed = options.number("seed", 42);
+        if (!model.equals("closed") && !model.equals("open")) {
+            throw new IllegalArgumentException("--model must be closed or open, not " + model);
+        }
+    }
+
+    /**
+     * Run the warm-up and the measured interval; stats only hold the measured interval afterwards
+     * @return Length of the measured interval in seconds
+     */
+    public double run(Journey journey) throws InterruptedException {
+        running = true;
+        List<Thread> threads = model.equals("closed") ? startClosed(journey) : List.of(startOpen(journey));
+        log.info("Driving {} load: {}; warming up for {} s", model,
+            model.equals("closed") ? users + " users, " + thinkMs + " ms think time" : rate + " journeys/s",
+            warmupSeconds);
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        stats.reset();
+        dropped.reset();
+        long start = System.nanoTime();
+        log.info("Measuring for {} s", durationSeconds);
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        running = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return seconds;
+    }
+
+    /**
+     * @return Journeys the open model skipped because max-in-flight were already running
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private List<Thread> startClosed(Journey journey) {
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            Random random = new Random(seed + user);
+            Thread thread = new Thread(() -> {
+                while (running) {
+                    execute(journey, random, System.nanoTime());
+                    if (thinkMs > 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(thinkMs));
+                    }
+                }
+            }, "load-user-" + user);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    private Thread startOpen(Journey journey) {
+        AtomicInteger workers = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + workers.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long period = (long) (1e9 / rate);
+        Thread scheduler = new Thread(() -> {
+            long next = System.nanoTime();
+            while (running) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = next;
+                next += period;
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        execute(journey, ThreadLocalRandom.current(), intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "load-scheduler");
+        scheduler.setDaemon(true);
+        scheduler.start();
+        return scheduler;
+    }
+
+    private void execute(Journey journey, Random random, long start) {
+        try {
+            journey.run(random);
+            stats.record(JOURNEY, System.nanoTime() - start, 200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Journey failed", e);
+            stats.recordFailure(JOURNEY, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.healthcare.loadtest;
+
+import com.healthcare.loadtest.EmbeddedServices.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Load test entry point: boot the services on H2, seed them and drive booking journeys.
+ *
+ * Data:     --doctors=500 --appointments=100000 --patients=20000 --hospitals=50 --days=60
+ *           --zipf=1.0 (popularity skew, 0 = uniform) --seed=42
+ * Load:     --model=closed --users=32 --think-ms=0 | --model=open --rate=100 --max-in-flight=1000
+ *           --warmup-s=10 --duration-s=60 --cancel-ratio=0.2 --hospital-search-ratio=0.3
+ * Services: --services-dir=.. (build output in &lt;service&gt;/target/classes) or --doctor-classes=...,
+ *           --doctor-url=http://... to use a running service instead, seeded only when
+ *           --doctor-jdbc-url (and -jdbc-user, -jdbc-password) is given; likewise for
+ *           appointment and hospital. --hospital=false leaves hospital-service out.
+ *           --virtual-threads=true runs the embedded services in their virtual-thread mode (JDK 21+);
+ *           compare against a run without it on the same seed and load.
+ * Output:   a table per endpoint on stdout and &lt;endpoint&gt;.hgrm histograms in --report-dir
+ *
+ * e.g. --doctors=5000 --appointments=2000000 --model=open --rate=500
+ */
+@Slf4j
+public final class LoadTest {
+
+    @FunctionalInterface
+    private interface Seeder {
+        void seed(DataGenerator.Target target) throws SQLException;
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        DataGenerator generator = new DataGenerator(options);
+        Dataset dataset = generator.plan();
+        Path servicesDir = options.path("services-dir", Path.of(".."));
+
+        boolean virtualThreads = options.flag("virtual-threads", false);
+        try (EmbeddedServices embedded = new EmbeddedServices(virtualThreads)) {
+            ServiceEndpoints endpoints = new ServiceEndpoints(
+                prepare(embedded, Service.DOCTOR, options, servicesDir, target -> generator.seedDoctors(target, dataset)),
+                prepare(embedded, Service.APPOINTMENT, options, servicesDir,
+                    target -> generator.seedAppointments(target, dataset)),
+                options.flag("hospital", true)
+                    ? prepare(embedded, Service.HOSPITAL, options, servicesDir, generator::seedHospitals) : null);
+
+            EndpointStats stats = new EndpointStats();
+            ExecutorService httpExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "load-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ServiceClient client = new ServiceClient(stats, httpExecutor,
+                Duration.ofMillis(options.number("timeout-ms", 10_000)));
+            BookingWorkload workload = BookingWorkload.create(client, dataset, endpoints, options);
+
+            LoadDriver driver = new LoadDriver(stats, options);
+            double seconds = driver.run(workload::run);
+
+            System.out.println();
+            System.out.printf("Service threads: %s on Java %d%n",
+                virtualThreads && Runtime.version().feature() >= 21 ? "virtual" : "platform",
+                Runtime.version().feature());
+            stats.report(System.out, seconds);
+            if (driver.getDropped() > 0) {
+                System.out.printf("%d journeys dropped at max-in-flight; the system did not keep up%n",
+                    driver.getDropped());
+            }
+            Path reportDir = options.path("report-dir", Path.of("target", "loadtest"));
+            stats.writeHistograms(reportDir);
+            log.info("Histograms written to {}", reportDir.toAbsolutePath());
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return Base URL of the service, embedded and freshly seeded unless a URL was given
+     */
+    private static String prepare(EmbeddedServices embedded, Service service, LoadTestOptions options,
+                                  Path servicesDir, Seeder seeder) throws Exception {
+        String key = service.getKey();
+        String url = options.text(key + "-url", null);
+        if (url != null) {
+            String jdbcUrl = options.text(key + "-jdbc-url", null);
+            if (jdbcUrl != null) {
+                seeder.seed(new DataGenerator.Target(jdbcUrl, options.text(key + "-jdbc-user", "root"),
+                    options.text(key + "-jdbc-password", "")));
+            } else {
+                log.info("Using {} at {} with the data it already has", service.getDirectory(), url);
+            }
+            return url;
+        }
+        Path classes = options.path(key + "-classes",
+            servicesDir.resolve(service.getDirectory()).resolve("target").resolve("classes"));
+        embedded.createSchema(service, classes);
+        seeder.seed(EmbeddedServices.database(service));
+        return embedded.start(service, classes);
+    }
+}
@@ -0,0 +1,61 @@
+package com.healthcare.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options of the form --name=value, falling back to -Dloadtest.name=value
+ */
+public final class LoadTestOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private LoadTestOptions() {
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.values.put(arg.substring(2), "true");
+            } else {
+                options.values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    public String text(String name, String defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            value = System.getProperty("loadtest." + name);
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public int integer(String name, int defaultValue) {
+        return Integer.parseInt(text(name, String.valueOf(defaultValue)));
+    }
+
+    public long number(String name, long defaultValue) {
+        return Long.parseLong(text(name, String.valueOf(defaultValue)));
+    }
+
+    public double decimal(String name, double defaultValue) {
+        return Double.parseDouble(text(name, String.valueOf(defaultValue)));
+    }
+
+    public boolean flag(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(text(name, String.valueOf(defaultValue)));
+    }
+
+    public Path path(String name, Path defaultValue) {
+        String value = text(name, null);
+        return value == null ? defaultValue : Path.of(value);
+    }
+}
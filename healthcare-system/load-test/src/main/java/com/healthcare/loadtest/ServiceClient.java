@@ -0,0 +1,95 @@
+package com.healthcare.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * HTTP calls to the services, each timed into EndpointStats under a name of its own
+ */
+public final class ServiceClient {
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final EndpointStats stats;
+    private final Duration timeout;
+
+    public ServiceClient(EndpointStats stats, Executor executor, Duration timeout) {
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .executor(executor)
+            .build();
+        this.objectMapper = new ObjectMapper();
+        this.stats = stats;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return Response body, or null when the service answered with an error status
+     */
+    public JsonNode get(String endpoint, String url, String token) throws IOException, InterruptedException {
+        return send(endpoint, request(url, token).GET());
+    }
+
+    public JsonNode post(String endpoint, String url, String token, Object body)
+            throws IOException, InterruptedException {
+        return send(endpoint, request(url, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    public JsonNode put(String endpoint, String url, String token) throws IOException, InterruptedException {
+        return send(endpoint, request(url, token).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    /**
+     * Log in and return the bearer token; not timed, logins happen before the run
+     */
+    public String login(String url, Map<String, String> credentials) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request(url, null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(credentials)))
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login at " + url + " failed with HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    private HttpRequest.Builder request(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.recordFailure(endpoint, System.nanoTime() - start);
+            throw e;
+        }
+        stats.record(endpoint, System.nanoTime() - start, response.statusCode());
+        if (response.statusCode() >= 400) {
+            return null;
+        }
+        byte[] body = response.body();
+        return body.length == 0 ? objectMapper.nullNode() : objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthcare.loadtest;
+
+/**
+ * Base URLs of the services under load; hospitalUrl is null when hospital-service is left out
+ */
+public record ServiceEndpoints(String doctorUrl, String appointmentUrl, String hospitalUrl) {
+}
@@ -0,0 +1,184 @@
+package com.healthcare.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: start a packaged service several times in each mode and report the median
+ * time from launch to its first successful response, and its resident memory at that moment.
+ *
+ * Modes:    --modes=jvm,cds,aot,aot-cds; jvm is the plain jar, cds adds -XX:SharedArchiveFile,
+ *           aot adds -Dspring.aot.enabled=true
+ * Service:  --jar=../doctor-service/target/doctor-service-1.0.0.jar, built with the service's
+ *           aot-cds profile, which also records --archive (default &lt;artifactId&gt;.jsa next to the jar)
+ *           --path=/actuator/health --service-args="..." (default: an in-memory H2 database)
+ * Runs:     --runs=5 --timeout-s=120
+ * Output:   a table per mode on stdout and each start's log in --report-dir
+ *
+ * The service is started from the jar's directory with the jar name as recorded by the training
+ * run, since the archive only applies to the same class path.
+ */
+@Slf4j
+public final class StartupBenchmark {
+
+    private static final String H2_ARGS = "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL"
+        + " --spring.datasource.driver-class-name=org.h2.Driver"
+        + " --spring.datasource.username=sa --spring.datasource.password=";
+
+    private record Sample(long millis, long rssKb) {
+    }
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path jar = options.path("jar", Path.of("..", "doctor-service", "target", "doctor-service-1.0.0.jar"))
+            .toAbsolutePath().normalize();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " does not exist; build the service with -Paot-cds first");
+        }
+        String artifactId = jar.getFileName().toString().replaceFirst("-\\d.*\\.jar$", "");
+        Path archive = options.path("archive", jar.resolveSibling(artifactId + ".jsa")).toAbsolutePath();
+        List<String> modes = Arrays.asList(options.text("modes", "jvm,cds,aot,aot-cds").split(","));
+        int runs = options.integer("runs", 5);
+        String path = options.text("path", "/actuator/health");
+        List<String> serviceArgs = Arrays.asList(options.text("service-args", H2_ARGS).trim().split("\\s+"));
+        Duration timeout = Duration.ofSeconds(options.number("timeout-s", 120));
+        Path reportDir = options.path("report-dir", Path.of("target", "startup"));
+        Files.createDirectories(reportDir);
+        if (modes.stream().anyMatch(mode -> mode.contains("cds")) && !Files.isRegularFile(archive)) {
+            throw new IllegalStateException(archive + " does not exist; the aot-cds profile records it");
+        }
+
+        List<String> rows = new ArrayList<>();
+        for (String mode : modes) {
+            List<Sample> samples = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                Path logFile = reportDir.resolve(mode + "-" + run + ".log");
+                Sample sample = start(jar, jvmOptions(mode, archive), serviceArgs, path, timeout, logFile);
+                log.info("{} run {}: first response after {} ms, RSS {} MB", mode, run, sample.millis(),
+                    sample.rssKb() / 1024);
+                samples.add(sample);
+            }
+            rows.add(String.format("%-8s %5d %12d %12d %10d", mode, runs,
+                median(samples.stream().map(Sample::millis).toList()),
+                Collections.min(samples.stream().map(Sample::millis).toList()),
+                median(samples.stream().map(Sample::rssKb).toList()) / 1024));
+        }
+
+        System.out.println();
+        System.out.printf("Startup of %s on Java %d, first response to %s%n", jar.getFileName(),
+            Runtime.version().feature(), path);
+        System.out.printf("%-8s %5s %12s %12s %10s%n", "mode", "runs", "median ms", "min ms", "RSS MB");
+        rows.forEach(System.out::println);
+    }
+
+    private static List<String> jvmOptions(String mode, Path archive) {
+        List<String> jvmOptions = new ArrayList<>();
+        switch (mode) {
+            case "jvm" -> {
+            }
+            case "cds" -> jvmOptions.add("-XX:SharedArchiveFile=" + archive);
+            case "aot" -> jvmOptions.add("-Dspring.aot.enabled=true");
+            case "aot-cds" -> {
+                jvmOptions.add("-XX:SharedArchiveFile=" + archive);
+                jvmOptions.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + "; use jvm, cds, aot or aot-cds");
+        }
+        return jvmOptions;
+    }
+
+    /**
+     * Launch the service and poll it until it answers; the process is stopped before returning
+     */
+    private static Sample start(Path jar, List<String> jvmOptions, List<String> serviceArgs, String path,
+                                Duration timeout, Path logFile) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.getFileName().toString());
+        command.add("--server.port=" + port);
+        command.addAll(serviceArgs);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(jar.getParent().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+        try {
+            long deadline = started + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with " + process.exitValue() + "; see " + logFile);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                        return new Sample(millis, residentKb(process.pid()));
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No 200 from " + path + " within " + timeout + "; see " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * @return VmRSS of the process in kB, or 0 where /proc is not available
+     */
+    private static long residentKb(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,56 @@
+package com.healthcare.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ZipfSampler
+ */
+public class ZipfSamplerTest {
+
+    @Test
+    void sample_ExponentOne_MatchesHarmonicWeights() {
+        // Arrange
+        ZipfSampler sampler = new ZipfSampler(100, 1.0);
+        Random random = new Random(7);
+        int[] counts = new int[100];
+        int draws = 200_000;
+
+        // Act
+        for (int i = 0; i < draws; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // Assert
+        assertEquals(sampler.probability(0), counts[0] / (double) draws, 0.01);
+        assertEquals(sampler.probability(0) / 2, counts[1] / (double) draws, 0.01);
+        assertTrue(counts[0] > counts[9] * 5);
+    }
+
+    @Test
+    void sample_ExponentZero_IsUniform() {
+        // Arrange
+        ZipfSampler sampler = new ZipfSampler(4, 0);
+
+        // Act & Assert
+        for (int rank = 0; rank < 4; rank++) {
+            assertEquals(0.25, sampler.probability(rank), 1e-9);
+        }
+    }
+
+    @Test
+    void sample_AnyDraw_StaysInRange() {
+        // Arrange
+        ZipfSampler sampler = new ZipfSampler(3, 2.5);
+        Random random = new Random(1);
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 0 && rank < 3);
+        }
+    }
+}
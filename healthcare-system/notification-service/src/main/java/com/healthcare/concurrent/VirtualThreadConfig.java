@@ -0,0 +1,65 @@
+package com.healthcare.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.time.Duration;
+
+/**
+ * Opt-in virtual-thread mode, threads.virtual.enabled=true on JDK 21 or later.
+ *
+ * Tomcat requests and the application task executor behind @Async each get a virtual thread, so
+ * a slow SMTP round trip holds no worker, and pinned virtual threads are reported. On an older
+ * runtime the setting is logged and ignored.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("threads.virtual.enabled is set but Java {} has no virtual threads; keeping platform threads",
+                Runtime.version().feature());
+        }
+    }
+
+    @Configuration
+    @Conditional(OnVirtualThreads.class)
+    static class Enabled {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadRequestExecutor() {
+            return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor("http", 200));
+        }
+
+        @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+        public AsyncTaskExecutor applicationTaskExecutor() {
+            return new TaskExecutorAdapter(VirtualThreads.newPerTaskExecutor("task", 8));
+        }
+
+        @Bean(destroyMethod = "close")
+        public PinnedThreadMonitor pinnedThreadMonitor(MeterRegistry meterRegistry, Environment environment) {
+            return new PinnedThreadMonitor(meterRegistry,
+                Duration.ofMillis(environment.getProperty("threads.virtual.pinned-threshold-ms", Long.class, 20L)));
+        }
+    }
+
+    static class OnVirtualThreads implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return VirtualThreads.isSupported();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.healthcare.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -20,10 +22,13 @@ public class EmailService {
     @Autowired
     private TemplateEngine templateEngine;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public void sendAppointmentConfirmation(String to, Map<String, Object> templateModel) {
         try {
             String html = processTemplate("appointment-confirmation", templateModel);
-            sendHtmlEmail(to, "Appointment Confirmation", html);
+            sendHtmlEmail(to, "Appointment Confirmation", html, "appointment-confirmation");
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send appointment confirmation email", e);
         }
@@ -32,7 +37,7 @@ public class EmailService {
     public void sendAppointmentReminder(String to, Map<String, Object> templateModel) {
         try {
             String html = processTemplate("appointment-reminder", templateModel);
-            sendHtmlEmail(to, "Appointment Reminder", html);
+            sendHtmlEmail(to, "Appointment Reminder", html, "appointment-reminder");
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send appointment reminder email", e);
         }
@@ -41,7 +46,7 @@ public class EmailService {
     public void sendAppointmentCancellation(String to, Map<String, Object> templateModel) {
         try {
             String html = processTemplate("appointment-cancellation", templateModel);
-            sendHtmlEmail(to, "Appointment Cancellation", html);
+            sendHtmlEmail(to, "Appointment Cancellation", html, "appointment-cancellation");
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send appointment cancellation email", e);
         }
@@ -53,7 +58,7 @@ public class EmailService {
         return templateEngine.process(templateName, context);
     }
 
-    private void sendHtmlEmail(String to, String subject, String htmlContent) throws MessagingException {
+    private void sendHtmlEmail(String to, String subject, String htmlContent, String template) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
         
@@ -61,6 +66,14 @@ public class EmailService {
         helper.setSubject(subject);
         helper.setText(htmlContent, true);
         
-        mailSender.send(message);
+        // SMTP round trips dominate notification latency; time them per template and outcome
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            mailSender.send(message);
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("mail.send", "template", template, "outcome", outcome));
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.healthcare.client;
+
+import com.healthcare.dto.AppointmentDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
+
+/**
+ * Feign client for appointment-service
+ */
+@FeignClient(name = "appointment-service", url = "${appointment.service.url}")
+public interface AppointmentClient {
+
+    @GetMapping("/api/appointments/patient/{patientId}")
+    List<AppointmentDTO> getPatientAppointments(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        @PathVariable("patientId") Long patientId);
+}
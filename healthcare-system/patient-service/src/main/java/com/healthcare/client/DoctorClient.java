@@ -0,0 +1,30 @@
+package com.healthcare.client;
+
+import com.healthcare.dto.DoctorSummaryDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Feign client for doctor-service
+ * Prefer DoctorLookupClient, which batches and caches single lookups
+ */
+@FeignClient(name = "doctor-service", url = "${doctor.service.url}")
+public interface DoctorClient {
+
+    /**
+     * Resolve doctor summaries in one call
+     * @param authorization Bearer token forwarded to doctor-service, may be null
+     * @param ids Doctor IDs, at most 200
+     * @return Summaries of the doctors that exist
+     */
+    @GetMapping("/api/doctors/batch")
+    List<DoctorSummaryDTO> getDoctorSummaries(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        @RequestParam("ids") Collection<Long> ids);
+}
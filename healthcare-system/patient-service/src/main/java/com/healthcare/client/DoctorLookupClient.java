@@ -0,0 +1,272 @@
+package com.healthcare.client;
+
+import com.healthcare.concurrent.VirtualThreads;
+import com.healthcare.dto.DoctorSummaryDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Doctor lookups for patient-service, coalesced and cached.
+ *
+ * Single-id lookups arriving within a short window are merged into one call to doctor-service's
+ * batch endpoint, so rendering N appointments costs one request instead of N. Results are kept
+ * in a short-TTL local cache; doctor names and specializations change rarely.
+ * With threads.virtual.enabled each batch call runs on its own virtual thread instead of
+ * queueing for the scheduler's two, and the pending batch is guarded by a ReentrantLock so
+ * request threads contending for it are not pinned.
+ */
+@Slf4j
+@Component
+public class DoctorLookupClient {
+
+    @Value("${doctor.lookup.batch-window-ms:5}")
+    private long batchWindowMs;
+
+    @Value("${doctor.lookup.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${doctor.lookup.cache-ttl-ms:30000}")
+    private long cacheTtlMs;
+
+    @Value("${doctor.lookup.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${doctor.lookup.timeout-ms:2000}")
+    private long timeoutMs;
+
+    @Value("${threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private DoctorClient doctorClient;
+
+    private final Map<Long, CachedDoctor> cache = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private ExecutorService fetcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock
+    private Batch pending;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger threads = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "doctor-lookup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        fetcher = virtualThreads && VirtualThreads.isSupported()
+            ? VirtualThreads.newPerTaskExecutor("doctor-lookup-fetch", 2) : scheduler;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        fetcher.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Look up one doctor; joins the batch currently being collected
+     * @param id Doctor ID
+     * @return Future of the summary, completed with null if the doctor does not exist
+     */
+    public CompletableFuture<DoctorSummaryDTO> lookup(Long id) {
+        return lookup(id, currentAuthorization());
+    }
+
+    /**
+     * Look up one doctor on behalf of a caller outside the request thread
+     * @param authorization Bearer token to forward, may be null
+     */
+    public CompletableFuture<DoctorSummaryDTO> lookup(Long id, String authorization) {
+        CachedDoctor cached = cache.get(id);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return CompletableFuture.completedFuture(cached.doctor);
+        }
+        CompletableFuture<DoctorSummaryDTO> future;
+        Batch full = null;
+        lock.lock();
+        try {
+            if (pending == null) {
+                Batch batch = new Batch();
+                pending = batch;
+                scheduler.schedule(() -> flush(batch), batchWindowMs, TimeUnit.MILLISECONDS);
+            }
+            future = pending.futures.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (pending.authorization == null) {
+                pending.authorization = authorization;
+            }
+            if (pending.futures.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            Batch batch = full;
+            fetcher.execute(() -> fetch(batch));
+        }
+        return future;
+    }
+
+    /**
+     * Resolve one doctor, waiting up to the lookup timeout
+     * @param id Doctor ID
+     * @return Summary, empty if unknown or doctor-service did not answer in time
+     */
+    public Optional<DoctorSummaryDTO> getDoctor(Long id) {
+        return Optional.ofNullable(getDoctors(List.of(id)).get(id));
+    }
+
+    /**
+     * Resolve several doctors in as few calls as possible
+     * @param ids Doctor IDs
+     * @return Summaries by ID; unknown IDs and failed lookups are left out
+     */
+    public Map<Long, DoctorSummaryDTO> getDoctors(Collection<Long> ids) {
+        return getDoctors(ids, currentAuthorization());
+    }
+
+    /**
+     * Resolve several doctors on behalf of a caller outside the request thread
+     * @param authorization Bearer token to forward, may be null
+     */
+    public Map<Long, DoctorSummaryDTO> getDoctors(Collection<Long> ids, String authorization) {
+        Map<Long, CompletableFuture<DoctorSummaryDTO>> futures = new LinkedHashMap<>();
+        ids.stream().filter(Objects::nonNull).distinct().forEach(id -> futures.put(id, lookup(id, authorization)));
+        // The caller already holds every ID it needs, so waiting out the window gains nothing
+        Batch ready;
+        lock.lock();
+        try {
+            ready = pending;
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        if (ready != null) {
+            fetch(ready);
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Doctor lookup incomplete for {} ids: {}", futures.size(), e.toString());
+        }
+        Map<Long, DoctorSummaryDTO> doctors = new LinkedHashMap<>();
+        futures.forEach((id, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally() && future.join() != null) {
+                doctors.put(id, future.join());
+            }
+        });
+        return doctors;
+    }
+
+    /**
+     * Drop a cached doctor, e.g. after hearing it was updated
+     */
+    public void evict(Long id) {
+        cache.remove(id);
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private void flush(Batch batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                // Already sent because it filled up or a bulk caller took it
+                return;
+            }
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        fetcher.execute(() -> fetch(batch));
+    }
+
+    private void fetch(Batch batch) {
+        try {
+            List<DoctorSummaryDTO> doctors = doctorClient.getDoctorSummaries(batch.authorization, batch.futures.keySet());
+            Map<Long, DoctorSummaryDTO> byId = new HashMap<>();
+            doctors.forEach(doctor -> byId.put(doctor.getId(), doctor));
+            long expiresAt = System.currentTimeMillis() + cacheTtlMs;
+            makeRoom(byId.size());
+            batch.futures.forEach((id, future) -> {
+                DoctorSummaryDTO doctor = byId.get(id);
+                if (doctor != null) {
+                    cache.put(id, new CachedDoctor(doctor, expiresAt));
+                }
+                future.complete(doctor);
+            });
+            log.debug("Resolved {} doctor lookups in one batch call", batch.futures.size());
+        } catch (RuntimeException e) {
+            log.warn("Doctor batch lookup of {} ids failed: {}", batch.futures.size(), e.getMessage());
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void makeRoom(int incoming) {
+        if (cache.size() + incoming <= cacheMaxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+        if (cache.size() + incoming > cacheMaxEntries) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return Authorization header of the current HTTP request, null outside a request thread
+     */
+    public static String currentAuthorization() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+
+    /**
+     * Lookups collected during one window. Summaries are not caller specific, so the batch
+     * is sent with the first caller's token.
+     */
+    private static final class Batch {
+        private final Map<Long, CompletableFuture<DoctorSummaryDTO>> futures = new LinkedHashMap<>();
+        private String authorization;
+    }
+
+    private record CachedDoctor(DoctorSummaryDTO doctor, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthcare.client;
+
+import com.healthcare.dto.HospitalSummaryDTO;
+import com.healthcare.dto.NearbyHospitalDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * Feign client for hospital-service
+ */
+@FeignClient(name = "hospital-service", url = "${hospital.service.url}")
+public interface HospitalClient {
+
+    @GetMapping("/api/hospitals/{id}")
+    HospitalSummaryDTO getHospital(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        @PathVariable("id") Long id);
+
+    @GetMapping("/api/hospitals/nearest")
+    List<NearbyHospitalDTO> getNearestHospitals(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        @RequestParam("lat") double latitude,
+        @RequestParam("lon") double longitude,
+        @RequestParam("k") int k);
+}
@@ -0,0 +1,236 @@
+package com.healthcare.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Structured fan-out of blocking calls, in the style of StructuredTaskScope.
+ *
+ * Subtasks are forked into the scope, each with its own timeout, and never outlive it:
+ * join() returns once every subtask has succeeded, failed or timed out, and close()
+ * cancels and interrupts whatever is still running. A timed-out subtask is interrupted
+ * as soon as its timeout passes, so one slow dependency cannot hold a thread for longer.
+ */
+public class FanOutScope implements AutoCloseable {
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fan-out-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService executor;
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * @param executor Runs the subtasks; ideally one virtual thread per task
+     */
+    public FanOutScope(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Start a subtask now
+     * @param name Dependency name, used for metrics and partial-response reporting
+     * @param timeout Time allowed from start to result
+     */
+    public <T> Subtask<T> fork(String name, Duration timeout, Callable<T> task) {
+        Subtask<T> subtask = new Subtask<>(name);
+        subtasks.add(subtask);
+        start(subtask, timeout, task);
+        return subtask;
+    }
+
+    /**
+     * Start a subtask once another has succeeded; it is skipped if the other fails or times out
+     * @param timeout Time allowed from its own start, not counting the wait for upstream
+     */
+    public <U, T> Subtask<T> forkAfter(Subtask<U> upstream, String name, Duration timeout, Step<U, T> step) {
+        Subtask<T> subtask = new Subtask<>(name);
+        subtasks.add(subtask);
+        upstream.result.whenComplete((value, error) -> {
+            if (error != null) {
+                subtask.finish(State.SKIPPED, null, new CancellationException(upstream.name + " unavailable"));
+            } else {
+                start(subtask, timeout, () -> step.apply(value));
+            }
+        });
+        return subtask;
+    }
+
+    /**
+     * Wait for every subtask to finish or time out
+     * @param deadline Upper bound for the whole scope; stragglers past it are cancelled
+     */
+    public void join(Duration deadline) throws InterruptedException {
+        long end = System.nanoTime() + deadline.toNanos();
+        for (Subtask<?> subtask : subtasks) {
+            try {
+                subtask.result.get(Math.max(0, end - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | CancellationException e) {
+                // Recorded on the subtask
+            } catch (TimeoutException e) {
+                subtask.cancel();
+            }
+        }
+    }
+
+    public List<Subtask<?>> subtasks() {
+        return List.copyOf(subtasks);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subtasks.forEach(Subtask::cancel);
+    }
+
+    private <T> void start(Subtask<T> subtask, Duration timeout, Callable<T> task) {
+        if (closed) {
+            subtask.finish(State.CANCELLED, null, new CancellationException("Scope closed"));
+            return;
+        }
+        subtask.startNanos = System.nanoTime();
+        ScheduledFuture<?> timer = WATCHDOG.schedule(() -> subtask.timeOut(timeout),
+            timeout.toNanos(), TimeUnit.NANOSECONDS);
+        subtask.result.whenComplete((value, error) -> timer.cancel(false));
+        try {
+            subtask.future = executor.submit(() -> {
+                try {
+                    T value = task.call();
+                    subtask.finish(State.SUCCEEDED, value, null);
+                } catch (Exception e) {
+                    subtask.finish(State.FAILED, null, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subtask.finish(State.FAILED, null, e);
+        }
+        if (subtask.result.isDone()) {
+            // Timed out or cancelled before the future was published
+            subtask.interrupt();
+        }
+    }
+
+    /**
+     * Work that consumes an upstream result
+     */
+    @FunctionalInterface
+    public interface Step<U, T> {
+        T apply(U input) throws Exception;
+    }
+
+    public enum State {
+        RUNNING, SUCCEEDED, FAILED, TIMED_OUT, SKIPPED, CANCELLED
+    }
+
+    /**
+     * Handle to a forked call and its outcome
+     */
+    public static final class Subtask<T> {
+
+        private final String name;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile State state = State.RUNNING;
+        private volatile Future<?> future;
+        private volatile long startNanos;
+        private volatile long elapsedNanos;
+
+        private Subtask(String name) {
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public State state() {
+            return state;
+        }
+
+        public boolean succeeded() {
+            return state == State.SUCCEEDED;
+        }
+
+        /**
+         * @return The result if the subtask succeeded, otherwise the fallback
+         */
+        public T orElse(T fallback) {
+            return succeeded() ? result.join() : fallback;
+        }
+
+        /**
+         * @return The failure cause, null unless the subtask failed
+         */
+        public Throwable exception() {
+            if (state != State.FAILED) {
+                return null;
+            }
+            try {
+                result.join();
+                return null;
+            } catch (Exception e) {
+                return e.getCause() != null ? e.getCause() : e;
+            }
+        }
+
+        /**
+         * @return Time from start to outcome; zero if it never started
+         */
+        public Duration elapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        private void timeOut(Duration timeout) {
+            if (finish(State.TIMED_OUT, null, new TimeoutException(name + " timed out after " + timeout.toMillis() + " ms"))) {
+                interrupt();
+            }
+        }
+
+        private void cancel() {
+            if (finish(State.CANCELLED, null, new CancellationException(name + " cancelled"))) {
+                interrupt();
+            }
+        }
+
+        private void interrupt() {
+            Future<?> running = future;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+
+        /**
+         * Record the first outcome; later ones, e.g. a result arriving after the timeout, are ignored
+         */
+        private boolean finish(State outcome, T value, Throwable error) {
+            synchronized (this) {
+                if (state != State.RUNNING) {
+                    return false;
+                }
+                state = outcome;
+                elapsedNanos = startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+            }
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+            return true;
+        }
+    }
+}
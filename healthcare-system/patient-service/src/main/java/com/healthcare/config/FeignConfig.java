@@ -0,0 +1,31 @@
+package com.healthcare.config;
+
+import feign.RequestInterceptor;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Enables the Feign clients for the other healthcare services
+ */
+@Configuration
+@EnableFeignClients(basePackages = "com.healthcare.client")
+public class FeignConfig {
+
+    /**
+     * Ask for Smile, falling back to JSON from services without it, and for gzip; Feign's client
+     * inflates gzip responses itself and the Smile converter is picked by the response type
+     */
+    @Bean
+    public RequestInterceptor compactPayloadInterceptor() {
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT,
+                    SmileConfig.SMILE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9");
+            }
+            template.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        };
+    }
+}
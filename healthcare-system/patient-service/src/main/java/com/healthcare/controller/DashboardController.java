@@ -0,0 +1,47 @@
+package com.healthcare.controller;
+
+import com.healthcare.dto.DependencyStatsDTO;
+import com.healthcare.dto.PatientDashboardDTO;
+import com.healthcare.metrics.DependencyMetrics;
+import com.healthcare.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/patients")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private DependencyMetrics dependencyMetrics;
+
+    /**
+     * Patient home screen in one call; sections from unavailable services come back empty
+     * @param lat Patient latitude, enables nearby hospitals
+     * @param lon Patient longitude, enables nearby hospitals
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<PatientDashboardDTO> getDashboard(
+            @PathVariable Long id,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon) {
+        return ResponseEntity.ok(dashboardService.getDashboard(id, lat, lon));
+    }
+
+    /**
+     * Per-dependency latency and outcome counts for the dashboard fan-out
+     */
+    @GetMapping("/dashboard/metrics")
+    public ResponseEntity<List<DependencyStatsDTO>> getDashboardMetrics() {
+        return ResponseEntity.ok(dependencyMetrics.snapshot());
+    }
+}
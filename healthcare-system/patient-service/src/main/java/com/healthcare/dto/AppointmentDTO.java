@@ -0,0 +1,30 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appointment as returned by appointment-service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentDTO {
+
+    private Long id;
+
+    private Long doctorId;
+
+    private Long patientId;
+
+    private Long hospitalId;
+
+    private LocalDateTime appointmentDate;
+
+    private String status;
+
+    private String notes;
+}
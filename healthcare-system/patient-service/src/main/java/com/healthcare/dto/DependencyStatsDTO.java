@@ -0,0 +1,21 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DependencyStatsDTO {
+    private String dependency;
+    private long calls;
+    private long succeeded;
+    private long failed;
+    private long timedOut;
+    private long skipped;
+    private long meanMicros;
+    private long p50Micros;
+    private long p99Micros;
+    private long maxMicros;
+}
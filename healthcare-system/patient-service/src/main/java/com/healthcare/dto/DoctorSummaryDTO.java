@@ -0,0 +1,30 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Doctor summary as returned by doctor-service's batch lookup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSummaryDTO {
+
+    private Long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String specialization;
+
+    private Double rating;
+
+    private boolean available;
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,26 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Subset of hospital-service's hospital view shown to patients
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HospitalSummaryDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String address;
+
+    private String contactNumber;
+
+    private String emergencyContact;
+
+    private String operatingHours;
+}
@@ -0,0 +1,18 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hospital with its distance from the patient, as returned by hospital-service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyHospitalDTO {
+
+    private HospitalSummaryDTO hospital;
+
+    private double distanceKm;
+}
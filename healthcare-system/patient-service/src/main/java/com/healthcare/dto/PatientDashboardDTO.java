@@ -0,0 +1,27 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the patient home screen shows, assembled from several services.
+ * Sections whose service failed or timed out are empty and listed in unavailable.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientDashboardDTO {
+
+    private List<UpcomingAppointmentDTO> upcomingAppointments;
+
+    private List<NearbyHospitalDTO> nearbyHospitals;
+
+    private boolean partial;
+
+    // Dependency name -> outcome, e.g. "doctors" -> "TIMED_OUT"
+    private Map<String, String> unavailable;
+}
@@ -0,0 +1,34 @@
+package com.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Upcoming appointment with the doctor and hospital resolved, for the patient dashboard
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpcomingAppointmentDTO {
+
+    private Long id;
+
+    private LocalDateTime appointmentDate;
+
+    private String status;
+
+    private String notes;
+
+    private Long doctorId;
+
+    // Null when doctor-service did not answer in time
+    private DoctorSummaryDTO doctor;
+
+    private Long hospitalId;
+
+    // Null when hospital-service did not answer in time
+    private HospitalSummaryDTO hospital;
+}
@@ -0,0 +1,68 @@
+package com.healthcare.metrics;
+
+import com.healthcare.concurrent.FanOutScope;
+import com.healthcare.dto.DependencyStatsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Latency and outcome counts per downstream dependency of the patient dashboard
+ */
+@Component
+public class DependencyMetrics {
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Record the outcome of a finished fan-out subtask
+     */
+    public void record(FanOutScope.Subtask<?> subtask) {
+        Stats dependency = stats.computeIfAbsent(subtask.name(), name -> new Stats());
+        switch (subtask.state()) {
+            case SUCCEEDED -> dependency.succeeded.increment();
+            case TIMED_OUT -> dependency.timedOut.increment();
+            case SKIPPED -> {
+                // Never started, so there is no latency to record
+                dependency.skipped.increment();
+                return;
+            }
+            default -> dependency.failed.increment();
+        }
+        dependency.latency.record(subtask.elapsed().toNanos());
+    }
+
+    /**
+     * Record the latency of a whole aggregated call, e.g. the dashboard itself
+     */
+    public void record(String name, long nanos) {
+        Stats total = stats.computeIfAbsent(name, key -> new Stats());
+        total.succeeded.increment();
+        total.latency.record(nanos);
+    }
+
+    public List<DependencyStatsDTO> snapshot() {
+        return stats.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> entry.getValue().toDTO(entry.getKey()))
+            .collect(Collectors.toList());
+    }
+
+    private static final class Stats {
+        private final LatencyRecorder latency = new LatencyRecorder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private DependencyStatsDTO toDTO(String name) {
+            return new DependencyStatsDTO(name, latency.count() + skipped.sum(), succeeded.sum(), failed.sum(),
+                timedOut.sum(), skipped.sum(), latency.meanMicros(), latency.percentileMicros(0.5),
+                latency.percentileMicros(0.99), latency.maxMicros());
+        }
+    }
+}
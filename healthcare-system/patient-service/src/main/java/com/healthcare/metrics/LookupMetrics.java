@@ -0,0 +1,25 @@
+package com.healthcare.metrics;
+
+import com.healthcare.client.DoctorLookupClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the size of the doctor lookup cache
+ */
+@Component
+public class LookupMetrics implements MeterBinder {
+
+    @Autowired
+    private DoctorLookupClient doctorLookupClient;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.size", doctorLookupClient, DoctorLookupClient::cacheSize)
+            .tag("cache", "doctor-lookups")
+            .register(registry);
+    }
+}
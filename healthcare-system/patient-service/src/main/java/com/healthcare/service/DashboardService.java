@@ -0,0 +1,203 @@
+package com.healthcare.service;
+
+import com.healthcare.client.AppointmentClient;
+import com.healthcare.client.DoctorLookupClient;
+import com.healthcare.client.HospitalClient;
+import com.healthcare.concurrent.FanOutScope;
+import com.healthcare.concurrent.VirtualThreads;
+import com.healthcare.dto.AppointmentDTO;
+import com.healthcare.dto.DoctorSummaryDTO;
+import com.healthcare.dto.HospitalSummaryDTO;
+import com.healthcare.dto.NearbyHospitalDTO;
+import com.healthcare.dto.PatientDashboardDTO;
+import com.healthcare.dto.UpcomingAppointmentDTO;
+import com.healthcare.metrics.DependencyMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Service class assembling the patient dashboard
+ * Fans out to appointment-service, doctor-service and hospital-service concurrently, so the
+ * response takes about as long as the slowest call instead of their sum. Once the appointments
+ * are in, their doctors and hospitals are resolved side by side. This service keeps
+ * no patient records of its own, so the dashboard carries no profile section.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    public static final String APPOINTMENTS = "appointments";
+    public static final String DOCTORS = "doctors";
+    public static final String HOSPITALS = "hospitals";
+    public static final String APPOINTMENT_HOSPITALS = "appointmentHospitals";
+    public static final String DASHBOARD = "dashboard";
+
+    private static final Set<String> UPCOMING_STATUSES = Set.of("PENDING", "CONFIRMED");
+
+    @Value("${dashboard.timeout.appointments-ms:800}")
+    private long appointmentsTimeoutMs;
+
+    @Value("${dashboard.timeout.doctors-ms:500}")
+    private long doctorsTimeoutMs;
+
+    @Value("${dashboard.timeout.hospitals-ms:800}")
+    private long hospitalsTimeoutMs;
+
+    @Value("${dashboard.deadline-ms:1500}")
+    private long deadlineMs;
+
+    @Value("${dashboard.max-appointments:10}")
+    private int maxAppointments;
+
+    @Value("${dashboard.nearby-hospitals:3}")
+    private int nearbyHospitals;
+
+    @Value("${dashboard.max-platform-threads:64}")
+    private int maxPlatformThreads;
+
+    @Autowired
+    private AppointmentClient appointmentClient;
+
+    @Autowired
+    private DoctorLookupClient doctorLookupClient;
+
+    @Autowired
+    private HospitalClient hospitalClient;
+
+    @Autowired
+    private DependencyMetrics dependencyMetrics;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    protected void init() {
+        executor = VirtualThreads.newPerTaskExecutor("dashboard", maxPlatformThreads);
+        log.info("Dashboard fan-out on {} threads", VirtualThreads.isSupported() ? "virtual" : "platform");
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Build the dashboard for a patient
+     * @param patientId Patient ID
+     * @param latitude Patient location for nearby hospitals, optional
+     * @param longitude Patient location for nearby hospitals, optional
+     * @return Dashboard, flagged partial when a downstream service failed or timed out
+     */
+    public PatientDashboardDTO getDashboard(Long patientId, Double latitude, Double longitude) {
+        long start = System.nanoTime();
+        // Forked calls run off the request thread, so capture the caller's token here
+        String authorization = DoctorLookupClient.currentAuthorization();
+        List<FanOutScope.Subtask<?>> forked;
+        PatientDashboardDTO dashboard;
+
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<List<AppointmentDTO>> appointments = scope.fork(APPOINTMENTS,
+                Duration.ofMillis(appointmentsTimeoutMs),
+                () -> upcoming(appointmentClient.getPatientAppointments(authorization, patientId)));
+            FanOutScope.Subtask<Map<Long, DoctorSummaryDTO>> doctors = scope.forkAfter(appointments, DOCTORS,
+                Duration.ofMillis(doctorsTimeoutMs),
+                list -> doctorLookupClient.getDoctors(
+                    list.stream().map(AppointmentDTO::getDoctorId).collect(Collectors.toList()), authorization));
+            FanOutScope.Subtask<Map<Long, HospitalSummaryDTO>> appointmentHospitals = scope.forkAfter(appointments,
+                APPOINTMENT_HOSPITALS, Duration.ofMillis(hospitalsTimeoutMs),
+                list -> getHospitals(list, authorization));
+            FanOutScope.Subtask<List<NearbyHospitalDTO>> hospitals = latitude == null || longitude == null ? null
+                : scope.fork(HOSPITALS, Duration.ofMillis(hospitalsTimeoutMs),
+                    () -> hospitalClient.getNearestHospitals(authorization, latitude, longitude, nearbyHospitals));
+
+            scope.join(Duration.ofMillis(deadlineMs));
+            dashboard = assemble(appointments, doctors, appointmentHospitals, hospitals);
+            forked = scope.subtasks();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dashboard request interrupted", e);
+        }
+
+        forked.forEach(dependencyMetrics::record);
+        dependencyMetrics.record(DASHBOARD, System.nanoTime() - start);
+        if (dashboard.isPartial()) {
+            log.warn("Partial dashboard for patient {}: {}", patientId, dashboard.getUnavailable());
+        }
+        return dashboard;
+    }
+
+    private PatientDashboardDTO assemble(FanOutScope.Subtask<List<AppointmentDTO>> appointments,
+                                         FanOutScope.Subtask<Map<Long, DoctorSummaryDTO>> doctors,
+                                         FanOutScope.Subtask<Map<Long, HospitalSummaryDTO>> appointmentHospitals,
+                                         FanOutScope.Subtask<List<NearbyHospitalDTO>> hospitals) {
+        Map<String, String> unavailable = new LinkedHashMap<>();
+        for (FanOutScope.Subtask<?> subtask : List.of(appointments, doctors, appointmentHospitals)) {
+            if (!subtask.succeeded()) {
+                unavailable.put(subtask.name(), subtask.state().name());
+            }
+        }
+        if (hospitals != null && !hospitals.succeeded()) {
+            unavailable.put(hospitals.name(), hospitals.state().name());
+        }
+
+        Map<Long, DoctorSummaryDTO> doctorsById = doctors.orElse(Map.of());
+        Map<Long, HospitalSummaryDTO> hospitalsById = appointmentHospitals.orElse(Map.of());
+        List<UpcomingAppointmentDTO> upcoming = appointments.orElse(List.of()).stream()
+            .map(appointment -> new UpcomingAppointmentDTO(appointment.getId(), appointment.getAppointmentDate(),
+                appointment.getStatus(), appointment.getNotes(), appointment.getDoctorId(),
+                doctorsById.get(appointment.getDoctorId()), appointment.getHospitalId(),
+                hospitalsById.get(appointment.getHospitalId())))
+            .collect(Collectors.toList());
+        List<NearbyHospitalDTO> nearby = hospitals == null ? List.of() : hospitals.orElse(List.of());
+
+        return new PatientDashboardDTO(upcoming, nearby, !unavailable.isEmpty(), unavailable);
+    }
+
+    /**
+     * Resolve the distinct hospitals of the appointments, one concurrent call each
+     * @return Summaries by ID; hospitals that failed or timed out are left out
+     */
+    private Map<Long, HospitalSummaryDTO> getHospitals(List<AppointmentDTO> appointments, String authorization)
+            throws InterruptedException {
+        Map<Long, FanOutScope.Subtask<HospitalSummaryDTO>> lookups = new LinkedHashMap<>();
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            appointments.stream().map(AppointmentDTO::getHospitalId).filter(Objects::nonNull).distinct()
+                .forEach(id -> lookups.put(id, scope.fork(HOSPITALS, Duration.ofMillis(hospitalsTimeoutMs),
+                    () -> hospitalClient.getHospital(authorization, id))));
+            scope.join(Duration.ofMillis(hospitalsTimeoutMs));
+        }
+        Map<Long, HospitalSummaryDTO> hospitals = new LinkedHashMap<>();
+        lookups.forEach((id, lookup) -> {
+            HospitalSummaryDTO hospital = lookup.orElse(null);
+            if (hospital != null) {
+                hospitals.put(id, hospital);
+            }
+        });
+        return hospitals;
+    }
+
+    private List<AppointmentDTO> upcoming(List<AppointmentDTO> appointments) {
+        LocalDateTime now = LocalDateTime.now();
+        return appointments.stream()
+            .filter(appointment -> appointment.getAppointmentDate() != null
+                && appointment.getAppointmentDate().isAfter(now)
+                && UPCOMING_STATUSES.contains(appointment.getStatus()))
+            .sorted(Comparator.comparing(AppointmentDTO::getAppointmentDate))
+            .limit(maxAppointments)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.healthcare.client;
+
+import com.healthcare.dto.DoctorSummaryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DoctorLookupClient
+ */
+@ExtendWith(MockitoExtension.class)
+public class DoctorLookupClientTest {
+
+    @Mock
+    private DoctorClient doctorClient;
+
+    @InjectMocks
+    private DoctorLookupClient doctorLookupClient;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(doctorLookupClient, "batchWindowMs", 20L);
+        ReflectionTestUtils.setField(doctorLookupClient, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(doctorLookupClient, "cacheTtlMs", 30_000L);
+        ReflectionTestUtils.setField(doctorLookupClient, "cacheMaxEntries", 1000);
+        ReflectionTestUtils.setField(doctorLookupClient, "timeoutMs", 2000L);
+        doctorLookupClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        doctorLookupClient.shutdown();
+    }
+
+    @Test
+    void lookup_ConcurrentSingleIds_CoalescedIntoOneBatchCall() {
+        // Arrange
+        when(doctorClient.getDoctorSummaries(any(), anyCollection())).thenAnswer(invocation ->
+            summaries(invocation.getArgument(1)));
+
+        // Act
+        List<CompletableFuture<DoctorSummaryDTO>> futures = List.of(
+            doctorLookupClient.lookup(1L), doctorLookupClient.lookup(2L),
+            doctorLookupClient.lookup(3L), doctorLookupClient.lookup(2L));
+        List<String> names = futures.stream().map(CompletableFuture::join)
+            .map(DoctorSummaryDTO::getLastName).collect(Collectors.toList());
+
+        // Assert
+        assertEquals(List.of("Doctor1", "Doctor2", "Doctor3", "Doctor2"), names);
+        verify(doctorClient, times(1)).getDoctorSummaries(any(), argThat(ids -> ids.size() == 3));
+    }
+
+    @Test
+    void getDoctors_RepeatedWithinTtl_ServedFromCache() {
+        // Arrange
+        when(doctorClient.getDoctorSummaries(any(), anyCollection())).thenAnswer(invocation ->
+            summaries(invocation.getArgument(1)));
+
+        // Act
+        Map<Long, DoctorSummaryDTO> first = doctorLookupClient.getDoctors(List.of(1L, 2L));
+        Optional<DoctorSummaryDTO> second = doctorLookupClient.getDoctor(2L);
+
+        // Assert
+        assertEquals(2, first.size());
+        assertTrue(second.isPresent());
+        verify(doctorClient, times(1)).getDoctorSummaries(any(), anyCollection());
+    }
+
+    @Test
+    void getDoctors_DoctorServiceDown_ReturnsEmptyMap() {
+        // Arrange
+        when(doctorClient.getDoctorSummaries(any(), anyCollection())).thenThrow(new RuntimeException("connection refused"));
+
+        // Act
+        Map<Long, DoctorSummaryDTO> doctors = doctorLookupClient.getDoctors(List.of(1L, 2L));
+
+        // Assert
+        assertTrue(doctors.isEmpty());
+    }
+
+    private static List<DoctorSummaryDTO> summaries(Collection<Long> ids) {
+        return ids.stream()
+            .map(id -> new DoctorSummaryDTO(id, "Dr", "Doctor" + id, "Cardiology", 4.5, true))
+            .collect(Collectors.toList());
+    }
+}
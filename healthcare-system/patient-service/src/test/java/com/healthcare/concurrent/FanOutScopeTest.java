@@ -0,0 +1,113 @@
+package com.healthcare.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FanOutScope
+ */
+public class FanOutScopeTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = VirtualThreads.newPerTaskExecutor("test", 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void join_IndependentCalls_TakesAboutTheSlowestNotTheSum() throws InterruptedException {
+        // Arrange
+        long start = System.nanoTime();
+
+        // Act
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> first = scope.fork("first", Duration.ofSeconds(1), () -> sleep(200, "a"));
+            FanOutScope.Subtask<String> second = scope.fork("second", Duration.ofSeconds(1), () -> sleep(200, "b"));
+            FanOutScope.Subtask<String> third = scope.fork("third", Duration.ofSeconds(1), () -> sleep(200, "c"));
+            scope.join(Duration.ofSeconds(2));
+
+            // Assert
+            assertEquals("abc", first.orElse("") + second.orElse("") + third.orElse(""));
+        }
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 500);
+    }
+
+    @Test
+    void join_SlowDependency_TimesOutAndIsInterrupted() throws InterruptedException {
+        // Arrange
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // Act
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> fast = scope.fork("fast", Duration.ofSeconds(1), () -> "ok");
+            FanOutScope.Subtask<String> slow = scope.fork("slow", Duration.ofMillis(100), () -> {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return "late";
+            });
+            scope.join(Duration.ofSeconds(2));
+
+            // Assert
+            assertEquals("ok", fast.orElse(null));
+            assertEquals(FanOutScope.State.TIMED_OUT, slow.state());
+            assertNull(slow.orElse(null));
+            assertTrue(slow.elapsed().toMillis() < 1000);
+        }
+        Thread.sleep(100);
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void forkAfter_UpstreamFails_DependentIsSkipped() throws InterruptedException {
+        // Act
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<Integer> upstream = scope.fork("upstream", Duration.ofSeconds(1), () -> {
+                throw new IllegalStateException("down");
+            });
+            FanOutScope.Subtask<Integer> dependent = scope.forkAfter(upstream, "dependent", Duration.ofSeconds(1),
+                value -> value + 1);
+            scope.join(Duration.ofSeconds(2));
+
+            // Assert
+            assertEquals(FanOutScope.State.FAILED, upstream.state());
+            assertInstanceOf(IllegalStateException.class, upstream.exception());
+            assertEquals(FanOutScope.State.SKIPPED, dependent.state());
+        }
+    }
+
+    @Test
+    void forkAfter_UpstreamSucceeds_ReceivesItsResult() throws InterruptedException {
+        // Act
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<Integer> upstream = scope.fork("upstream", Duration.ofSeconds(1), () -> sleep(50, 41));
+            FanOutScope.Subtask<Integer> dependent = scope.forkAfter(upstream, "dependent", Duration.ofSeconds(1),
+                value -> value + 1);
+            scope.join(Duration.ofSeconds(2));
+
+            // Assert
+            assertEquals(42, dependent.orElse(0));
+        }
+    }
+
+    private static <T> T sleep(long millis, T value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -0,0 +1,144 @@
+package com.healthcare.service;
+
+import com.healthcare.client.AppointmentClient;
+import com.healthcare.client.DoctorLookupClient;
+import com.healthcare.client.HospitalClient;
+import com.healthcare.dto.AppointmentDTO;
+import com.healthcare.dto.DoctorSummaryDTO;
+import com.healthcare.dto.HospitalSummaryDTO;
+import com.healthcare.dto.PatientDashboardDTO;
+import com.healthcare.dto.UpcomingAppointmentDTO;
+import com.healthcare.metrics.DependencyMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DashboardService
+ */
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private AppointmentClient appointmentClient;
+
+    @Mock
+    private DoctorLookupClient doctorLookupClient;
+
+    @Mock
+    private HospitalClient hospitalClient;
+
+    @Mock
+    private DependencyMetrics dependencyMetrics;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardService, "appointmentsTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(dashboardService, "doctorsTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(dashboardService, "hospitalsTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(dashboardService, "deadlineMs", 2000L);
+        ReflectionTestUtils.setField(dashboardService, "maxAppointments", 10);
+        ReflectionTestUtils.setField(dashboardService, "maxPlatformThreads", 16);
+        dashboardService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void getDashboard_Appointments_ResolvesEachHospitalOnce() {
+        // Arrange
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        when(appointmentClient.getPatientAppointments(any(), eq(1L))).thenReturn(List.of(
+            new AppointmentDTO(10L, 100L, 1L, 5L, tomorrow, "CONFIRMED", null),
+            new AppointmentDTO(11L, 101L, 1L, 5L, tomorrow.plusHours(1), "PENDING", null),
+            new AppointmentDTO(12L, 100L, 1L, 6L, tomorrow.plusHours(2), "CONFIRMED", null)));
+        when(doctorLookupClient.getDoctors(anyList(), any())).thenReturn(Map.of());
+        when(hospitalClient.getHospital(any(), eq(5L))).thenReturn(hospital(5L));
+        when(hospitalClient.getHospital(any(), eq(6L))).thenReturn(hospital(6L));
+
+        // Act
+        PatientDashboardDTO dashboard = dashboardService.getDashboard(1L, null, null);
+
+        // Assert
+        assertFalse(dashboard.isPartial());
+        List<UpcomingAppointmentDTO> upcoming = dashboard.getUpcomingAppointments();
+        assertEquals(List.of(5L, 5L, 6L), upcoming.stream().map(UpcomingAppointmentDTO::getHospitalId).toList());
+        assertEquals(List.of("Hospital 5", "Hospital 5", "Hospital 6"),
+            upcoming.stream().map(appointment -> appointment.getHospital().getName()).toList());
+        verify(hospitalClient, times(1)).getHospital(any(), eq(5L));
+        verify(hospitalClient, times(1)).getHospital(any(), eq(6L));
+    }
+
+    @Test
+    void getDashboard_SlowDoctorLookup_ResolvesHospitalsAlongsideIt() {
+        // Arrange
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        CountDownLatch hospitalRequested = new CountDownLatch(1);
+        when(appointmentClient.getPatientAppointments(any(), eq(1L))).thenReturn(List.of(
+            new AppointmentDTO(10L, 100L, 1L, 5L, tomorrow, "CONFIRMED", null)));
+        // The doctor lookup only returns once the hospital lookup has started
+        when(doctorLookupClient.getDoctors(anyList(), any())).thenAnswer(invocation -> {
+            assertTrue(hospitalRequested.await(1, TimeUnit.SECONDS));
+            return Map.of(100L, new DoctorSummaryDTO());
+        });
+        when(hospitalClient.getHospital(any(), eq(5L))).thenAnswer(invocation -> {
+            hospitalRequested.countDown();
+            return hospital(5L);
+        });
+
+        // Act
+        PatientDashboardDTO dashboard = dashboardService.getDashboard(1L, null, null);
+
+        // Assert
+        assertFalse(dashboard.isPartial());
+        UpcomingAppointmentDTO appointment = dashboard.getUpcomingAppointments().get(0);
+        assertNotNull(appointment.getDoctor());
+        assertEquals("Hospital 5", appointment.getHospital().getName());
+    }
+
+    @Test
+    void getDashboard_HospitalLookupFails_LeavesHospitalOut() {
+        // Arrange
+        when(appointmentClient.getPatientAppointments(any(), eq(1L))).thenReturn(List.of(
+            new AppointmentDTO(10L, 100L, 1L, 5L, LocalDateTime.now().plusDays(1), "CONFIRMED", null)));
+        when(doctorLookupClient.getDoctors(anyList(), any())).thenReturn(Map.of());
+        when(hospitalClient.getHospital(any(), eq(5L))).thenThrow(new IllegalStateException("hospital-service down"));
+
+        // Act
+        PatientDashboardDTO dashboard = dashboardService.getDashboard(1L, null, null);
+
+        // Assert
+        UpcomingAppointmentDTO appointment = dashboard.getUpcomingAppointments().get(0);
+        assertEquals(5L, appointment.getHospitalId());
+        assertNull(appointment.getHospital());
+    }
+
+    private static HospitalSummaryDTO hospital(Long id) {
+        return new HospitalSummaryDTO(id, "Hospital " + id, null, null, null, null);
+    }
+}
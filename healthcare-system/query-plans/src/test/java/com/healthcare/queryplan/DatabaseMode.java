@@ -0,0 +1,46 @@
+package com.healthcare.queryplan;
+
+/**
+ * H2 as the tests and load-test harness run it, and H2 emulating MySQL with the production
+ * migrations and dialect. H2 reports MySQL ENUM columns as OTHER, so entities are only
+ * validated against the H2 schema.
+ */
+enum DatabaseMode {
+
+    H2("h2", "", "org.hibernate.dialect.H2Dialect", "validate"),
+    MYSQL("mysql", ";MODE=MySQL;DATABASE_TO_LOWER=TRUE", "org.hibernate.dialect.MySQLDialect", "none");
+
+    private final String vendor;
+    private final String urlOptions;
+    private final String dialect;
+    private final String schemaAction;
+
+    DatabaseMode(String vendor, String urlOptions, String dialect, String schemaAction) {
+        this.vendor = vendor;
+        this.urlOptions = urlOptions;
+        this.dialect = dialect;
+        this.schemaAction = schemaAction;
+    }
+
+    /**
+     * @return Flyway vendor directory under db/migration
+     */
+    String getVendor() {
+        return vendor;
+    }
+
+    String getUrlOptions() {
+        return urlOptions;
+    }
+
+    String getDialect() {
+        return dialect;
+    }
+
+    /**
+     * @return hibernate.hbm2ddl.auto for this mode
+     */
+    String getSchemaAction() {
+        return schemaAction;
+    }
+}
@@ -0,0 +1,165 @@
+package com.healthcare.queryplan;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EXPLAINs every query method of every repository on each service's migrated schema, on plain H2
+ * and on H2 in MySQL mode, and fails when a query reads a whole table without being listed below.
+ */
+public class QueryPlanTest {
+
+    /**
+     * Queries that read whole tables by design: index rebuilds, startup migrations and admin
+     * listings that run rarely and return most rows anyway
+     */
+    private static final Set<String> FULL_SCANS_ALLOWED = Set.of(
+        "DoctorRepository.findTopRatedDoctors",
+        "HospitalRepository.findByIsActiveTrue",
+        "HospitalRepository.findAllSpecializationTagPairs",
+        "HospitalRepository.findUntaggedWithSpecializations",
+        "HospitalRepository.findActiveOperatingHours",
+        "HospitalRepository.findActiveSearchText",
+        "HospitalRepository.findActiveCoordinates",
+        "HospitalRepository.findAllIds",
+        "DepartmentRepository.findAllSpecializationTagPairs",
+        "DepartmentRepository.findUntaggedWithSpecializations",
+        "DepartmentRepository.findActiveSearchText",
+        "DepartmentRepository.findByHeadDoctor",
+        "AdminRepository.findByIsActiveTrue",
+        "AdminRepository.findByRole",
+        "AdminRepository.findByDepartment",
+        "AdminRepository.findUsernamesWithTokenVersion");
+
+    private static final LocalDateTime SAMPLE_TIME = LocalDateTime.of(2024, 1, 8, 9, 0);
+
+    private static final Map<DatabaseMode, Map<ServiceSchema, ServiceDatabase>> DATABASES = new EnumMap<>(DatabaseMode.class);
+
+    @AfterAll
+    static void closeDatabases() {
+        DATABASES.values().forEach(databases -> databases.values().forEach(ServiceDatabase::close));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServiceSchema.class)
+    void migrate_H2_MatchesEntities(ServiceSchema service) {
+        // Act & Assert: ddl-auto=validate fails on a missing table or column
+        assertNotNull(database(service, DatabaseMode.H2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ServiceSchema.class)
+    void migrate_MySqlMode_Applies(ServiceSchema service) {
+        // Act & Assert: the production scripts run in MySQL syntax
+        assertNotNull(database(service, DatabaseMode.MYSQL));
+    }
+
+    @ParameterizedTest(name = "{0} {2}")
+    @MethodSource("queries")
+    void explain_RepositoryQuery_UsesIndex(DatabaseMode mode, ServiceSchema service, String query, Method method)
+            throws Exception {
+        // Arrange
+        ServiceDatabase database = database(service, mode);
+        Object repository = database.repository(method.getDeclaringClass());
+        Object[] arguments = Arrays.stream(method.getGenericParameterTypes())
+            .map(type -> sample(type))
+            .toArray();
+
+        // Act
+        List<String> statements = database.capture(entityManager -> invoke(method, repository, arguments));
+
+        // Assert
+        assertFalse(statements.isEmpty(), query + " ran no statement");
+        for (String sql : statements) {
+            String plan = database.explain(sql);
+            if (!FULL_SCANS_ALLOWED.contains(query)) {
+                assertFalse(plan.contains(".tableScan"), query + " scans a whole table on " + mode + ":\n" + plan);
+            }
+        }
+    }
+
+    static Stream<Arguments> queries() {
+        return Arrays.stream(DatabaseMode.values()).flatMap(mode -> Arrays.stream(ServiceSchema.values())
+            .flatMap(service -> service.getRepositories().stream())
+            .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                    && !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing(Method::getName)))
+            .map(method -> Arguments.of(mode, serviceOf(method),
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(), method)));
+    }
+
+    private static synchronized ServiceDatabase database(ServiceSchema service, DatabaseMode mode) {
+        return DATABASES.computeIfAbsent(mode, key -> new EnumMap<>(ServiceSchema.class))
+            .computeIfAbsent(service, key -> new ServiceDatabase(service, mode));
+    }
+
+    private static ServiceSchema serviceOf(Method method) {
+        return Arrays.stream(ServiceSchema.values())
+            .filter(service -> service.getRepositories().contains(method.getDeclaringClass()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static void invoke(Method method, Object repository, Object[] arguments) {
+        try {
+            method.invoke(repository, arguments);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(method.getName() + " failed", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object sample(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+            Object element = sample(parameterized.getActualTypeArguments()[0]);
+            return List.of(element, element);
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == Long.class || raw == long.class) {
+            return 1L;
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return 10;
+        }
+        if (raw == Double.class || raw == double.class) {
+            return 4.0;
+        }
+        if (raw == String.class) {
+            return "sample";
+        }
+        if (raw == LocalDateTime.class) {
+            return SAMPLE_TIME;
+        }
+        if (raw == LocalTime.class) {
+            return SAMPLE_TIME.toLocalTime();
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("No sample value for " + type);
+    }
+}
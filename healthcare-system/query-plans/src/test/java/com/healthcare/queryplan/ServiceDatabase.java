@@ -0,0 +1,124 @@
+package com.healthcare.queryplan;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One service's database on in-memory H2, migrated with that service's own Flyway scripts and,
+ * in plain H2 mode, checked against its entities with ddl-auto=validate. Repositories run against it with every
+ * statement Hibernate prepares recorded, so the statements can be EXPLAINed afterwards.
+ */
+final class ServiceDatabase implements AutoCloseable {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private final JdbcDataSource dataSource = new JdbcDataSource();
+    private final List<String> statements = new ArrayList<>();
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    ServiceDatabase(ServiceSchema service, DatabaseMode mode) {
+        dataSource.setURL("jdbc:h2:mem:plans-" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1" + mode.getUrlOptions());
+        dataSource.setUser("sa");
+
+        Path migrations = Path.of(System.getProperty("services.dir", ".."))
+            .resolve(service.getDirectory()).resolve("src/main/resources/db/migration").resolve(mode.getVendor());
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("filesystem:" + migrations.toAbsolutePath())
+            .load()
+            .migrate();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", mode.getSchemaAction());
+        properties.put("hibernate.dialect", mode.getDialect());
+        // Spring Boot's naming, so columns resolve as they do in the services
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        properties.put("hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+            statements.add(sql);
+            return sql;
+        });
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setManagedTypes(PersistenceManagedTypes.of(
+            service.getEntities().stream().map(Class::getName).toList(), List.of()));
+        factory.setJpaPropertyMap(properties);
+        factory.setPersistenceUnitName(service.getDirectory() + "-" + mode.getVendor());
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+    }
+
+    <T> T repository(Class<T> type) {
+        return repositoryFactory.getRepository(type);
+    }
+
+    /**
+     * Run a repository call in a transaction that is rolled back
+     * @return Statements Hibernate prepared for the call
+     */
+    List<String> capture(Consumer<EntityManager> call) {
+        statements.clear();
+        entityManager.getTransaction().begin();
+        try {
+            call.accept(entityManager);
+            entityManager.flush();
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.clear();
+        }
+        return List.copyOf(statements);
+    }
+
+    /**
+     * @return H2's plan for a statement; parameters stay unbound, which H2 allows for EXPLAIN
+     */
+    String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet plan = explain.executeQuery()) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+
+    @Override
+    public void close() {
+        entityManager.close();
+        entityManagerFactory.close();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("SHUTDOWN");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.healthcare.queryplan;
+
+import com.healthcare.model.Admin;
+import com.healthcare.model.Appointment;
+import com.healthcare.model.Availability;
+import com.healthcare.model.Department;
+import com.healthcare.model.Doctor;
+import com.healthcare.model.Hospital;
+import com.healthcare.repository.AdminRepository;
+import com.healthcare.repository.AppointmentRepository;
+import com.healthcare.repository.AvailabilityRepository;
+import com.healthcare.repository.DepartmentRepository;
+import com.healthcare.repository.DoctorRepository;
+import com.healthcare.repository.HospitalRepository;
+
+import java.util.List;
+
+/**
+ * The entities and repositories of each service that owns a database
+ */
+enum ServiceSchema {
+
+    DOCTOR("doctor-service",
+        List.of(Doctor.class, Availability.class),
+        List.of(DoctorRepository.class, AvailabilityRepository.class)),
+    APPOINTMENT("appointment-service",
+        List.of(Appointment.class),
+        List.of(AppointmentRepository.class)),
+    HOSPITAL("hospital-service",
+        List.of(Hospital.class, Department.class, Admin.class),
+        List.of(HospitalRepository.class, DepartmentRepository.class, AdminRepository.class));
+
+    private final String directory;
+    private final List<Class<?>> entities;
+    private final List<Class<?>> repositories;
+
+    ServiceSchema(String directory, List<Class<?>> entities, List<Class<?>> repositories) {
+        this.directory = directory;
+        this.entities = entities;
+        this.repositories = repositories;
+    }
+
+    String getDirectory() {
+        return directory;
+    }
+
+    List<Class<?>> getEntities() {
+        return entities;
+    }
+
+    List<Class<?>> getRepositories() {
+        return repositories;
+    }
+}